@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+
+/**
+ * Turns off auto read of a channel for as long as any of the parts of the server that asked to pause its reads still
+ * wants them paused.  Each one pauses and resumes reads for its own {@link Reason}, so that resuming for one reason
+ * doesn't start reading again while another still holds reads off.
+ * <p>
+ * Must be called on the event loop of the channel.
+ */
+public final class ChannelReadPauses {
+
+    private static final AttributeKey<Integer> ATTR_PAUSES = AttributeKey.newInstance("_read_pauses");
+
+    public enum Reason {
+        /** The request body is buffered faster than the inbound filters or proxy endpoint can pass it on. */
+        REQUEST_BODY_BUFFERED,
+        /** The origin channel the request body is written to isn't writable. */
+        ORIGIN_NOT_WRITABLE;
+
+        private final int bit = 1 << ordinal();
+    }
+
+    private ChannelReadPauses() {}
+
+    /**
+     * Stops reading from the channel, if it isn't paused already, until reads are resumed for every reason they were
+     * paused for.
+     */
+    public static void pause(Channel channel, Reason reason) {
+        Attribute<Integer> attr = channel.attr(ATTR_PAUSES);
+        int pauses = pausesOf(attr);
+        attr.set(pauses | reason.bit);
+        if (pauses == 0) {
+            channel.config().setAutoRead(false);
+        }
+    }
+
+    /**
+     * Drops the given reason for pausing reads, and starts reading from the channel again if no other reason is left.
+     */
+    public static void resume(Channel channel, Reason reason) {
+        Attribute<Integer> attr = channel.attr(ATTR_PAUSES);
+        int pauses = pausesOf(attr);
+        if ((pauses & reason.bit) == 0) {
+            return;
+        }
+        pauses &= ~reason.bit;
+        attr.set(pauses == 0 ? null : pauses);
+        if (pauses == 0) {
+            channel.config().setAutoRead(true);
+        }
+    }
+
+    public static boolean isPaused(Channel channel, Reason reason) {
+        return (pausesOf(channel.attr(ATTR_PAUSES)) & reason.bit) != 0;
+    }
+
+    private static int pausesOf(Attribute<Integer> attr) {
+        Integer pauses = attr.get();
+        return pauses == null ? 0 : pauses;
+    }
+}
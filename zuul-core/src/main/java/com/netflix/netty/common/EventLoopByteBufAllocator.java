@@ -0,0 +1,224 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+import com.netflix.netty.common.channel.config.ChannelConfig;
+import com.netflix.netty.common.channel.config.CommonChannelConfigKeys;
+import com.netflix.netty.common.metrics.ByteBufAllocatorMetrics;
+import com.netflix.netty.common.metrics.EventLoopGroupMetrics;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.Spectator;
+import com.netflix.spectator.api.patterns.PolledMeter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.FastThreadLocalThread;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pooled allocator with one arena per event loop, sized from the {@link ChannelConfig} of a listener, see
+ * {@link CommonChannelConfigKeys#allocatorPerEventLoop}.  Netty's default allocator sizes its arenas for the number of
+ * cores and the max direct memory, so event loops contend for arenas, and chunks may not fit the instance type.
+ * <p>
+ * There is one of these per event loop group, shared by every listener on the group and by the origin connections
+ * made from its event loops, and sized by the first listener that asked for it.
+ * <p>
+ * Besides the {@link ByteBufAllocatorMetrics} of its arenas, it counts the direct buffers allocated on each event
+ * loop in {@code zuul.nettybuffermem.eventloop.allocations}.  From those and the allocations of the arena the event
+ * loop is bound to, it reports the share its thread cache served in {@code zuul.nettybuffermem.eventloop.cacheHitRate},
+ * which is exact as long as no other thread uses the arena, as having as many arenas as event loops is meant to ensure.
+ */
+public final class EventLoopByteBufAllocator extends PooledByteBufAllocator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventLoopByteBufAllocator.class);
+
+    private static final Map<EventLoopGroup, EventLoopByteBufAllocator> BY_EVENT_LOOP_GROUP =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Registry registry;
+    private final int chunkSize;
+    private final Object bindLock = new Object();
+    private final FastThreadLocal<EventLoopAllocations> allocationsForCurrentThread = new FastThreadLocal<>();
+
+    private EventLoopByteBufAllocator(
+            Registry registry, int arenas, int pageSize, int maxOrder, int smallCacheSize, int normalCacheSize) {
+        super(
+                PooledByteBufAllocator.defaultPreferDirect(),
+                arenas,
+                arenas,
+                pageSize,
+                maxOrder,
+                smallCacheSize,
+                normalCacheSize,
+                PooledByteBufAllocator.defaultUseCacheForAllThreads());
+        this.registry = registry;
+        this.chunkSize = metric().chunkSize();
+    }
+
+    /**
+     * @return the allocator of the given event loop group, created from the given config if it doesn't have one yet.
+     */
+    public static EventLoopByteBufAllocator forEventLoopGroup(EventLoopGroup group, ChannelConfig config) {
+        return BY_EVENT_LOOP_GROUP.computeIfAbsent(group, g -> create(g, config, Spectator.globalRegistry()));
+    }
+
+    /**
+     * @return the allocator of the given event loop group, or {@code null} if no listener on it asked for one.
+     */
+    @Nullable public static EventLoopByteBufAllocator forEventLoopGroup(EventLoopGroup group) {
+        return BY_EVENT_LOOP_GROUP.get(group);
+    }
+
+    @VisibleForTesting
+    static EventLoopByteBufAllocator create(EventLoopGroup group, ChannelConfig config, Registry registry) {
+        int arenas = Iterables.size(group);
+        EventLoopByteBufAllocator allocator = new EventLoopByteBufAllocator(
+                registry,
+                arenas,
+                config.get(CommonChannelConfigKeys.allocatorPageSize),
+                config.get(CommonChannelConfigKeys.allocatorMaxOrder),
+                config.get(CommonChannelConfigKeys.allocatorSmallCacheSize),
+                config.get(CommonChannelConfigKeys.allocatorNormalCacheSize));
+        LOG.info(
+                "Allocating with {} arenas of {} byte chunks, and thread caches of {} small and {} normal buffers",
+                arenas,
+                allocator.chunkSize,
+                allocator.metric().smallCacheSize(),
+                allocator.metric().normalCacheSize());
+        ByteBufAllocatorMetrics.register(allocator.registry, "eventloop", allocator);
+        return allocator;
+    }
+
+    @Override
+    protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+        if (Thread.currentThread() instanceof FastThreadLocalThread && !allocationsForCurrentThread.isSet()) {
+            return bindCurrentThread(() -> super.newHeapBuffer(initialCapacity, maxCapacity));
+        }
+        return super.newHeapBuffer(initialCapacity, maxCapacity);
+    }
+
+    @Override
+    protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+        if (!(Thread.currentThread() instanceof FastThreadLocalThread)) {
+            return super.newDirectBuffer(initialCapacity, maxCapacity);
+        }
+        EventLoopAllocations allocations = allocationsForCurrentThread.getIfExists();
+        ByteBuf buf;
+        if (allocations != null) {
+            buf = super.newDirectBuffer(initialCapacity, maxCapacity);
+        } else {
+            buf = bindCurrentThread(() -> super.newDirectBuffer(initialCapacity, maxCapacity));
+            allocations = allocationsForCurrentThread.getIfExists();
+        }
+        // Huge buffers are never cached, so leave them out of the hit rate.
+        if (initialCapacity <= chunkSize) {
+            allocations.count.incrementAndGet();
+        }
+        return buf;
+    }
+
+    /**
+     * Makes the first allocation of the current event loop, heap or direct, which creates its thread cache and binds
+     * it to the heap and the direct arena with the fewest thread caches.  Netty doesn't tell which direct arena that
+     * was, so it is the one that gained a thread cache meanwhile, and allocating under a lock keeps other event loops
+     * from binding at the same time.
+     */
+    private ByteBuf bindCurrentThread(Supplier<ByteBuf> firstAllocation) {
+        ByteBuf buf;
+        EventLoopAllocations allocations;
+        synchronized (bindLock) {
+            List<PoolArenaMetric> arenas = metric().directArenas();
+            int[] threadCaches = new int[arenas.size()];
+            long[] arenaAllocations = new long[arenas.size()];
+            for (int i = 0; i < arenas.size(); i++) {
+                threadCaches[i] = arenas.get(i).numThreadCaches();
+                arenaAllocations[i] = cacheableAllocations(arenas.get(i));
+            }
+            buf = firstAllocation.get();
+            int bound = arenaThatGainedThreadCache(arenas, threadCaches);
+            allocations = bound >= 0
+                    ? new EventLoopAllocations(arenas.get(bound), arenaAllocations[bound])
+                    : new EventLoopAllocations(null, 0);
+        }
+        allocationsForCurrentThread.set(allocations);
+        registerMeters(allocations);
+        return buf;
+    }
+
+    /**
+     * @return the index of the one arena that has a different number of thread caches than before, or -1 if a thread
+     * outside of the event loops bound to an arena meanwhile and it can't be told apart.
+     */
+    private static int arenaThatGainedThreadCache(List<PoolArenaMetric> arenas, int[] threadCachesBefore) {
+        int gained = -1;
+        for (int i = 0; i < arenas.size(); i++) {
+            if (arenas.get(i).numThreadCaches() != threadCachesBefore[i]) {
+                if (gained >= 0) {
+                    return -1;
+                }
+                gained = i;
+            }
+        }
+        return gained;
+    }
+
+    private void registerMeters(EventLoopAllocations allocations) {
+        String eventLoop = EventLoopGroupMetrics.nameForCurrentEventLoop();
+        PolledMeter.using(registry)
+                .withId(registry.createId("zuul.nettybuffermem.eventloop.allocations", "eventLoop", eventLoop))
+                .monitorMonotonicCounter(allocations.count, AtomicLong::get);
+        PolledMeter.using(registry)
+                .withId(registry.createId("zuul.nettybuffermem.eventloop.cacheHitRate", "eventLoop", eventLoop))
+                .monitorValue(allocations, EventLoopAllocations::cacheHitRate);
+    }
+
+    private static long cacheableAllocations(PoolArenaMetric arena) {
+        return arena.numSmallAllocations() + arena.numNormalAllocations();
+    }
+
+    private static final class EventLoopAllocations {
+        private final AtomicLong count = new AtomicLong();
+        @Nullable private final PoolArenaMetric arena;
+        private final long arenaAllocationsAtBind;
+
+        private EventLoopAllocations(@Nullable PoolArenaMetric arena, long arenaAllocationsAtBind) {
+            this.arena = arena;
+            this.arenaAllocationsAtBind = arenaAllocationsAtBind;
+        }
+
+        private double cacheHitRate() {
+            long allocations = count.get();
+            if (arena == null || allocations == 0) {
+                return Double.NaN;
+            }
+            long misses = cacheableAllocations(arena) - arenaAllocationsAtBind;
+            return Math.max(0, 1 - (double) misses / allocations);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common;
+
+import com.netflix.spectator.api.DistributionSummary;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import java.net.SocketAddress;
+
+/**
+ * Batches the flushes issued within one event loop tick into a single flush, so that a message written as several
+ * writes and flushes (headers, then body chunks) goes out in one syscall.
+ * <p>
+ * Works like {@link FlushConsolidationHandler}, but knows about HTTP message boundaries: a flush following the
+ * {@link LastHttpContent} of a message is never delayed, so the end of a request or response isn't held back.  Other
+ * flushes are delayed until the end of the current read loop if one is in progress, or else until the tasks already
+ * queued on the event loop have run.  At most {@code maxDelayedFlushes} flushes are delayed in a row.
+ * <p>
+ * Must be added after the HTTP codec, so that it sees the HTTP messages rather than the encoded bytes.
+ */
+public final class FlushBatchingHandler extends ChannelDuplexHandler {
+
+    public static final String NAME = "flushBatchingHandler";
+
+    private final int maxDelayedFlushes;
+    private final DistributionSummary writesPerFlush;
+    private final Runnable flushTask = this::flushScheduled;
+
+    private ChannelHandlerContext ctx;
+    private boolean readInProgress;
+    private boolean flushScheduled;
+    private boolean messageComplete;
+    private int delayedFlushes;
+    private int writesSinceFlush;
+
+    public FlushBatchingHandler(int maxDelayedFlushes, DistributionSummary writesPerFlush) {
+        if (maxDelayedFlushes <= 0) {
+            throw new IllegalArgumentException("maxDelayedFlushes must be positive: " + maxDelayedFlushes);
+        }
+        this.maxDelayedFlushes = maxDelayedFlushes;
+        this.writesPerFlush = writesPerFlush;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        writesSinceFlush++;
+        if (msg instanceof LastHttpContent) {
+            messageComplete = true;
+        }
+        super.write(ctx, msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        if (messageComplete || ++delayedFlushes >= maxDelayedFlushes || !ctx.channel().isWritable()) {
+            flushNow(ctx);
+        } else if (!readInProgress && !flushScheduled) {
+            flushScheduled = true;
+            ctx.channel().eventLoop().execute(flushTask);
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        readInProgress = true;
+        super.channelRead(ctx, msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        readInProgress = false;
+        flushIfNeeded(ctx);
+        super.channelReadComplete(ctx);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (!ctx.channel().isWritable()) {
+            flushIfNeeded(ctx);
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        flushIfNeeded(ctx);
+        super.exceptionCaught(ctx, cause);
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushIfNeeded(ctx);
+        super.disconnect(ctx, promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushIfNeeded(ctx);
+        super.close(ctx, promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        flushIfNeeded(ctx);
+    }
+
+    private void flushScheduled() {
+        flushScheduled = false;
+        if (!readInProgress) {
+            flushIfNeeded(ctx);
+        }
+    }
+
+    private void flushIfNeeded(ChannelHandlerContext ctx) {
+        if (delayedFlushes > 0) {
+            flushNow(ctx);
+        }
+    }
+
+    private void flushNow(ChannelHandlerContext ctx) {
+        if (writesSinceFlush > 0) {
+            writesPerFlush.record(writesSinceFlush);
+        }
+        writesSinceFlush = 0;
+        delayedFlushes = 0;
+        messageComplete = false;
+        ctx.flush();
+    }
+}
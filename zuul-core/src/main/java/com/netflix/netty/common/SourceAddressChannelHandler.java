@@ -104,22 +104,28 @@ public final class SourceAddressChannelHandler extends ChannelInboundHandlerAdap
 
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
-        ctx.channel().attr(ATTR_REMOTE_ADDR).set(ctx.channel().remoteAddress());
-        InetSocketAddress sourceAddress = sourceAddress(ctx.channel());
-        ctx.channel().attr(ATTR_SOURCE_INET_ADDR).setIfAbsent(sourceAddress);
-        ctx.channel().attr(ATTR_SOURCE_ADDRESS).setIfAbsent(getHostAddress(sourceAddress));
-        ctx.channel().attr(ATTR_LOCAL_ADDR).set(ctx.channel().localAddress());
-        InetSocketAddress localAddress = localAddress(ctx.channel());
-        ctx.channel().attr(ATTR_LOCAL_INET_ADDR).setIfAbsent(localAddress);
-        ctx.channel().attr(ATTR_LOCAL_ADDRESS).setIfAbsent(getHostAddress(localAddress));
+        storeAddresses(ctx.channel(), ctx.channel().remoteAddress(), ctx.channel().localAddress());
+        super.channelActive(ctx);
+    }
+
+    /**
+     * Stores the address attributes of a channel whose own {@code remoteAddress()} and {@code localAddress()} aren't
+     * the addresses of the underlying socket, such as a QUIC connection multiplexed over one UDP socket.
+     */
+    public static void storeAddresses(Channel channel, SocketAddress remoteAddress, SocketAddress localAddress) {
+        channel.attr(ATTR_REMOTE_ADDR).set(remoteAddress);
+        InetSocketAddress sourceAddress = inetAddress(remoteAddress);
+        channel.attr(ATTR_SOURCE_INET_ADDR).setIfAbsent(sourceAddress);
+        channel.attr(ATTR_SOURCE_ADDRESS).setIfAbsent(getHostAddress(sourceAddress));
+        channel.attr(ATTR_LOCAL_ADDR).set(localAddress);
+        InetSocketAddress localInetAddress = inetAddress(localAddress);
+        channel.attr(ATTR_LOCAL_INET_ADDR).setIfAbsent(localInetAddress);
+        channel.attr(ATTR_LOCAL_ADDRESS).setIfAbsent(getHostAddress(localInetAddress));
         // ATTR_LOCAL_ADDRESS and ATTR_LOCAL_PORT get overwritten with what is received in
         // Proxy Protocol (via the LB), so set local server's address, port explicitly
-        ctx.channel()
-                .attr(ATTR_SERVER_LOCAL_ADDRESS)
-                .setIfAbsent(localAddress.getAddress().getHostAddress());
-        ctx.channel().attr(ATTR_SERVER_LOCAL_PORT).setIfAbsent(localAddress.getPort());
-
-        super.channelActive(ctx);
+        channel.attr(ATTR_SERVER_LOCAL_ADDRESS)
+                .setIfAbsent(localInetAddress.getAddress().getHostAddress());
+        channel.attr(ATTR_SERVER_LOCAL_PORT).setIfAbsent(localInetAddress.getPort());
     }
 
     /**
@@ -145,21 +151,9 @@ public final class SourceAddressChannelHandler extends ChannelInboundHandlerAdap
         }
     }
 
-    private InetSocketAddress sourceAddress(Channel channel) {
-        SocketAddress remoteSocketAddr = channel.remoteAddress();
-        if (remoteSocketAddr != null && InetSocketAddress.class.isAssignableFrom(remoteSocketAddr.getClass())) {
-            InetSocketAddress inetSocketAddress = (InetSocketAddress) remoteSocketAddr;
-            if (inetSocketAddress.getAddress() != null) {
-                return inetSocketAddress;
-            }
-        }
-        return null;
-    }
-
-    private InetSocketAddress localAddress(Channel channel) {
-        SocketAddress localSocketAddress = channel.localAddress();
-        if (localSocketAddress != null && InetSocketAddress.class.isAssignableFrom(localSocketAddress.getClass())) {
-            InetSocketAddress inetSocketAddress = (InetSocketAddress) localSocketAddress;
+    private static InetSocketAddress inetAddress(SocketAddress socketAddress) {
+        if (socketAddress != null && InetSocketAddress.class.isAssignableFrom(socketAddress.getClass())) {
+            InetSocketAddress inetSocketAddress = (InetSocketAddress) socketAddress;
             if (inetSocketAddress.getAddress() != null) {
                 return inetSocketAddress;
             }
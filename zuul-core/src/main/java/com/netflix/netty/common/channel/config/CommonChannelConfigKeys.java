@@ -20,6 +20,7 @@ import com.netflix.netty.common.proxyprotocol.StripUntrustedProxyHeadersHandler;
 import com.netflix.netty.common.ssl.ServerSslConfig;
 import com.netflix.zuul.netty.server.ServerTimeout;
 import com.netflix.zuul.netty.ssl.SslContextFactory;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.AsyncMapping;
 
@@ -79,4 +80,26 @@ public class CommonChannelConfigKeys {
             new ChannelConfigKey<>("http2SwallowUnknownExceptionsOnConnClose", false);
     public static final ChannelConfigKey<Boolean> http2CatchConnectionErrors =
             new ChannelConfigKey<>("http2CatchConnectionErrors", true);
+
+    // Pooled buffer allocator:
+    /* Whether to allocate from a pooled allocator with one arena per event loop, sized by the keys below, instead of
+     * Netty's default allocator */
+    public static final ChannelConfigKey<Boolean> allocatorPerEventLoop =
+            new ChannelConfigKey<>("allocatorPerEventLoop", false);
+    public static final ChannelConfigKey<Integer> allocatorPageSize =
+            new ChannelConfigKey<>("allocatorPageSize", PooledByteBufAllocator.defaultPageSize());
+    /* The chunks of the arenas are pages << maxOrder bytes, and buffers bigger than that aren't pooled */
+    public static final ChannelConfigKey<Integer> allocatorMaxOrder =
+            new ChannelConfigKey<>("allocatorMaxOrder", PooledByteBufAllocator.defaultMaxOrder());
+    public static final ChannelConfigKey<Integer> allocatorSmallCacheSize =
+            new ChannelConfigKey<>("allocatorSmallCacheSize", PooledByteBufAllocator.defaultSmallCacheSize());
+    public static final ChannelConfigKey<Integer> allocatorNormalCacheSize =
+            new ChannelConfigKey<>("allocatorNormalCacheSize", PooledByteBufAllocator.defaultNormalCacheSize());
+
+    // HTTP/3 specific:
+    /* The QUIC initial_max_data of a connection: how many bytes a client may send on it across all streams */
+    public static final ChannelConfigKey<Integer> http3InitialMaxData =
+            new ChannelConfigKey<>("http3InitialMaxData", 10485760); // 10MB
+    /* The Alt-Svc header to add to responses, e.g. h3=":443"; ma=86400, or null to not advertise any */
+    public static final ChannelConfigKey<String> altSvc = new ChannelConfigKey<>("altSvc");
 }
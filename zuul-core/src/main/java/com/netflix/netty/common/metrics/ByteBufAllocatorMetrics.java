@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common.metrics;
+
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Reports how the memory of a {@link PooledByteBufAllocator} is used, arena by arena, so that direct memory can be
+ * sized from what the arenas actually hold rather than from the total reserved by the JVM alone.
+ * <p>
+ * All meters are tagged with the name the allocator was registered under, and the arena meters with the type of the
+ * arena, direct or heap, and its index.
+ */
+public final class ByteBufAllocatorMetrics {
+
+    private static final Set<PooledByteBufAllocator> REGISTERED =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private ByteBufAllocatorMetrics() {}
+
+    /**
+     * Starts reporting on the given allocator, unless it is already being reported on.
+     */
+    public static void register(Registry registry, String allocatorName, PooledByteBufAllocator allocator) {
+        if (!REGISTERED.add(allocator)) {
+            return;
+        }
+        PooledByteBufAllocatorMetric metric = allocator.metric();
+        PolledMeter.using(registry)
+                .withId(registry.createId("zuul.nettybuffermem.pinned", "allocator", allocatorName, "type", "direct"))
+                .monitorValue(allocator, PooledByteBufAllocator::pinnedDirectMemory);
+        PolledMeter.using(registry)
+                .withId(registry.createId("zuul.nettybuffermem.pinned", "allocator", allocatorName, "type", "heap"))
+                .monitorValue(allocator, PooledByteBufAllocator::pinnedHeapMemory);
+        PolledMeter.using(registry)
+                .withId(registry.createId("zuul.nettybuffermem.threadCaches", "allocator", allocatorName))
+                .monitorValue(metric, PooledByteBufAllocatorMetric::numThreadLocalCaches);
+        registerArenas(registry, allocatorName, "direct", metric.directArenas());
+        registerArenas(registry, allocatorName, "heap", metric.heapArenas());
+    }
+
+    private static void registerArenas(
+            Registry registry, String allocatorName, String type, List<PoolArenaMetric> arenas) {
+        for (int i = 0; i < arenas.size(); i++) {
+            PoolArenaMetric arena = arenas.get(i);
+            Id id = registry.createId("zuul.nettybuffermem.arena.active")
+                    .withTags("allocator", allocatorName, "type", type, "arena", Integer.toString(i));
+            PolledMeter.using(registry).withId(id).monitorValue(arena, PoolArenaMetric::numActiveBytes);
+            PolledMeter.using(registry)
+                    .withId(id.withName("zuul.nettybuffermem.arena.activeAllocations"))
+                    .monitorValue(arena, PoolArenaMetric::numActiveAllocations);
+            PolledMeter.using(registry)
+                    .withId(id.withName("zuul.nettybuffermem.arena.threadCaches"))
+                    .monitorValue(arena, PoolArenaMetric::numThreadCaches);
+
+            // Allocations the thread caches couldn't serve, huge ones are never cached.
+            Id allocations = id.withName("zuul.nettybuffermem.arena.allocations");
+            PolledMeter.using(registry)
+                    .withId(allocations.withTag("sizeClass", "small"))
+                    .monitorMonotonicCounter(arena, PoolArenaMetric::numSmallAllocations);
+            PolledMeter.using(registry)
+                    .withId(allocations.withTag("sizeClass", "normal"))
+                    .monitorMonotonicCounter(arena, PoolArenaMetric::numNormalAllocations);
+            PolledMeter.using(registry)
+                    .withId(allocations.withTag("sizeClass", "huge"))
+                    .monitorMonotonicCounter(arena, PoolArenaMetric::numHugeAllocations);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common.metrics;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.spectator.api.Spectator;
+import com.netflix.spectator.api.patterns.PolledMeter;
+import com.netflix.zuul.netty.SpectatorUtils;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The parts of the server that take hold of buffers, to tell which of them the pooled memory goes to.  Each one
+ * counts the bytes it took hold of in {@code zuul.nettybuffermem.owner.bytes}, and the bytes it holds at the moment
+ * in {@code zuul.nettybuffermem.owner.held}, tagged with its id.
+ * <p>
+ * Bytes read from clients and origins are only held while they pass through on their way to the other side, so only
+ * those that stay for longer, in bodies buffered by filters or endpoints, are counted as held.
+ * <p>
+ * Every event loop counts every chunk it reads, so the bytes are added up in a {@link LongAdder} that is polled,
+ * rather than in a counter they would all contend on.
+ */
+public enum ByteBufOwner {
+    CLIENT_INBOUND("client_inbound"),
+    ORIGIN_INBOUND("origin_inbound"),
+    BUFFERED_BODY("buffered_body"),
+    PUSH("push");
+
+    private final LongAdder bytes;
+    private final LongAdder held;
+
+    ByteBufOwner(String id) {
+        this.bytes = PolledMeter.using(Spectator.globalRegistry())
+                .withName("zuul.nettybuffermem.owner.bytes")
+                .withTag("id", id)
+                .monitorMonotonicCounter(new LongAdder(), LongAdder::sum);
+        this.held = SpectatorUtils.newGauge("zuul.nettybuffermem.owner.held", id, new LongAdder());
+    }
+
+    /**
+     * Counts bytes that were taken hold of and passed on straight away.
+     */
+    public void received(int length) {
+        bytes.add(length);
+    }
+
+    /**
+     * Counts bytes that are held on to until {@link #release} is called for them.
+     */
+    public void hold(int length) {
+        bytes.add(length);
+        held.add(length);
+    }
+
+    public void release(int length) {
+        held.add(-length);
+    }
+
+    @VisibleForTesting
+    long bytes() {
+        return bytes.sum();
+    }
+
+    @VisibleForTesting
+    long held() {
+        return held.sum();
+    }
+}
@@ -63,7 +63,7 @@ public class EventLoopGroupMetrics {
         return metricsForCurrentThread.get();
     }
 
-    private static String nameForCurrentEventLoop() {
+    public static String nameForCurrentEventLoop() {
         // We're relying on the knowledge that we name the eventloop threads consistently.
         String threadName = Thread.currentThread().getName();
         String parts[] = threadName.split("-ClientToZuulWorker-", -1);
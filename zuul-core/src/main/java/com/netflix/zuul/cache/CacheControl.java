@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.cache;
+
+import com.google.common.base.Splitter;
+import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.http.HttpHeaderNames;
+import java.util.Locale;
+
+/**
+ * The Cache-Control directives that matter to a shared cache.
+ */
+final class CacheControl {
+
+    private static final Splitter DIRECTIVE_SPLITTER =
+            Splitter.on(',').trimResults().omitEmptyStrings();
+
+    static final long NO_MAX_AGE = -1;
+
+    final boolean noStore;
+    final boolean noCache;
+    final boolean isPrivate;
+    final boolean mustRevalidate;
+    final long maxAgeSeconds;
+    final long sharedMaxAgeSeconds;
+    final long staleWhileRevalidateSeconds;
+    final long staleIfErrorSeconds;
+
+    private CacheControl(
+            boolean noStore,
+            boolean noCache,
+            boolean isPrivate,
+            boolean mustRevalidate,
+            long maxAgeSeconds,
+            long sharedMaxAgeSeconds,
+            long staleWhileRevalidateSeconds,
+            long staleIfErrorSeconds) {
+        this.noStore = noStore;
+        this.noCache = noCache;
+        this.isPrivate = isPrivate;
+        this.mustRevalidate = mustRevalidate;
+        this.maxAgeSeconds = maxAgeSeconds;
+        this.sharedMaxAgeSeconds = sharedMaxAgeSeconds;
+        this.staleWhileRevalidateSeconds = staleWhileRevalidateSeconds;
+        this.staleIfErrorSeconds = staleIfErrorSeconds;
+    }
+
+    static CacheControl parse(Headers headers) {
+        boolean noStore = false;
+        boolean noCache = false;
+        boolean isPrivate = false;
+        boolean mustRevalidate = false;
+        long maxAge = NO_MAX_AGE;
+        long sharedMaxAge = NO_MAX_AGE;
+        long staleWhileRevalidate = 0;
+        long staleIfError = 0;
+        for (String value : headers.getAll(HttpHeaderNames.CACHE_CONTROL)) {
+            for (String directive : DIRECTIVE_SPLITTER.split(value)) {
+                String name = directive;
+                String argument = null;
+                int eq = directive.indexOf('=');
+                if (eq >= 0) {
+                    name = directive.substring(0, eq).trim();
+                    argument = directive.substring(eq + 1).trim();
+                }
+                switch (name.toLowerCase(Locale.ROOT)) {
+                    case "no-store" -> noStore = true;
+                    case "no-cache" -> noCache = true;
+                    case "private" -> isPrivate = true;
+                    case "must-revalidate", "proxy-revalidate" -> mustRevalidate = true;
+                    case "max-age" -> maxAge = seconds(argument);
+                    case "s-maxage" -> sharedMaxAge = seconds(argument);
+                    case "stale-while-revalidate" -> staleWhileRevalidate = Math.max(0, seconds(argument));
+                    case "stale-if-error" -> staleIfError = Math.max(0, seconds(argument));
+                    default -> {}
+                }
+            }
+        }
+        if (headers.contains(HttpHeaderNames.PRAGMA, "no-cache")) {
+            noCache = true;
+        }
+        return new CacheControl(
+                noStore,
+                noCache,
+                isPrivate,
+                mustRevalidate,
+                maxAge,
+                sharedMaxAge,
+                staleWhileRevalidate,
+                staleIfError);
+    }
+
+    /**
+     * @return how long a shared cache may serve the response for, or {@link #NO_MAX_AGE} if it doesn't say.
+     */
+    long freshnessLifetimeSeconds() {
+        return sharedMaxAgeSeconds != NO_MAX_AGE ? sharedMaxAgeSeconds : maxAgeSeconds;
+    }
+
+    private static long seconds(String argument) {
+        if (argument == null) {
+            return NO_MAX_AGE;
+        }
+        if (argument.length() > 1 && argument.startsWith("\"") && argument.endsWith("\"")) {
+            argument = argument.substring(1, argument.length() - 1);
+        }
+        try {
+            return Math.max(0, Long.parseLong(argument));
+        } catch (NumberFormatException e) {
+            return NO_MAX_AGE;
+        }
+    }
+}
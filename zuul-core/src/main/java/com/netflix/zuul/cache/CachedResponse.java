@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.cache;
+
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.http.HttpHeaderNames;
+import com.netflix.zuul.message.http.HttpRequestInfo;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.message.http.HttpResponseMessage;
+import com.netflix.zuul.message.http.HttpResponseMessageImpl;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.util.IllegalReferenceCountException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * A response held by the {@link ResponseCache}.  The body is kept in a direct buffer owned by the cache, which
+ * releases it when the entry is evicted or replaced; every response served from it gets its own retained duplicate.
+ * <p>
+ * Once no longer fresh, the response is kept for as long as it may still be served stale, either while it is being
+ * revalidated or when revalidating it fails.
+ */
+public final class CachedResponse {
+
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+    private static final String REVALIDATION_FAILED_WARNING = "111 - \"Revalidation Failed\"";
+
+    private final int status;
+    private final Headers headers;
+    private final ByteBuf content;
+    private final List<String> varyHeaderNames;
+    private final List<String> varyHeaderValues;
+    private final long storedAtNanos;
+    private final long expiresAtNanos;
+    private final long staleWhileRevalidateUntilNanos;
+    private final long staleIfErrorUntilNanos;
+
+    CachedResponse(
+            int status,
+            Headers headers,
+            ByteBuf content,
+            List<String> varyHeaderNames,
+            List<String> varyHeaderValues,
+            long storedAtNanos,
+            long expiresAtNanos,
+            long staleWhileRevalidateUntilNanos,
+            long staleIfErrorUntilNanos) {
+        this.status = status;
+        this.headers = headers;
+        this.content = content;
+        this.varyHeaderNames = varyHeaderNames;
+        this.varyHeaderValues = varyHeaderValues;
+        this.storedAtNanos = storedAtNanos;
+        this.expiresAtNanos = expiresAtNanos;
+        this.staleWhileRevalidateUntilNanos = staleWhileRevalidateUntilNanos;
+        this.staleIfErrorUntilNanos = staleIfErrorUntilNanos;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return true if the request asks for the same values of the headers named in the Vary header of this response as
+     * the request that this response was cached for.
+     */
+    public boolean matches(HttpRequestInfo request) {
+        return varyHeaderValues.equals(varyHeaderValues(varyHeaderNames, request));
+    }
+
+    public boolean isFresh(long nowNanos) {
+        return nowNanos - expiresAtNanos < 0;
+    }
+
+    /**
+     * @return true if the response may be served stale while another request revalidates it.
+     */
+    public boolean isServableWhileRevalidating(long nowNanos) {
+        return nowNanos - staleWhileRevalidateUntilNanos < 0;
+    }
+
+    /**
+     * @return true if the response may be served stale in place of an error from the origin.
+     */
+    public boolean isServableOnError(long nowNanos) {
+        return nowNanos - staleIfErrorUntilNanos < 0;
+    }
+
+    /**
+     * @return true if the response may still be served in any way, and so should be kept.
+     */
+    boolean isRetained(long nowNanos) {
+        return isFresh(nowNanos) || isServableWhileRevalidating(nowNanos) || isServableOnError(nowNanos);
+    }
+
+    long ageSeconds(long nowNanos) {
+        return TimeUnit.NANOSECONDS.toSeconds(nowNanos - storedAtNanos);
+    }
+
+    int weight() {
+        return content.capacity();
+    }
+
+    void release() {
+        content.release();
+    }
+
+    /**
+     * Builds a response to the given request out of this cached one, warning that it is stale if it is.
+     *
+     * @return the response, or {@code null} if this entry was evicted and released in the meantime.
+     */
+    @Nullable public HttpResponseMessage toResponse(HttpRequestMessage request, SessionContext context) {
+        long now = System.nanoTime();
+        return toResponse(request, context, now, isFresh(now) ? null : STALE_WARNING);
+    }
+
+    /**
+     * Builds a response to the given request out of this cached one, to send instead of the error the origin
+     * returned for it.
+     *
+     * @return the response, or {@code null} if this entry was evicted and released in the meantime.
+     */
+    @Nullable public HttpResponseMessage toErrorFallbackResponse(HttpRequestMessage request, SessionContext context) {
+        return toResponse(request, context, System.nanoTime(), REVALIDATION_FAILED_WARNING);
+    }
+
+    @Nullable private HttpResponseMessage toResponse(
+            HttpRequestMessage request, SessionContext context, long nowNanos, @Nullable String warning) {
+        ByteBuf body;
+        try {
+            body = content.retainedDuplicate();
+        } catch (IllegalReferenceCountException e) {
+            return null;
+        }
+        HttpResponseMessage response =
+                new HttpResponseMessageImpl(context, Headers.copyOf(headers), request, status);
+        response.getHeaders().set(HttpHeaderNames.AGE, Long.toString(ageSeconds(nowNanos)));
+        if (warning != null) {
+            response.getHeaders().add(HttpHeaderNames.WARNING, warning);
+        }
+        response.bufferBodyContents(new DefaultLastHttpContent(body));
+        return response;
+    }
+
+    static List<String> varyHeaderValues(List<String> varyHeaderNames, HttpRequestInfo request) {
+        if (varyHeaderNames.isEmpty()) {
+            return List.of();
+        }
+        Headers requestHeaders = request.getHeaders();
+        return varyHeaderNames.stream()
+                .map(name -> Objects.toString(requestHeaders.getFirst(name), "").trim())
+                .toList();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.cache;
+
+/**
+ * A count-min sketch of 4-bit counters estimating how often each key was seen recently, as used by TinyLFU to decide
+ * whether a new entry is worth keeping over the one it would evict.  Once as many increments as ten times the width of
+ * the sketch have been made, every counter is halved, so the estimates favour recent popularity.
+ * <p>
+ * Not thread safe; callers guard it with their own lock.
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x97cb3127, 0xb492b66f, 0x9ae16a3b, 0x2f90404f};
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    // Each long holds sixteen 4-bit counters.
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int expectedEntries) {
+        int width = Integer.highestOneBit(Math.max(16, expectedEntries) - 1) << 1;
+        this.table = new long[width];
+        this.tableMask = width - 1;
+        this.sampleSize = 10 * width;
+    }
+
+    int frequency(int hash) {
+        int frequency = 15;
+        for (int i = 0; i < DEPTH; i++) {
+            int h = rehash(hash, i);
+            frequency = Math.min(frequency, (int) ((table[index(h)] >>> shift(h)) & 0xFL));
+        }
+        return frequency;
+    }
+
+    void increment(int hash) {
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int h = rehash(hash, i);
+            int index = index(h);
+            int shift = shift(h);
+            if (((table[index] >>> shift) & 0xFL) < 15) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int index(int h) {
+        return (h >>> 4) & tableMask;
+    }
+
+    private static int shift(int h) {
+        return (h & 0xF) << 2;
+    }
+
+    private static int rehash(int hash, int depth) {
+        int h = (hash + SEEDS[depth]) * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+}
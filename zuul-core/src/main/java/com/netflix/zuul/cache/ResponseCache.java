@@ -0,0 +1,422 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.netflix.config.CachedDynamicIntProperty;
+import com.netflix.config.DynamicStringSetProperty;
+import com.netflix.spectator.api.Counter;
+import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.http.HttpHeaderNames;
+import com.netflix.zuul.message.http.HttpRequestInfo;
+import com.netflix.zuul.message.http.HttpResponseMessage;
+import com.netflix.zuul.netty.SpectatorUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * An in-memory cache of origin responses, shared by all the event loops.  Only GET requests without credentials are
+ * looked up, and only responses that a shared cache may store according to their Cache-Control header, and that say
+ * for how long with {@code s-maxage} or {@code max-age}, are kept.
+ * <p>
+ * Concurrent misses for the same URL are collapsed: the first one becomes the {@link Fill} for the key and goes to the
+ * origin, and the others wait for its response instead of each making their own origin request.
+ * <p>
+ * Each URL keeps one variant.  A request whose values of the headers named by the Vary header of the cached response
+ * differ from those of the request it was cached for is a miss, and the response it gets replaces the cached one.
+ * <p>
+ * A response whose Cache-Control has {@code stale-while-revalidate} or {@code stale-if-error}, or that is for one of
+ * the {@code zuul.response.cache.stale.routes}, is kept past its freshness lifetime.  While one request revalidates it,
+ * the others are served the stale copy instead of waiting, and a request whose origin response is an error can be
+ * served the stale copy instead.
+ * <p>
+ * A key whose origin response may not be stored, as it is {@code private} or {@code no-store} say, or whose body is
+ * too big, is marked as hit-for-pass for {@code zuul.response.cache.hit.for.pass.seconds}.  Meanwhile its requests go
+ * straight to the origin, rather than each becoming a fill that the next requests wait on for nothing.
+ */
+public final class ResponseCache {
+
+    private static final CachedDynamicIntProperty MAX_SIZE_MB =
+            new CachedDynamicIntProperty("zuul.response.cache.max.size.mb", 64);
+    private static final CachedDynamicIntProperty MAX_ENTRY_SIZE_KB =
+            new CachedDynamicIntProperty("zuul.response.cache.max.entry.size.kb", 1024);
+    private static final CachedDynamicIntProperty MAX_TTL_SECONDS =
+            new CachedDynamicIntProperty("zuul.response.cache.max.ttl.seconds", 3600);
+
+    /**
+     * How long a request waits for the fill of another request for the same key before going to the origin itself,
+     * and how long a fill is left in place before a new request may take over from it.
+     */
+    private static final CachedDynamicIntProperty FILL_TIMEOUT_MS =
+            new CachedDynamicIntProperty("zuul.response.cache.fill.timeout.ms", 5000);
+
+    /**
+     * Routes whose responses are kept to be served stale for at least the times below, even if the origin doesn't ask
+     * for it with the {@code stale-while-revalidate} and {@code stale-if-error} Cache-Control directives.
+     */
+    private static final DynamicStringSetProperty STALE_ROUTES =
+            new DynamicStringSetProperty("zuul.response.cache.stale.routes", "", ",");
+
+    private static final CachedDynamicIntProperty HIT_FOR_PASS_SECONDS =
+            new CachedDynamicIntProperty("zuul.response.cache.hit.for.pass.seconds", 30);
+    private static final CachedDynamicIntProperty HIT_FOR_PASS_MAX_ENTRIES =
+            new CachedDynamicIntProperty("zuul.response.cache.hit.for.pass.max.entries", 10000);
+
+    private static final CachedDynamicIntProperty STALE_WHILE_REVALIDATE_SECONDS =
+            new CachedDynamicIntProperty("zuul.response.cache.stale.while.revalidate.seconds", 0);
+    private static final CachedDynamicIntProperty STALE_IF_ERROR_SECONDS =
+            new CachedDynamicIntProperty("zuul.response.cache.stale.if.error.seconds", 0);
+
+    private static final int AVERAGE_ENTRY_SIZE = 4096;
+
+    private static final Set<Integer> CACHEABLE_STATUSES = Set.of(200, 203, 300, 301, 404, 410);
+    private static final Set<String> UNCACHED_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-connection", "transfer-encoding", "set-cookie", "age");
+    private static final Splitter VARY_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    private final TinyLfuStore store;
+    private final int maxEntrySize;
+    private final ConcurrentHashMap<String, Fill> fills = new ConcurrentHashMap<>();
+    // The time until which each key is passed, in System.nanoTime().
+    private final Cache<String, Long> hitForPass;
+
+    private final Counter hits = SpectatorUtils.newCounter("zuul.response.cache", "hit");
+    private final Counter staleHits = SpectatorUtils.newCounter("zuul.response.cache", "stale");
+    private final Counter misses = SpectatorUtils.newCounter("zuul.response.cache", "miss");
+    private final Counter passes = SpectatorUtils.newCounter("zuul.response.cache", "pass");
+    private final Counter stores = SpectatorUtils.newCounter("zuul.response.cache", "store");
+    private final Counter evictions = SpectatorUtils.newCounter("zuul.response.cache", "eviction");
+
+    private static final class Holder {
+        private static final ResponseCache INSTANCE =
+                new ResponseCache(MAX_SIZE_MB.get() * 1024L * 1024L, MAX_ENTRY_SIZE_KB.get() * 1024);
+    }
+
+    /**
+     * @return the cache shared by the response cache filters.  Its size is read from the properties when it is first
+     * used.
+     */
+    public static ResponseCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    @VisibleForTesting
+    ResponseCache(long maxSize, int maxEntrySize) {
+        this.maxEntrySize = (int) Math.min(maxEntrySize, maxSize);
+        this.store = new TinyLfuStore(
+                maxSize, (int) Math.min(Integer.MAX_VALUE, maxSize / AVERAGE_ENTRY_SIZE), evictions::increment);
+        this.hitForPass = CacheBuilder.newBuilder().maximumSize(HIT_FOR_PASS_MAX_ENTRIES.get()).build();
+    }
+
+    /**
+     * @return the key to cache the response to the request under, or {@code null} if the request may not be served
+     * from the cache.  The key is made of the route VIP if the request was routed already, and of the scheme, Host
+     * header and path and query of the request.  Headers like X-Forwarded-Host are left out, since a client could use
+     * them to store a response under the key of another host.
+     */
+    @Nullable public static String key(HttpRequestInfo request) {
+        if (!"GET".equalsIgnoreCase(request.getMethod())) {
+            return null;
+        }
+        Headers headers = request.getHeaders();
+        if (headers.contains("Authorization")) {
+            return null;
+        }
+        CacheControl cacheControl = CacheControl.parse(headers);
+        if (cacheControl.noStore || cacheControl.noCache) {
+            return null;
+        }
+        String host = headers.getFirst(HttpHeaderNames.HOST);
+        if (host == null) {
+            host = request.getServerName();
+        }
+        StringBuilder key = new StringBuilder();
+        String routeVip = request.getContext().getRouteVIP();
+        if (routeVip != null) {
+            key.append(routeVip).append(' ');
+        }
+        return key.append(request.getScheme())
+                .append("://")
+                .append(host.toLowerCase(Locale.ROOT))
+                .append(request.getPathAndQuery())
+                .toString();
+    }
+
+    /**
+     * @return the response cached for the key that matches the request, or {@code null} if there is none.  The
+     * response may be stale, but only if it may still be served either while revalidating or on error.
+     */
+    @Nullable public CachedResponse get(String key, HttpRequestInfo request) {
+        CachedResponse cached = store.get(key);
+        long now = System.nanoTime();
+        if (cached != null) {
+            if (!cached.isRetained(now)) {
+                store.remove(key, cached);
+                cached = null;
+            } else if (!cached.matches(request)) {
+                cached = null;
+            }
+        }
+        if (cached == null) {
+            misses.increment();
+        } else {
+            (cached.isFresh(now) ? hits : staleHits).increment();
+        }
+        return cached;
+    }
+
+    /**
+     * @return true if the last origin response for the key may not be cached, so that its requests should go to the
+     * origin without waiting for or starting a fill.
+     */
+    public boolean isHitForPass(String key) {
+        Long passUntil = hitForPass.getIfPresent(key);
+        if (passUntil == null) {
+            return false;
+        }
+        if (System.nanoTime() - passUntil >= 0) {
+            hitForPass.asMap().remove(key, passUntil);
+            return false;
+        }
+        passes.increment();
+        return true;
+    }
+
+    private void passFor(String key) {
+        long seconds = HIT_FOR_PASS_SECONDS.get();
+        if (seconds > 0) {
+            hitForPass.put(key, System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds));
+        }
+    }
+
+    /**
+     * Makes the caller the fill for the key, unless another request is already filling it.
+     *
+     * @return the new fill, or {@code null} if there already is one for the key.
+     */
+    @Nullable public Fill tryStartFill(String key) {
+        long now = System.nanoTime();
+        Fill fill = new Fill(key, now);
+        while (true) {
+            Fill existing = fills.putIfAbsent(key, fill);
+            if (existing == null) {
+                return fill;
+            }
+            if (!existing.isTimedOut(now)) {
+                return null;
+            }
+            // The request that was filling the key is stuck, so take over from it.
+            if (fills.replace(key, existing, fill)) {
+                existing.abandon();
+                return fill;
+            }
+        }
+    }
+
+    /**
+     * @return the in-flight fill of the key to wait for, which completes with the cached response or with
+     * {@code null} if the response couldn't be cached, or {@code null} if the key isn't being filled.
+     */
+    @Nullable public CompletableFuture<CachedResponse> inFlight(String key) {
+        Fill fill = fills.get(key);
+        return fill == null ? null : fill.result;
+    }
+
+    /**
+     * @return how long to wait for the fill of another request before going to the origin.
+     */
+    public static long fillTimeoutMillis() {
+        return FILL_TIMEOUT_MS.get();
+    }
+
+    @VisibleForTesting
+    int size() {
+        return store.size();
+    }
+
+    @VisibleForTesting
+    long weight() {
+        return store.weight();
+    }
+
+    /**
+     * @return how long the response may be served fresh and stale for, or {@code null} if it may not be stored.
+     */
+    @Nullable private static Lifetimes storableLifetimes(HttpResponseMessage response) {
+        if (!CACHEABLE_STATUSES.contains(response.getStatus())) {
+            return null;
+        }
+        Headers headers = response.getHeaders();
+        if (headers.contains(HttpHeaderNames.SET_COOKIE) || headers.contains(HttpHeaderNames.VARY, "*")) {
+            return null;
+        }
+        CacheControl cacheControl = CacheControl.parse(headers);
+        if (cacheControl.noStore || cacheControl.noCache || cacheControl.isPrivate) {
+            return null;
+        }
+        long fresh = cacheControl.freshnessLifetimeSeconds();
+        if (fresh == CacheControl.NO_MAX_AGE) {
+            return null;
+        }
+        long staleWhileRevalidate = 0;
+        long staleIfError = 0;
+        if (!cacheControl.mustRevalidate) {
+            staleWhileRevalidate = cacheControl.staleWhileRevalidateSeconds;
+            staleIfError = cacheControl.staleIfErrorSeconds;
+            String routeVip = response.getContext().getRouteVIP();
+            if (routeVip != null && STALE_ROUTES.get().contains(routeVip)) {
+                staleWhileRevalidate = Math.max(staleWhileRevalidate, STALE_WHILE_REVALIDATE_SECONDS.get());
+                staleIfError = Math.max(staleIfError, STALE_IF_ERROR_SECONDS.get());
+            }
+        }
+        int maxTtl = MAX_TTL_SECONDS.get();
+        Lifetimes lifetimes = new Lifetimes(
+                Math.min(fresh, maxTtl), Math.min(staleWhileRevalidate, maxTtl), Math.min(staleIfError, maxTtl));
+        return lifetimes.isEmpty() ? null : lifetimes;
+    }
+
+    private record Lifetimes(long freshSeconds, long staleWhileRevalidateSeconds, long staleIfErrorSeconds) {
+        boolean isEmpty() {
+            return freshSeconds == 0 && staleWhileRevalidateSeconds == 0 && staleIfErrorSeconds == 0;
+        }
+    }
+
+    private static List<String> varyHeaderNames(Headers headers) {
+        return headers.getAll(HttpHeaderNames.VARY).stream()
+                .flatMap(VARY_SPLITTER::splitToStream)
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    /**
+     * An origin response being collected to be cached.  It is only used from the event loop of the request that
+     * started it, apart from {@link #abandon()}; the body is copied to heap as it arrives and only moved into a
+     * direct buffer once complete, so a fill that never completes leaves nothing to release.
+     */
+    public final class Fill {
+
+        private final String key;
+        private final long startedAtNanos;
+        private final CompletableFuture<CachedResponse> result = new CompletableFuture<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private boolean decided;
+
+        @Nullable private Lifetimes lifetimes;
+
+        private Fill(String key, long startedAtNanos) {
+            this.key = key;
+            this.startedAtNanos = startedAtNanos;
+        }
+
+        /**
+         * Decides, on the first call, whether the response may be cached.  The decision is remembered, since the body
+         * of a response that was buffered before it reached the filter chain may be passed in before its headers are.
+         *
+         * @return true if the body of the response should be passed to {@link #append(ByteBuf)}.
+         */
+        public boolean accepts(HttpResponseMessage response) {
+            if (!decided) {
+                lifetimes = storableLifetimes(response);
+                decided = true;
+                // An error or other uncacheable status may well be gone by the next request, unlike headers that
+                // forbid storing the response.
+                if (lifetimes == null && CACHEABLE_STATUSES.contains(response.getStatus())) {
+                    passFor(key);
+                }
+            }
+            return lifetimes != null && !result.isDone();
+        }
+
+        /**
+         * Copies the content into the body collected so far.
+         *
+         * @return false if the body got too big to cache, in which case the fill is abandoned.
+         */
+        public boolean append(ByteBuf content) {
+            if (result.isDone()) {
+                return false;
+            }
+            int length = content.readableBytes();
+            if (body.size() + length > maxEntrySize) {
+                passFor(key);
+                abandon();
+                return false;
+            }
+            body.writeBytes(ByteBufUtil.getBytes(content, content.readerIndex(), length, false));
+            return true;
+        }
+
+        /**
+         * Caches the response with the body collected so far, and hands it to the requests waiting for it.
+         */
+        public void complete(HttpResponseMessage response) {
+            if (!accepts(response)) {
+                return;
+            }
+            byte[] bytes = body.toByteArray();
+            // Unpooled, since cached bodies live far longer than the pooled allocator's buffers are meant to.
+            ByteBuf content = Unpooled.directBuffer(bytes.length, bytes.length).writeBytes(bytes);
+
+            Headers headers = Headers.copyOf(response.getHeaders());
+            headers.removeIf(header -> UNCACHED_HEADERS.contains(header.getKey().getNormalised()));
+            headers.set(HttpHeaderNames.CONTENT_LENGTH, Integer.toString(bytes.length));
+
+            List<String> varyHeaderNames = varyHeaderNames(headers);
+            long now = System.nanoTime();
+            long expiresAt = now + TimeUnit.SECONDS.toNanos(lifetimes.freshSeconds());
+            CachedResponse cached = new CachedResponse(
+                    response.getStatus(),
+                    headers,
+                    content,
+                    varyHeaderNames,
+                    CachedResponse.varyHeaderValues(varyHeaderNames, response.getInboundRequest()),
+                    now,
+                    expiresAt,
+                    expiresAt + TimeUnit.SECONDS.toNanos(lifetimes.staleWhileRevalidateSeconds()),
+                    expiresAt + TimeUnit.SECONDS.toNanos(lifetimes.staleIfErrorSeconds()));
+            store.put(key, cached);
+            stores.increment();
+            hitForPass.invalidate(key);
+            fills.remove(key, this);
+            result.complete(cached);
+        }
+
+        /**
+         * Gives up on caching the response, so the requests waiting for it go to the origin themselves.
+         */
+        public void abandon() {
+            fills.remove(key, this);
+            result.complete(null);
+        }
+
+        private boolean isTimedOut(long nowNanos) {
+            return nowNanos - startedAtNanos > TimeUnit.MILLISECONDS.toNanos(FILL_TIMEOUT_MS.get());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+
+/**
+ * A map of cached responses bounded by the total size of their bodies, evicting with W-TinyLFU: new entries go into a
+ * small LRU window, and an entry leaving the window only makes it into the main LRU region if the
+ * {@link FrequencySketch} says its key is requested more often than that of the entry it would evict.  This keeps a
+ * burst of one-off requests from flushing out the popular entries.
+ * <p>
+ * Reads go straight to a concurrent map.  The recency and frequency bookkeeping that a read does is skipped when
+ * another thread holds the lock, rather than waiting for it, since an occasional lost update only makes eviction a
+ * little less precise.
+ */
+final class TinyLfuStore {
+
+    private final long maxWeight;
+    private final long maxWindowWeight;
+    private final Runnable onEviction;
+
+    private final ConcurrentHashMap<String, CachedResponse> data = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock.  Both are kept in LRU order, least recently used first.
+    private final FrequencySketch sketch;
+    private final LinkedHashMap<String, CachedResponse> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, CachedResponse> main = new LinkedHashMap<>(16, 0.75f, true);
+    private long windowWeight;
+    private long mainWeight;
+
+    TinyLfuStore(long maxWeight, int expectedEntries, Runnable onEviction) {
+        this.maxWeight = maxWeight;
+        this.maxWindowWeight = Math.max(1, maxWeight / 100);
+        this.sketch = new FrequencySketch(expectedEntries);
+        this.onEviction = onEviction;
+    }
+
+    @Nullable CachedResponse get(String key) {
+        CachedResponse value = data.get(key);
+        if (lock.tryLock()) {
+            try {
+                sketch.increment(key.hashCode());
+                if (value != null && window.get(key) == null) {
+                    main.get(key);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Adds the entry, replacing any existing one for the key.  The entry may be evicted again straight away if it is
+     * less popular than the one it would have to displace, in which case it is released.
+     */
+    void put(String key, CachedResponse value) {
+        lock.lock();
+        try {
+            removeLocked(key);
+            data.put(key, value);
+            window.put(key, value);
+            windowWeight += value.weight();
+            while (windowWeight > maxWindowWeight && !window.isEmpty()) {
+                Iterator<Map.Entry<String, CachedResponse>> it = window.entrySet().iterator();
+                Map.Entry<String, CachedResponse> candidate = it.next();
+                it.remove();
+                windowWeight -= candidate.getValue().weight();
+                main.put(candidate.getKey(), candidate.getValue());
+                mainWeight += candidate.getValue().weight();
+                admit(candidate.getKey());
+            }
+            while (windowWeight + mainWeight > maxWeight && !main.isEmpty()) {
+                evictLocked(main.keySet().iterator().next());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for the key if it is still the given one.
+     */
+    void remove(String key, CachedResponse value) {
+        lock.lock();
+        try {
+            if (data.get(key) == value) {
+                removeLocked(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long weight() {
+        lock.lock();
+        try {
+            return windowWeight + mainWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        return data.size();
+    }
+
+    /**
+     * Makes room in the main region for the candidate that just moved into it from the window, evicting either the
+     * least recently used entries or the candidate itself, whichever is requested less often.
+     */
+    private void admit(String candidate) {
+        int candidateFrequency = sketch.frequency(candidate.hashCode());
+        while (windowWeight + mainWeight > maxWeight) {
+            String victim = main.keySet().iterator().next();
+            if (victim.equals(candidate) || sketch.frequency(victim.hashCode()) >= candidateFrequency) {
+                evictLocked(candidate);
+                return;
+            }
+            evictLocked(victim);
+        }
+    }
+
+    private void evictLocked(String key) {
+        if (removeLocked(key) != null) {
+            onEviction.run();
+        }
+    }
+
+    @Nullable private CachedResponse removeLocked(String key) {
+        CachedResponse value = data.remove(key);
+        if (value == null) {
+            return null;
+        }
+        if (window.remove(key) != null) {
+            windowWeight -= value.weight();
+        } else if (main.remove(key) != null) {
+            mainWeight -= value.weight();
+        }
+        value.release();
+        return value;
+    }
+}
@@ -18,6 +18,8 @@ package com.netflix.zuul.context;
 
 import com.google.common.collect.ImmutableList;
 import com.netflix.client.config.IClientConfig;
+import com.netflix.zuul.cache.CachedResponse;
+import com.netflix.zuul.cache.ResponseCache;
 import com.netflix.zuul.filters.ZuulFilter;
 import com.netflix.zuul.message.http.HttpRequestMessage;
 import com.netflix.zuul.message.http.HttpResponseMessage;
@@ -27,6 +29,7 @@ import com.netflix.zuul.stats.status.StatusCategory;
 import io.netty.channel.Channel;
 import jakarta.inject.Provider;
 import java.net.InetAddress;
+import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -88,4 +91,15 @@ public class CommonContextKeys {
     public static final SessionContext.Key<CurrentPassport> PASSPORT = SessionContext.newKey("_passport");
     public static final SessionContext.Key<Boolean> ZUUL_USE_DECODED_URI =
             SessionContext.newKey("zuul_use_decoded_uri");
+    public static final SessionContext.Key<String> RESPONSE_CACHE_KEY = SessionContext.newKey("_response_cache_key");
+    public static final SessionContext.Key<ResponseCache.Fill> RESPONSE_CACHE_FILL =
+            SessionContext.newKey("_response_cache_fill");
+    public static final SessionContext.Key<CachedResponse> RESPONSE_CACHE_STALE =
+            SessionContext.newKey("_response_cache_stale");
+
+    /**
+     * The read timeout left for the current origin attempt, which also bounds how long it may wait for a connection.
+     */
+    public static final SessionContext.Key<Duration> ORIGIN_ATTEMPT_TIMEOUT =
+            SessionContext.newKey("_origin_attempt_timeout");
 }
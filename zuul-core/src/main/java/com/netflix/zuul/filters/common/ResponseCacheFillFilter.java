@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.filters.common;
+
+import com.netflix.spectator.api.Counter;
+import com.netflix.zuul.Filter;
+import com.netflix.zuul.cache.CachedResponse;
+import com.netflix.zuul.cache.ResponseCache;
+import com.netflix.zuul.context.CommonContextKeys;
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.filters.FilterType;
+import com.netflix.zuul.filters.endpoint.ProxyEndpoint;
+import com.netflix.zuul.filters.http.HttpOutboundSyncFilter;
+import com.netflix.zuul.message.ZuulMessage;
+import com.netflix.zuul.message.http.HttpResponseMessage;
+import com.netflix.zuul.netty.SpectatorUtils;
+import com.netflix.zuul.netty.server.ClientRequestReceiver;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+
+/**
+ * Copies the origin response to a request that {@link ResponseCacheLookupFilter} made the fill for its URL into the
+ * {@link ResponseCache} as its body streams through, without holding the body back from the client.  Responses that
+ * didn't come from the origin, that may not be cached, or whose body gets bigger than
+ * {@code zuul.response.cache.max.entry.size.kb} are let go, which releases the requests waiting for them to the
+ * origin.  A fill whose response never gets here, as the client went away or the request failed before the outbound
+ * filters, is let go by {@link ClientRequestReceiver} once the request completes.
+ * <p>
+ * If the origin failed, once {@link ProxyEndpoint} has run out of retries, and the lookup left a stale copy that
+ * allows {@code stale-if-error} in the context, the error response is replaced by the stale copy and the rest of its
+ * body is dropped.
+ * <p>
+ * Runs before {@link GZipResponseFilter}, so that the body is cached as the origin sent it.
+ */
+@Filter(order = 100, type = FilterType.OUTBOUND)
+public class ResponseCacheFillFilter extends HttpOutboundSyncFilter {
+
+    private static final SessionContext.Key<Boolean> ERROR_RESPONSE_REPLACED =
+            SessionContext.newKey("_response_cache_error_response_replaced");
+
+    private static final Counter STALE_IF_ERROR =
+            SpectatorUtils.newCounter("zuul.response.cache", "stale_if_error");
+
+    @Override
+    public boolean shouldFilter(HttpResponseMessage response) {
+        SessionContext context = response.getContext();
+        return context.get(CommonContextKeys.RESPONSE_CACHE_FILL) != null
+                || context.get(CommonContextKeys.RESPONSE_CACHE_STALE) != null
+                || context.containsKey(ERROR_RESPONSE_REPLACED);
+    }
+
+    @Override
+    public HttpResponseMessage apply(HttpResponseMessage response) {
+        SessionContext context = response.getContext();
+        ResponseCache.Fill fill = context.get(CommonContextKeys.RESPONSE_CACHE_FILL);
+        if (fill != null && !accepts(fill, response)) {
+            abandon(fill, context);
+        }
+
+        CachedResponse stale = context.remove(CommonContextKeys.RESPONSE_CACHE_STALE);
+        if (stale != null && isError(response)) {
+            HttpResponseMessage fallback = stale.toErrorFallbackResponse(response.getOutboundRequest(), context);
+            if (fallback != null) {
+                STALE_IF_ERROR.increment();
+                response.disposeBufferedBody();
+                context.put(ERROR_RESPONSE_REPLACED, Boolean.TRUE);
+                return fallback;
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public HttpContent processContentChunk(ZuulMessage message, HttpContent chunk) {
+        SessionContext context = message.getContext();
+        if (context.containsKey(ERROR_RESPONSE_REPLACED)) {
+            // The rest of the body of the error response that was replaced.
+            chunk.release();
+            return null;
+        }
+        ResponseCache.Fill fill = context.get(CommonContextKeys.RESPONSE_CACHE_FILL);
+        if (fill == null) {
+            return chunk;
+        }
+        HttpResponseMessage response = (HttpResponseMessage) message;
+        if (!accepts(fill, response) || !fill.append(chunk.content())) {
+            abandon(fill, context);
+        } else if (chunk instanceof LastHttpContent) {
+            fill.complete(response);
+            context.remove(CommonContextKeys.RESPONSE_CACHE_FILL);
+        }
+        return chunk;
+    }
+
+    private static boolean accepts(ResponseCache.Fill fill, HttpResponseMessage response) {
+        SessionContext context = response.getContext();
+        return context.get(CommonContextKeys.ZUUL_ENDPOINT) instanceof ProxyEndpoint
+                && context.getError() == null
+                && fill.accepts(response);
+    }
+
+    private static boolean isError(HttpResponseMessage response) {
+        return response.getStatus() >= 500 || response.getContext().getError() != null;
+    }
+
+    private static void abandon(ResponseCache.Fill fill, SessionContext context) {
+        fill.abandon();
+        context.remove(CommonContextKeys.RESPONSE_CACHE_FILL);
+    }
+}
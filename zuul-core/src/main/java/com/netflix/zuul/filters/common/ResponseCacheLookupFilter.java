@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.filters.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.config.CachedDynamicBooleanProperty;
+import com.netflix.zuul.Filter;
+import com.netflix.zuul.cache.CachedResponse;
+import com.netflix.zuul.cache.ResponseCache;
+import com.netflix.zuul.context.CommonContextKeys;
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.filters.FilterType;
+import com.netflix.zuul.filters.http.HttpInboundFilter;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.message.http.HttpResponseMessage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import rx.Emitter;
+import rx.Observable;
+
+/**
+ * Serves requests from the {@link ResponseCache} when it has a fresh response for them.  On a miss, the request
+ * either becomes the one that fetches the response from the origin and fills the cache, or, if another request for
+ * the same URL is already doing that, waits for its response rather than going to the origin as well.  A request
+ * that waits longer than {@code zuul.response.cache.fill.timeout.ms}, or whose wait ends without a response it can
+ * use, goes to the origin.  So does a request for a URL whose last origin response couldn't be cached, see
+ * {@link ResponseCache#isHitForPass}.
+ * <p>
+ * A stale response is revalidated the same way, by the first request to find it stale.  Meanwhile the other requests
+ * for it are served the stale copy if it allows {@code stale-while-revalidate}, and a stale copy that allows
+ * {@code stale-if-error} is kept in the context for {@link ResponseCacheFillFilter} to serve if the origin fails.
+ * <p>
+ * Runs after the other inbound filters so that requests they reject are never served from the cache, and needs the
+ * {@link ResponseCacheFillFilter} for the cache to be filled.  Off unless {@code zuul.response.cache.enabled} is set.
+ */
+@Filter(order = 1000, type = FilterType.INBOUND)
+public class ResponseCacheLookupFilter extends HttpInboundFilter {
+
+    static final CachedDynamicBooleanProperty ENABLED =
+            new CachedDynamicBooleanProperty("zuul.response.cache.enabled", false);
+
+    private final ResponseCache cache;
+
+    public ResponseCacheLookupFilter() {
+        this(ResponseCache.getInstance());
+    }
+
+    @VisibleForTesting
+    ResponseCacheLookupFilter(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean shouldFilter(HttpRequestMessage request) {
+        SessionContext context = request.getContext();
+        if (!ENABLED.get() || context.getStaticResponse() != null || context.shouldSendErrorResponse()) {
+            return false;
+        }
+        String key = ResponseCache.key(request);
+        if (key == null) {
+            return false;
+        }
+        // Kept so that applyAsync doesn't have to build it, and parse the request's Cache-Control, again.
+        context.put(CommonContextKeys.RESPONSE_CACHE_KEY, key);
+        return true;
+    }
+
+    @Override
+    public Observable<HttpRequestMessage> applyAsync(HttpRequestMessage request) {
+        String key = request.getContext().get(CommonContextKeys.RESPONSE_CACHE_KEY);
+        if (key == null) {
+            key = ResponseCache.key(request);
+        }
+        if (key == null) {
+            return Observable.just(request);
+        }
+
+        CachedResponse cached = cache.get(key, request);
+        long now = System.nanoTime();
+        if (cached != null) {
+            if (cached.isFresh(now) && serve(request, cached)) {
+                return Observable.just(request);
+            }
+            if (cached.isServableOnError(now)) {
+                // Kept for ResponseCacheFillFilter, in case the origin fails.
+                request.getContext().put(CommonContextKeys.RESPONSE_CACHE_STALE, cached);
+            }
+        }
+
+        if (cache.isHitForPass(key)) {
+            return Observable.just(request);
+        }
+
+        ResponseCache.Fill fill = cache.tryStartFill(key);
+        if (fill != null) {
+            request.getContext().put(CommonContextKeys.RESPONSE_CACHE_FILL, fill);
+            return Observable.just(request);
+        }
+
+        // Another request is revalidating or fetching the response.
+        if (cached != null && cached.isServableWhileRevalidating(now) && serve(request, cached)) {
+            return Observable.just(request);
+        }
+
+        CompletableFuture<CachedResponse> inFlight = cache.inFlight(key);
+        if (inFlight == null) {
+            // The fill finished since the lookup above, so just go to the origin.
+            return Observable.just(request);
+        }
+        return Observable.<CachedResponse>create(
+                        emitter -> inFlight.whenComplete((response, t) -> {
+                            emitter.onNext(response);
+                            emitter.onCompleted();
+                        }),
+                        Emitter.BackpressureMode.NONE)
+                .timeout(
+                        ResponseCache.fillTimeoutMillis(),
+                        TimeUnit.MILLISECONDS,
+                        Observable.<CachedResponse>just(null))
+                .map(response -> {
+                    if (response != null && response.matches(request)) {
+                        serve(request, response);
+                    }
+                    return request;
+                });
+    }
+
+    private static boolean serve(HttpRequestMessage request, CachedResponse cached) {
+        HttpResponseMessage response = cached.toResponse(request, request.getContext());
+        if (response == null) {
+            return false;
+        }
+        request.getContext().setStaticResponse(response);
+        request.getContext().remove(CommonContextKeys.RESPONSE_CACHE_STALE);
+        return true;
+    }
+}
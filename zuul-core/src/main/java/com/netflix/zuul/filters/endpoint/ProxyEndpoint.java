@@ -51,20 +51,24 @@ import com.netflix.zuul.netty.NettyRequestAttemptFactory;
 import com.netflix.zuul.netty.SpectatorUtils;
 import com.netflix.zuul.netty.connectionpool.BasicRequestStat;
 import com.netflix.zuul.netty.connectionpool.ClientTimeoutHandler;
-import com.netflix.zuul.netty.connectionpool.DefaultOriginChannelInitializer;
 import com.netflix.zuul.netty.connectionpool.PooledConnection;
 import com.netflix.zuul.netty.connectionpool.RequestStat;
+import com.netflix.zuul.netty.connectionpool.SwitchableOriginHandler;
 import com.netflix.zuul.netty.filter.FilterRunner;
+import com.netflix.zuul.netty.filter.RequestBodyFlowControl;
 import com.netflix.zuul.netty.server.ClientRequestReceiver;
 import com.netflix.zuul.netty.server.MethodBinding;
 import com.netflix.zuul.netty.server.OriginResponseReceiver;
+import com.netflix.zuul.netty.server.ProxyBackpressure;
 import com.netflix.zuul.netty.timeouts.OriginTimeoutManager;
 import com.netflix.zuul.niws.RequestAttempt;
 import com.netflix.zuul.niws.RequestAttempts;
+import com.netflix.zuul.origins.HedgePolicy;
 import com.netflix.zuul.origins.NettyOrigin;
 import com.netflix.zuul.origins.Origin;
 import com.netflix.zuul.origins.OriginManager;
 import com.netflix.zuul.origins.OriginName;
+import com.netflix.zuul.origins.RetryBudget;
 import com.netflix.zuul.passport.CurrentPassport;
 import com.netflix.zuul.passport.PassportState;
 import com.netflix.zuul.stats.status.StatusCategory;
@@ -76,7 +80,7 @@ import com.netflix.zuul.util.VipUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
@@ -86,6 +90,7 @@ import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
 import io.perfmark.PerfMark;
 import io.perfmark.TaskCloseable;
 import java.io.UnsupportedEncodingException;
@@ -100,6 +105,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
@@ -150,6 +156,24 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
     protected List<RequestStat> requestStats = new ArrayList<>();
     protected RequestStat currentRequestStat;
 
+    /* Hedging related state, see hedgeDelayMillis() */
+    private long originWriteStartNanos;
+    private ScheduledFuture<?> hedgeTimer;
+    private List<HttpContent> hedgeBody;
+    private HedgeAttempt hedge;
+
+    /**
+     * A copy of the current request sent to a second origin server, racing the primary attempt.
+     */
+    private static final class HedgeAttempt {
+        private final AtomicReference<DiscoveryResult> server = new AtomicReference<>(DiscoveryResult.EMPTY);
+        private final AtomicReference<InetAddress> hostAddr = new AtomicReference<>();
+        private RequestStat requestStat;
+        private PooledConnection conn;
+        private OriginResponseReceiver receiver;
+        private long writeStartNanos;
+    }
+
     public static final Set<String> IDEMPOTENT_HTTP_METHODS = Sets.newHashSet("GET", "HEAD", "OPTIONS");
     private static final DynamicIntegerSetProperty RETRIABLE_STATUSES_FOR_IDEMPOTENT_METHODS =
             new DynamicIntegerSetProperty("zuul.retry.allowed.statuses.idempotent", "500");
@@ -188,6 +212,7 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
         zuulRequest = transformRequest(inMesg);
         context = zuulRequest.getContext();
         origin = getOrigin(zuulRequest);
+        prewarmOrigin(origin, ctx);
         originTimeoutManager = getTimeoutManager(origin);
         requestAttempts = RequestAttempts.getFromSessionContext(context);
         passport = CurrentPassport.fromSessionContext(context);
@@ -282,6 +307,7 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
             originResponseReceiver.unlinkFromClientRequest();
             originResponseReceiver = null;
         }
+        ProxyBackpressure.unlink(context);
 
         if (concurrentReqCount.get() > 0) {
             origin.recordProxyRequestEnd();
@@ -303,6 +329,7 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
     }
 
     public void finish(boolean error) {
+        cancelHedge();
         Channel origCh = unlinkFromOrigin();
 
         while (concurrentReqCount.get() > 0) {
@@ -369,6 +396,7 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
             proxiedRequestWithoutBuffering = true;
             ByteBufUtil.touch(chunk, "ProxyEndpoint writing chunk to origin, request: ", zuulReq);
             originConn.getChannel().writeAndFlush(chunk);
+            ProxyBackpressure.onRequestChunkWritten(context);
             return null;
         }
 
@@ -484,6 +512,7 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
              * throw an exception, skipping the logic below.
              */
             timeLeftForAttempt = originTimeoutManager.computeReadTimeout(zuulRequest, attemptNum);
+            context.put(CommonContextKeys.ORIGIN_ATTEMPT_TIMEOUT, timeLeftForAttempt);
 
             currentRequestStat = createRequestStat();
             origin.preRequestChecks(zuulRequest);
@@ -607,22 +636,33 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
 
         preWriteToOrigin(chosenServer.get(), zuulRequest);
 
-        ChannelPipeline pipeline = ch.pipeline();
         originResponseReceiver = getOriginResponseReceiver();
-        pipeline.addBefore(
-                DefaultOriginChannelInitializer.CONNECTION_POOL_HANDLER,
-                OriginResponseReceiver.CHANNEL_HANDLER_NAME,
-                originResponseReceiver);
+        SwitchableOriginHandler.attachReceiver(ch.pipeline(), originResponseReceiver);
+
+        // The hedge needs its own view of the body, taken before the writes below advance the reader indexes.
+        long hedgeDelayMillis = hedgeDelayMillis(readTimeout);
+        if (hedgeDelayMillis >= 0) {
+            hedgeBody = duplicateBufferedBodyContent(zuulRequest);
+        }
 
         ch.write(zuulRequest);
         writeBufferedBodyContent(zuulRequest, ch);
         ch.flush();
+        originWriteStartNanos = System.nanoTime();
+        RequestBodyFlowControl.resume(zuulRequest);
 
         // Get ready to read origin's response
+        ProxyBackpressure.link(context, channelCtx.channel(), ch);
         syncClientAndOriginChannels(channelCtx.channel(), ch);
         ch.read();
 
         originConn = conn;
+        if (hedgeBody != null) {
+            hedgeTimer = channelCtx
+                    .channel()
+                    .eventLoop()
+                    .schedule(this::startHedge, hedgeDelayMillis, TimeUnit.MILLISECONDS);
+        }
         channelCtx.read();
     }
 
@@ -644,6 +684,201 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
         });
     }
 
+    private static List<HttpContent> duplicateBufferedBodyContent(HttpRequestMessage zuulRequest) {
+        List<HttpContent> copy = new ArrayList<>();
+        for (HttpContent chunk : zuulRequest.getBodyContents()) {
+            copy.add(chunk.replace(chunk.content().retainedDuplicate()));
+        }
+        return copy;
+    }
+
+    /**
+     * Only the first attempt of a fully buffered, idempotent request is hedged, and only if the origin's hedge policy
+     * allows it.
+     *
+     * @return the delay after which to send the hedge, or -1 if this request should not be hedged.
+     */
+    private long hedgeDelayMillis(Duration readTimeout) {
+        HedgePolicy policy = origin.getHedgePolicy();
+        if (policy == null
+                || attemptNum != 1
+                || hedge != null
+                || proxiedRequestWithoutBuffering
+                || !zuulRequest.hasCompleteBody()
+                || !IDEMPOTENT_HTTP_METHODS.contains(zuulRequest.getMethod().toUpperCase(Locale.ROOT))) {
+            return -1;
+        }
+        long delay = policy.onEligibleRequest();
+        return delay < readTimeout.toMillis() ? delay : -1;
+    }
+
+    private void startHedge() {
+        hedgeTimer = null;
+        try {
+            methodBinding.bind(this::sendHedge);
+        } catch (Exception e) {
+            logger.warn("Error while hedging request to origin, UUID {}", context.getUUID(), e);
+            cancelHedge();
+        }
+    }
+
+    private void sendHedge() {
+        if (originConn == null
+                || startedSendingResponseToClient
+                || context.isCancelled()
+                || !origin.getHedgePolicy().tryAcquireHedge()) {
+            releaseHedgeBody();
+            return;
+        }
+
+        HedgeAttempt attempt = new HedgeAttempt();
+        hedge = attempt;
+        attempt.requestStat = createRequestStat();
+        // The primary attempt stays the current one until the hedge wins.
+        RequestStat.putInSessionContext(currentRequestStat, context);
+
+        Promise<PooledConnection> promise = origin.connectToOrigin(
+                zuulRequest,
+                channelCtx.channel().eventLoop(),
+                attemptNum + 1,
+                passport,
+                attempt.server,
+                attempt.hostAddr);
+        if (promise.isDone()) {
+            onHedgeConnected(attempt, promise);
+        } else {
+            promise.addListener(future -> {
+                try {
+                    methodBinding.bind(() -> onHedgeConnected(attempt, promise));
+                } catch (Exception e) {
+                    logger.warn("Error while hedging request to origin, UUID {}", context.getUUID(), e);
+                    abandonHedge(attempt);
+                }
+            });
+        }
+    }
+
+    private void onHedgeConnected(HedgeAttempt attempt, Future<PooledConnection> connectResult) {
+        if (!connectResult.isSuccess()) {
+            abandonHedge(attempt);
+            return;
+        }
+
+        PooledConnection conn = connectResult.getNow();
+        DiscoveryResult server = attempt.server.get();
+        if (hedge != attempt || Objects.equals(server, chosenServer.get())) {
+            // Either the primary attempt already finished, or the load balancer handed back the same server.  The
+            // connection wasn't used, so it can go back to the pool.
+            conn.setConnectionState(PooledConnection.ConnectionState.WRITE_READY);
+            conn.release();
+            abandonHedge(attempt);
+            return;
+        }
+
+        attempt.requestStat.server(server);
+        attempt.conn = conn;
+        Channel ch = conn.getChannel();
+        ch.attr(ClientTimeoutHandler.ORIGIN_RESPONSE_READ_TIMEOUT).set(timeLeftForAttempt);
+
+        preWriteToOrigin(server, zuulRequest);
+
+        attempt.receiver = getOriginResponseReceiver();
+        SwitchableOriginHandler.attachReceiver(ch.pipeline(), attempt.receiver);
+
+        ch.write(zuulRequest);
+        hedgeBody.forEach(ch::write);
+        hedgeBody = null;
+        ch.flush();
+        attempt.writeStartNanos = System.nanoTime();
+        ch.read();
+    }
+
+    /**
+     * Makes the hedge the current attempt, and closes the connection of the attempt it replaces since that one still
+     * has a request in flight.
+     */
+    private void promoteHedge(HedgeAttempt attempt, @Nullable Throwable primaryError) {
+        hedge = null;
+
+        if (originResponseReceiver != null) {
+            originResponseReceiver.unlinkFromClientRequest();
+        }
+        if (originConn != null) {
+            originConn.flagShouldClose();
+            originConn.release();
+        }
+        if (currentRequestStat != null && primaryError != null) {
+            currentRequestStat.failAndSetErrorCode(requestAttemptFactory.mapNettyToOutboundErrorType(primaryError));
+        }
+        if (currentRequestAttempt != null) {
+            currentRequestAttempt.complete(-1, currentRequestStat.duration(), primaryError);
+        }
+
+        attemptNum += 1;
+        chosenServer.set(attempt.server.get());
+        chosenHostAddr.set(attempt.hostAddr.get());
+        currentRequestStat = attempt.requestStat;
+        RequestStat.putInSessionContext(currentRequestStat, context);
+        origin.onRequestStartWithServer(zuulRequest, chosenServer.get(), attemptNum);
+        storeAndLogOriginRequestInfo();
+        currentRequestAttempt =
+                origin.newRequestAttempt(chosenServer.get(), chosenHostAddr.get(), context, attemptNum);
+        currentRequestAttempt.setReadTimeout(timeLeftForAttempt.toMillis());
+        requestAttempts.add(currentRequestAttempt);
+
+        originConn = attempt.conn;
+        originResponseReceiver = attempt.receiver;
+        originWriteStartNanos = attempt.writeStartNanos;
+        Channel ch = originConn.getChannel();
+        passport.setOnChannel(ch);
+        context.put(CommonContextKeys.ORIGIN_CHANNEL, ch);
+        context.set(POOLED_ORIGIN_CONNECTION_KEY, originConn);
+        ProxyBackpressure.link(context, channelCtx.channel(), ch);
+        syncClientAndOriginChannels(channelCtx.channel(), ch);
+    }
+
+    /**
+     * Drops the hedge, closing its connection if the request was already written to it.  A hedge that is still
+     * connecting releases its connection back to the pool once acquired, see {@link #onHedgeConnected}.
+     */
+    private void abandonHedge(HedgeAttempt attempt) {
+        if (hedge == attempt) {
+            hedge = null;
+            releaseHedgeBody();
+        }
+        if (attempt.receiver != null) {
+            attempt.receiver.unlinkFromClientRequest();
+            attempt.receiver = null;
+        }
+        if (attempt.conn != null) {
+            attempt.conn.flagShouldClose();
+            attempt.conn.release();
+            attempt.conn = null;
+        }
+        if (attempt.requestStat != null && requestStats.remove(attempt.requestStat)) {
+            attempt.requestStat.finalAttempt(false);
+            attempt.requestStat.finishIfNotAlready();
+        }
+    }
+
+    private void cancelHedge() {
+        if (hedgeTimer != null) {
+            hedgeTimer.cancel(false);
+            hedgeTimer = null;
+        }
+        releaseHedgeBody();
+        if (hedge != null) {
+            abandonHedge(hedge);
+        }
+    }
+
+    private void releaseHedgeBody() {
+        if (hedgeBody != null) {
+            hedgeBody.forEach(ReferenceCountUtil::safeRelease);
+            hedgeBody = null;
+        }
+    }
+
     protected boolean isRemoteZuulRetriesBelowRetryLimit(int maxAllowedRetries) {
         // override for custom header checking..
         return true;
@@ -654,7 +889,40 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
         return (attemptNum <= maxAllowedRetries) && isRemoteZuulRetriesBelowRetryLimit(maxAllowedRetries);
     }
 
+    /**
+     * Checked after {@link #isBelowRetryLimit()}, and spends a retry from the origin's budget if there is one.
+     */
+    protected boolean isWithinRetryBudget() {
+        RetryBudget retryBudget = origin.getRetryBudget();
+        return retryBudget == null || retryBudget.tryAcquireRetry();
+    }
+
+    /**
+     * Called by an {@link OriginResponseReceiver} when its origin connection fails.  Errors on a hedge just drop the
+     * hedge, while an error on the primary attempt hands the request over to an in-flight hedge instead of retrying.
+     */
+    public void errorFromOrigin(OriginResponseReceiver receiver, Throwable ex) {
+        HedgeAttempt attempt = hedge;
+        if (attempt != null && attempt.receiver != null) {
+            if (receiver == attempt.receiver) {
+                attempt.conn.getServer().addToFailureCount();
+                abandonHedge(attempt);
+                return;
+            }
+            if (receiver == originResponseReceiver && isRequestReplayable()) {
+                if (originConn != null) {
+                    originConn.getServer().incrementSuccessiveConnectionFailureCount();
+                    originConn.getServer().addToFailureCount();
+                }
+                promoteHedge(attempt, ex);
+                return;
+            }
+        }
+        errorFromOrigin(ex);
+    }
+
     public void errorFromOrigin(Throwable ex) {
+        cancelHedge();
         try {
             // Flag that there was an origin server related error for the loadbalancer to choose
             // whether to circuit-trip this server.
@@ -731,7 +999,7 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
                 origin.adjustRetryPolicyIfNeeded(zuulRequest);
             }
 
-            if (retryable && isBelowRetryLimit()) {
+            if (retryable && isBelowRetryLimit() && isWithinRetryBudget()) {
                 // retry request with different origin
                 passport.add(PassportState.ORIGIN_RETRY_START);
                 proxyRequestToOrigin();
@@ -829,7 +1097,28 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
         }
     }
 
+    /**
+     * Called by an {@link OriginResponseReceiver} with the response head from its origin connection.  The first
+     * response head to arrive wins, so a hedge that answers before the primary attempt replaces it.
+     */
+    public void responseFromOrigin(OriginResponseReceiver receiver, HttpResponse originResponse) {
+        HedgePolicy policy = origin.getHedgePolicy();
+        HedgeAttempt attempt = hedge;
+        if (attempt != null && receiver == attempt.receiver) {
+            promoteHedge(attempt, null);
+            if (policy != null) {
+                policy.onHedgeWon();
+            }
+        }
+        // The latencies are only needed to pick the hedge delay, so don't touch them for origins that don't hedge.
+        if (policy != null && policy.isEnabled() && originWriteStartNanos > 0) {
+            policy.recordResponseLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - originWriteStartNanos));
+        }
+        responseFromOrigin(originResponse);
+    }
+
     private void processResponseFromOrigin(HttpResponse originResponse) {
+        cancelHedge();
         if (originResponse.status().code() >= 500) {
             handleOriginNonSuccessResponse(originResponse, chosenServer.get());
         } else {
@@ -839,6 +1128,10 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
 
     protected void handleOriginSuccessResponse(HttpResponse originResponse, DiscoveryResult chosenServer) {
         origin.recordSuccessResponse();
+        RetryBudget retryBudget = origin.getRetryBudget();
+        if (retryBudget != null) {
+            retryBudget.recordSuccess();
+        }
         if (originConn != null) {
             originConn.getServer().clearSuccessiveConnectionFailureCount();
         }
@@ -866,12 +1159,8 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
         // Translate the netty HttpResponse into a zuul HttpResponseMessage.
         SessionContext zuulCtx = context;
         int respStatus = httpResponse.status().code();
-        HttpResponseMessage zuulResponse = new HttpResponseMessageImpl(zuulCtx, zuulRequest, respStatus);
-
-        Headers respHeaders = zuulResponse.getHeaders();
-        for (Map.Entry<String, String> entry : httpResponse.headers()) {
-            respHeaders.add(entry.getKey(), entry.getValue());
-        }
+        HttpResponseMessage zuulResponse = new HttpResponseMessageImpl(
+                zuulCtx, Headers.wrap(httpResponse.headers()), zuulRequest, respStatus);
 
         // Try to decide if this response has a body or not based on the headers (as we won't yet have
         // received any of the content).
@@ -957,7 +1246,7 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
             origin.adjustRetryPolicyIfNeeded(zuulRequest);
         }
 
-        if (retryable5xxResponse && isBelowRetryLimit()) {
+        if (retryable5xxResponse && isBelowRetryLimit() && isWithinRetryBudget()) {
             logger.debug(
                     "Retrying: status={}, attemptNum={}, maxRetries={}, startedSendingResponseToClient={},"
                             + " hasCompleteBody={}, method={}",
@@ -1118,6 +1407,17 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
         return null;
     }
 
+    /**
+     * Origins are created on their first request, so that is when their connection pools start warming up on every
+     * event loop of the server.  Later calls have no effect.
+     */
+    protected void prewarmOrigin(@Nullable NettyOrigin origin, ChannelHandlerContext ctx) {
+        EventLoopGroup eventLoopGroup = ctx.channel().eventLoop().parent();
+        if (origin != null && eventLoopGroup != null) {
+            origin.prewarm(eventLoopGroup);
+        }
+    }
+
     private NettyOrigin getOrCreateOrigin(
             OriginManager<NettyOrigin> originManager, OriginName originName, String uri, SessionContext ctx) {
         NettyOrigin origin = originManager.getOrigin(originName, uri, ctx);
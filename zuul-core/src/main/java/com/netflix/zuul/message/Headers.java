@@ -19,14 +19,19 @@ import com.google.common.annotations.VisibleForTesting;
 import com.netflix.spectator.api.Counter;
 import com.netflix.spectator.api.Spectator;
 import com.netflix.zuul.exception.ZuulException;
+import io.netty.handler.codec.http.DefaultHttpHeadersFactory;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpHeadersFactory;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -43,17 +48,48 @@ import javax.annotation.Nullable;
 public final class Headers {
     private static final int ABSENT = -1;
 
-    private final List<String> originalNames;
-    private final List<String> names;
-    private final List<String> values;
+    /**
+     * Makes the copies of wrapped Netty headers, which are changed as freely as the lists are.
+     */
+    private static final HttpHeadersFactory UNVALIDATED_HEADERS =
+            DefaultHttpHeadersFactory.headersFactory().withValidation(false);
+
+    private List<String> originalNames;
+    private List<String> names;
+    private List<String> values;
+
+    /**
+     * Set when the headers were created by {@link #wrap(HttpHeaders)}, in which case they are kept here rather than
+     * in the lists.  Names and values are then only turned into Strings when they are looked up.
+     */
+    @Nullable private HttpHeaders nettyHeaders;
+
+    /**
+     * Set when the lists, or the Netty headers, are shared with a copy made by {@link #copyOf(Headers)} or with the
+     * Netty message they were wrapped from.  They are copied before the first change, so a copy that is never
+     * changed costs nothing.
+     */
+    private boolean shared;
 
     private static final Counter invalidHeaderCounter =
             Spectator.globalRegistry().counter("zuul.header.invalid.char");
 
+    /**
+     * Returns a copy of the given headers.  The copy shares its entries with the original until either of them is
+     * changed.
+     */
     public static Headers copyOf(Headers original) {
         return new Headers(Objects.requireNonNull(original, "original"));
     }
 
+    /**
+     * Returns headers backed by the given Netty headers, without copying them.  The Netty headers themselves are
+     * never changed; they are copied on the first change to the returned headers.
+     */
+    public static Headers wrap(HttpHeaders nettyHeaders) {
+        return new Headers(Objects.requireNonNull(nettyHeaders, "nettyHeaders"));
+    }
+
     public Headers() {
         originalNames = new ArrayList<>();
         names = new ArrayList<>();
@@ -67,9 +103,17 @@ public final class Headers {
     }
 
     private Headers(Headers original) {
-        originalNames = new ArrayList<>(original.originalNames);
-        names = new ArrayList<>(original.names);
-        values = new ArrayList<>(original.values);
+        originalNames = original.originalNames;
+        names = original.names;
+        values = original.values;
+        nettyHeaders = original.nettyHeaders;
+        shared = true;
+        original.shared = true;
+    }
+
+    private Headers(HttpHeaders nettyHeaders) {
+        this.nettyHeaders = nettyHeaders;
+        shared = true;
     }
 
     /**
@@ -117,6 +161,9 @@ public final class Headers {
     }
 
     @Nullable private String getFirstNormal(String name) {
+        if (nettyHeaders != null) {
+            return nettyHeaders.get(name);
+        }
         for (int i = 0; i < size(); i++) {
             if (name(i).equals(name)) {
                 return value(i);
@@ -142,6 +189,10 @@ public final class Headers {
     }
 
     private List<String> getAllNormal(String normalName) {
+        if (nettyHeaders != null) {
+            List<String> all = nettyHeaders.getAll(normalName);
+            return all.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(all);
+        }
         List<String> results = null;
         for (int i = 0; i < size(); i++) {
             if (name(i).equals(normalName)) {
@@ -164,11 +215,33 @@ public final class Headers {
      * the headers during iteration.
      */
     public void forEachNormalised(BiConsumer<? super String, ? super String> entryConsumer) {
+        if (nettyHeaders != null) {
+            forEachEntry((originalName, normalName, value) -> entryConsumer.accept(normalName, value));
+            return;
+        }
         for (int i = 0; i < size(); i++) {
             entryConsumer.accept(name(i), value(i));
         }
     }
 
+    /**
+     * Iterates over the header entries with the given consumer.  The first argument will be the original header name
+     * as returned by {@link HeaderName#getName()}.  The second argument will be the value.  Do not modify the headers
+     * during iteration.
+     */
+    public void forEachOriginal(BiConsumer<? super String, ? super String> entryConsumer) {
+        if (nettyHeaders != null) {
+            for (Iterator<Entry<String, String>> it = nettyHeaders.iteratorAsString(); it.hasNext(); ) {
+                Entry<String, String> entry = it.next();
+                entryConsumer.accept(entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+        for (int i = 0; i < size(); i++) {
+            entryConsumer.accept(originalName(i), value(i));
+        }
+    }
+
     /**
      * Replace any/all entries with this key, with this single entry.
      *
@@ -240,6 +313,16 @@ public final class Headers {
     }
 
     private void setNormal(String originalName, String normalName, @Nullable String value) {
+        if (nettyHeaders != null) {
+            if (value != null) {
+                ensureWritable();
+                nettyHeaders.set(originalName, value);
+            } else if (nettyHeaders.contains(normalName)) {
+                ensureWritable();
+                nettyHeaders.remove(normalName);
+            }
+            return;
+        }
         int i = findNormal(normalName);
         if (i == ABSENT) {
             if (value != null) {
@@ -313,8 +396,7 @@ public final class Headers {
     }
 
     private boolean setIfAbsentNormal(String originalName, String normalName, String value) {
-        int i = findNormal(normalName);
-        if (i != ABSENT) {
+        if (containsNormal(normalName)) {
             return false;
         }
         addNormal(originalName, normalName, value);
@@ -421,9 +503,7 @@ public final class Headers {
      * Adds all the headers into this headers object.
      */
     public void putAll(Headers headers) {
-        for (int i = 0; i < headers.size(); i++) {
-            addNormal(headers.originalName(i), headers.name(i), headers.value(i));
-        }
+        headers.forEachEntry(this::addNormal);
     }
 
     /**
@@ -443,6 +523,15 @@ public final class Headers {
     }
 
     private List<String> removeNormal(String normalName) {
+        if (nettyHeaders != null) {
+            if (!nettyHeaders.contains(normalName)) {
+                return Collections.emptyList();
+            }
+            ensureWritable();
+            List<String> removed = nettyHeaders.getAll(normalName);
+            nettyHeaders.remove(normalName);
+            return Collections.unmodifiableList(removed);
+        }
         List<String> removed = new ArrayList<>();
         clearMatchingStartingAt(0, normalName, removed);
         return Collections.unmodifiableList(removed);
@@ -456,6 +545,7 @@ public final class Headers {
      */
     public boolean removeIf(Predicate<? super Map.Entry<HeaderName, String>> filter) {
         Objects.requireNonNull(filter, "filter");
+        unwrap();
         boolean removed = false;
         int w = 0;
         for (int r = 0; r < size(); r++) {
@@ -477,9 +567,8 @@ public final class Headers {
      */
     public Collection<Header> entries() {
         List<Header> entries = new ArrayList<>(size());
-        for (int i = 0; i < size(); i++) {
-            entries.add(new Header(new HeaderName(originalName(i), name(i)), value(i)));
-        }
+        forEachEntry((originalName, normalName, value) ->
+                entries.add(new Header(new HeaderName(originalName, normalName), value)));
         return Collections.unmodifiableList(entries);
     }
 
@@ -489,14 +578,14 @@ public final class Headers {
      */
     public Set<HeaderName> keySet() {
         Set<HeaderName> headerNames = new LinkedHashSet<>(size());
-        for (int i = 0; i < size(); i++) {
-            HeaderName headerName = new HeaderName(originalName(i), name(i));
+        forEachEntry((originalName, normalName, value) -> {
+            HeaderName headerName = new HeaderName(originalName, normalName);
             // We actually do need to check contains before adding to the set because the original name may change.
             // In this case, the first name wins.
             if (!headerNames.contains(headerName)) {
                 headerNames.add(headerName);
             }
-        }
+        });
         return Collections.unmodifiableSet(headerNames);
     }
 
@@ -505,7 +594,7 @@ public final class Headers {
      */
     public boolean contains(String headerName) {
         String normalName = HeaderName.normalize(Objects.requireNonNull(headerName, "headerName"));
-        return findNormal(normalName) != ABSENT;
+        return containsNormal(normalName);
     }
 
     /**
@@ -513,6 +602,13 @@ public final class Headers {
      */
     public boolean contains(HeaderName headerName) {
         String normalName = Objects.requireNonNull(headerName, "headerName").getNormalised();
+        return containsNormal(normalName);
+    }
+
+    private boolean containsNormal(String normalName) {
+        if (nettyHeaders != null) {
+            return nettyHeaders.contains(normalName);
+        }
         return findNormal(normalName) != ABSENT;
     }
 
@@ -535,6 +631,9 @@ public final class Headers {
     }
 
     private boolean containsNormal(String normalName, String value) {
+        if (nettyHeaders != null) {
+            return nettyHeaders.contains(normalName, value, false);
+        }
         for (int i = 0; i < size(); i++) {
             if (name(i).equals(normalName) && value(i).equals(value)) {
                 return true;
@@ -547,7 +646,21 @@ public final class Headers {
      * Returns the number of header entries.
      */
     public int size() {
-        return names.size();
+        return nettyHeaders != null ? nettyHeaders.size() : names.size();
+    }
+
+    /**
+     * Adds all the headers to the given Netty headers.  Headers created by {@link #wrap(HttpHeaders)} are added
+     * entry by entry, without turning their names and values into Strings.
+     */
+    public void addTo(HttpHeaders target) {
+        if (nettyHeaders != null) {
+            target.add(nettyHeaders);
+            return;
+        }
+        for (int i = 0; i < size(); i++) {
+            target.add(originalName(i), value(i));
+        }
     }
 
     /**
@@ -580,9 +693,7 @@ public final class Headers {
 
     private Map<String, List<String>> asMap() {
         Map<String, List<String>> map = new LinkedHashMap<>(size());
-        for (int i = 0; i < size(); i++) {
-            map.computeIfAbsent(name(i), k -> new ArrayList<>(1)).add(value(i));
-        }
+        forEachNormalised((name, value) -> map.computeIfAbsent(name, k -> new ArrayList<>(1)).add(value));
         // Return an unwrapped collection since it should not ever be returned on the API.
         return map;
     }
@@ -600,6 +711,7 @@ public final class Headers {
     }
 
     private void originalName(int i, String originalName) {
+        ensureWritable();
         originalNames.set(i, originalName);
     }
 
@@ -608,6 +720,7 @@ public final class Headers {
     }
 
     private void name(int i, String name) {
+        ensureWritable();
         names.set(i, name);
     }
 
@@ -616,19 +729,85 @@ public final class Headers {
     }
 
     private void value(int i, String val) {
+        ensureWritable();
         values.set(i, val);
     }
 
     private void addNormal(String originalName, String normalName, String value) {
+        ensureWritable();
+        if (nettyHeaders != null) {
+            nettyHeaders.add(originalName, value);
+            return;
+        }
         originalNames.add(originalName);
         names.add(normalName);
         values.add(value);
     }
 
+    /**
+     * Gives this instance its own lists, if they are still shared with a copy.
+     */
+    private void ensureWritable() {
+        if (shared) {
+            if (nettyHeaders != null) {
+                nettyHeaders = UNVALIDATED_HEADERS.newHeaders().add(nettyHeaders);
+            } else {
+                originalNames = new ArrayList<>(originalNames);
+                names = new ArrayList<>(names);
+                values = new ArrayList<>(values);
+            }
+            shared = false;
+        }
+    }
+
+    /**
+     * Moves wrapped Netty headers into the lists, for the few operations that work on the lists by index.
+     */
+    private void unwrap() {
+        if (nettyHeaders == null) {
+            return;
+        }
+        int size = nettyHeaders.size();
+        List<String> unwrappedOriginalNames = new ArrayList<>(size);
+        List<String> unwrappedNames = new ArrayList<>(size);
+        List<String> unwrappedValues = new ArrayList<>(size);
+        forEachEntry((originalName, normalName, value) -> {
+            unwrappedOriginalNames.add(originalName);
+            unwrappedNames.add(normalName);
+            unwrappedValues.add(value);
+        });
+        originalNames = unwrappedOriginalNames;
+        names = unwrappedNames;
+        values = unwrappedValues;
+        nettyHeaders = null;
+        shared = false;
+    }
+
+    private void forEachEntry(EntryConsumer consumer) {
+        if (nettyHeaders != null) {
+            for (Iterator<Entry<CharSequence, CharSequence>> it = nettyHeaders.iteratorCharSequence(); it.hasNext(); ) {
+                Entry<CharSequence, CharSequence> entry = it.next();
+                String originalName = entry.getKey().toString();
+                consumer.accept(originalName, HeaderName.normalize(originalName), entry.getValue().toString());
+            }
+            return;
+        }
+        for (int i = 0; i < size(); i++) {
+            consumer.accept(originalName(i), name(i), value(i));
+        }
+    }
+
+    private interface EntryConsumer {
+        void accept(String originalName, String normalName, String value);
+    }
+
     /**
      * Removes all elements at and after the given index.
      */
     private void truncate(int i) {
+        if (i < size()) {
+            ensureWritable();
+        }
         for (int k = size() - 1; k >= i; k--) {
             originalNames.remove(k);
             names.remove(k);
@@ -20,6 +20,7 @@ import com.google.common.base.Strings;
 import com.netflix.config.DynamicIntProperty;
 import com.netflix.config.DynamicPropertyFactory;
 import com.netflix.netty.common.ByteBufUtil;
+import com.netflix.netty.common.metrics.ByteBufOwner;
 import com.netflix.zuul.context.SessionContext;
 import com.netflix.zuul.filters.ZuulFilter;
 import com.netflix.zuul.message.http.HttpHeaderNames;
@@ -47,6 +48,7 @@ public class ZuulMessageImpl implements ZuulMessage {
     private boolean hasBody;
     private boolean bodyBufferedCompletely;
     private final List<HttpContent> bodyChunks;
+    private int bufferedBodyBytes;
 
     public ZuulMessageImpl(SessionContext context) {
         this(context, new Headers());
@@ -98,6 +100,7 @@ public class ZuulMessageImpl implements ZuulMessage {
         setHasBody(true);
         ByteBufUtil.touch(chunk, "ZuulMessage buffering body content.");
         bodyChunks.add(chunk);
+        holdBodyBytes(chunk.content().readableBytes());
         if (chunk instanceof LastHttpContent) {
             ByteBufUtil.touch(chunk, "ZuulMessage buffering body content complete.");
             bodyBufferedCompletely = true;
@@ -199,6 +202,13 @@ public class ZuulMessageImpl implements ZuulMessage {
             }
         });
         bodyChunks.clear();
+        ByteBufOwner.BUFFERED_BODY.release(bufferedBodyBytes);
+        bufferedBodyBytes = 0;
+    }
+
+    private void holdBodyBytes(int length) {
+        bufferedBodyBytes += length;
+        ByteBufOwner.BUFFERED_BODY.hold(length);
     }
 
     @Override
@@ -209,11 +219,15 @@ public class ZuulMessageImpl implements ZuulMessage {
         for (int i = 0; i < bodyChunks.size(); i++) {
             HttpContent origChunk = bodyChunks.get(i);
             ByteBufUtil.touch(origChunk, "ZuulMessage processing chunk, filter: ", filterName);
+            int origLength = origChunk.content().readableBytes();
             HttpContent filteredChunk = filter.processContentChunk(this, origChunk);
             ByteBufUtil.touch(filteredChunk, "ZuulMessage processing filteredChunk, filter: ", filterName);
             if ((filteredChunk != null) && (filteredChunk != origChunk)) {
                 // filter actually did some processing, set the new chunk in and release the old chunk.
                 bodyChunks.set(i, filteredChunk);
+                bufferedBodyBytes -= origLength;
+                ByteBufOwner.BUFFERED_BODY.release(origLength);
+                holdBodyBytes(filteredChunk.content().readableBytes());
                 int refCnt = origChunk.refCnt();
                 if (refCnt > 0) {
                     origChunk.release(refCnt);
@@ -70,6 +70,8 @@ public final class HttpHeaderNames {
     public static final HeaderName CACHE_CONTROL = HEADER_NAME_CACHE.get("Cache-Control");
     public static final HeaderName EDGE_CONTROL = HEADER_NAME_CACHE.get("Edge-Control");
     public static final HeaderName PRAGMA = HEADER_NAME_CACHE.get("Pragma");
+    public static final HeaderName AGE = HEADER_NAME_CACHE.get("Age");
+    public static final HeaderName WARNING = HEADER_NAME_CACHE.get("Warning");
 
     public static final HeaderName X_FORWARDED_HOST = HEADER_NAME_CACHE.get("X-Forwarded-Host");
     public static final HeaderName X_FORWARDED_FOR = HEADER_NAME_CACHE.get("X-Forwarded-For");
@@ -16,10 +16,10 @@
 package com.netflix.zuul.message.http;
 
 import com.google.common.base.Strings;
-import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -37,19 +37,25 @@ import java.util.StringTokenizer;
  * Time: 10:58 AM
  */
 public class HttpQueryParams implements Cloneable {
-    private final ListMultimap<String, String> delegate;
+    private ListMultimap<String, String> delegate;
     private final boolean immutable;
     private final Map<String, Boolean> trailingEquals;
 
+    /**
+     * Set when the delegate is shared with a copy made by {@link #immutableCopy()}, which this instance must copy
+     * before its first change.
+     */
+    private boolean shared;
+
     public HttpQueryParams() {
         delegate = LinkedListMultimap.create();
         immutable = false;
         trailingEquals = new HashMap<>();
     }
 
-    private HttpQueryParams(ListMultimap<String, String> delegate) {
+    private HttpQueryParams(ListMultimap<String, String> delegate, boolean immutable) {
         this.delegate = delegate;
-        immutable = ImmutableListMultimap.class.isAssignableFrom(delegate.getClass());
+        this.immutable = immutable;
         trailingEquals = new HashMap<>();
     }
 
@@ -136,19 +142,23 @@ public class HttpQueryParams implements Cloneable {
      * Replace any/all entries with this key, with this single entry.
      */
     public void set(String name, String value) {
+        ensureWritable();
         delegate.removeAll(name);
         delegate.put(name, value);
     }
 
     public void add(String name, String value) {
+        ensureWritable();
         delegate.put(name, value);
     }
 
     public void removeAll(String name) {
+        ensureWritable();
         delegate.removeAll(name);
     }
 
     public void clear() {
+        ensureWritable();
         delegate.clear();
     }
 
@@ -206,8 +216,24 @@ public class HttpQueryParams implements Cloneable {
         return copy;
     }
 
+    /**
+     * Returns an immutable copy of these params.  The copy shares its entries with this instance until this instance
+     * is changed through its own methods; the collections returned by {@link #get}, {@link #entries()} and
+     * {@link #keySet()} must not be used to change it.
+     */
     public HttpQueryParams immutableCopy() {
-        return new HttpQueryParams(ImmutableListMultimap.copyOf(delegate));
+        if (immutable) {
+            return new HttpQueryParams(delegate, true);
+        }
+        shared = true;
+        return new HttpQueryParams(Multimaps.unmodifiableListMultimap(delegate), true);
+    }
+
+    private void ensureWritable() {
+        if (shared) {
+            delegate = LinkedListMultimap.create(delegate);
+            shared = false;
+        }
     }
 
     public boolean isImmutable() {
@@ -444,7 +444,7 @@ public class HttpRequestMessageImpl implements HttpRequestMessage {
     }
 
     protected HttpRequestInfo copyRequestInfo() {
-
+        // The query params and headers are copied on write, so a request the filters don't change is never copied.
         HttpRequestMessageImpl req = new HttpRequestMessageImpl(
                 message.getContext(),
                 protocol,
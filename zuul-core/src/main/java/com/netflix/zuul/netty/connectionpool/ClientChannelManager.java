@@ -19,8 +19,11 @@ package com.netflix.zuul.netty.connectionpool;
 import com.netflix.zuul.discovery.DiscoveryResult;
 import com.netflix.zuul.passport.CurrentPassport;
 import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import io.netty.util.concurrent.Promise;
 import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -52,8 +55,28 @@ public interface ClientChannelManager {
             AtomicReference<DiscoveryResult> selectedServer,
             AtomicReference<? super InetAddress> selectedHostAddr);
 
+    /**
+     * Same as {@link #acquire(EventLoop, Object, CurrentPassport, AtomicReference, AtomicReference)}, but waits at
+     * most {@code maxWait} for a connection when the chosen server is at its connection limit.
+     */
+    default Promise<PooledConnection> acquire(
+            EventLoop eventLoop,
+            Object key,
+            CurrentPassport passport,
+            AtomicReference<DiscoveryResult> selectedServer,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            Duration maxWait) {
+        return acquire(eventLoop, key, passport, selectedServer, selectedHostAddr);
+    }
+
     boolean isCold();
 
+    /**
+     * Opens idle connections ahead of demand on each event loop of the group, if the origin is configured for it.
+     * Calling this again for the same group has no effect.
+     */
+    default void prewarm(EventLoopGroup eventLoopGroup) {}
+
     boolean remove(PooledConnection conn);
 
     int getConnsInPool();
@@ -61,4 +84,11 @@ public interface ClientChannelManager {
     int getConnsInUse();
 
     ConnectionPoolConfig getConfig();
+
+    /**
+     * @return a snapshot of the connection pool of each server of the origin.
+     */
+    default List<ServerPoolStats> getServerPoolStats() {
+        return List.of();
+    }
 }
@@ -16,11 +16,13 @@
 
 package com.netflix.zuul.netty.connectionpool;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
 import java.time.Duration;
 import org.slf4j.Logger;
@@ -38,6 +40,44 @@ public final class ClientTimeoutHandler {
     public static final AttributeKey<Duration> ORIGIN_RESPONSE_READ_TIMEOUT =
             AttributeKey.newInstance("originResponseReadTimeout");
 
+    /**
+     * Set while reads from the origin are held back on purpose, to true if the read timeout is to be started once
+     * they resume.
+     */
+    private static final AttributeKey<Boolean> READ_TIMEOUT_SUSPENDED =
+            AttributeKey.newInstance("originResponseReadTimeoutSuspended");
+
+    /**
+     * Stops the read timeout of the origin channel while reads from it are held back, since the origin isn't the one
+     * being slow.  A read timeout that would have started meanwhile is started by {@link #resumeReadTimeout} instead.
+     */
+    public static void suspendReadTimeout(Channel channel) {
+        PooledConnection conn = PooledConnection.getFromChannel(channel);
+        if (conn == null || channel.attr(READ_TIMEOUT_SUSPENDED).get() != null) {
+            return;
+        }
+        boolean started = channel.pipeline().get(PooledConnection.READ_TIMEOUT_HANDLER_NAME) != null;
+        channel.attr(READ_TIMEOUT_SUSPENDED).set(started);
+        if (started) {
+            LOG.debug("[{}] Suspending read timeout handler", channel.id());
+            conn.removeReadTimeoutHandler();
+        }
+    }
+
+    /**
+     * Starts the read timeout of the origin channel again, if it was suspended while running.
+     *
+     * @param restart false if the channel is done with the response, and the read timeout is only to be forgotten.
+     */
+    public static void resumeReadTimeout(Channel channel, boolean restart) {
+        Boolean started = channel.attr(READ_TIMEOUT_SUSPENDED).getAndSet(null);
+        Duration timeout = channel.attr(ORIGIN_RESPONSE_READ_TIMEOUT).get();
+        if (restart && Boolean.TRUE.equals(started) && timeout != null) {
+            LOG.debug("[{}] Resuming read timeout handler: {}", channel.id(), timeout.toMillis());
+            PooledConnection.getFromChannel(channel).startReadTimeoutHandler(timeout);
+        }
+    }
+
     public static final class InboundHandler extends ChannelInboundHandlerAdapter {
         @Override
         public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
@@ -66,6 +106,12 @@ public final class ClientTimeoutHandler {
                 if (timeout != null) {
                     promise.addListener(e -> {
                         if (e.isSuccess()) {
+                            Attribute<Boolean> suspended = ctx.channel().attr(READ_TIMEOUT_SUSPENDED);
+                            if (suspended.get() != null) {
+                                // Reads from the origin are held back, so start it once they resume.
+                                suspended.set(Boolean.TRUE);
+                                return;
+                            }
                             LOG.debug(
                                     "[{}] Adding read timeout handler: {}",
                                     ctx.channel().id(),
@@ -61,4 +61,77 @@ public interface ConnectionPoolConfig {
     default boolean isCloseOnCircuitBreakerEnabled() {
         return true;
     }
+
+    /* idle connections to open ahead of demand, per server per event loop. 0 disables pre-warming */
+    default int minIdleConnectionsPerServer() {
+        return 0;
+    }
+
+    /* delay between pre-warming connects on an event loop, to avoid bursts of connects to an origin */
+    default int getPrewarmConnectInterval() {
+        return 100;
+    }
+
+    /* how often pre-warmed pools are checked and topped back up to the minimum */
+    default int getPrewarmCheckInterval() {
+        return 5000;
+    }
+
+    /* acquires that may wait for a released or closed connection once maxConnectionsPerHost is reached, per server.
+     * 0 fails them straight away */
+    default int maxPendingAcquiresPerServer() {
+        return 0;
+    }
+
+    /* how long an acquire may wait for a connection before failing, when the caller doesn't pass its own limit.
+     * Proxied requests wait for at most the read timeout left for their attempt instead */
+    default int getPendingAcquireTimeout() {
+        return getConnectTimeout();
+    }
+
+    /* when the calling event loop has no idle connection, borrow one pooled on another event loop before connecting */
+    default boolean isConnectionStealingEnabled() {
+        return false;
+    }
+
+    /* start a second, parallel connect to the server when the first one is slower than usual, keeping the winner */
+    default boolean isConnectRacingEnabled() {
+        return false;
+    }
+
+    /* lower bound for how long a connect may take before a racing connect is started */
+    default int getConnectRaceMinDelay() {
+        return 20;
+    }
+
+    /* create TLS engines for the server's IP address and port, so that sessions are cached and resumed per server */
+    default boolean isTlsSessionResumptionEnabled() {
+        return false;
+    }
+
+    /* batch the flushes of one event loop tick into a single flush, flushing right away at the end of a request */
+    default boolean isFlushBatchingEnabled() {
+        return false;
+    }
+
+    /* send the first request bytes with the SYN using TCP_FASTOPEN_CONNECT, only on the epoll transport */
+    default boolean isTcpFastOpenConnectEnabled() {
+        return false;
+    }
+
+    /* close idle connections from a periodic task per event loop, least recently used first, instead of a timer per
+     * connection */
+    default boolean isIdleReaperEnabled() {
+        return false;
+    }
+
+    /* how often the idle reaper checks the pools of an event loop */
+    default int getIdleReaperInterval() {
+        return 1000;
+    }
+
+    /* choose servers with power-of-two-choices using connection pool load, instead of the resolver's own rule */
+    default boolean isLoadAwareServerSelectionEnabled() {
+        return false;
+    }
 }
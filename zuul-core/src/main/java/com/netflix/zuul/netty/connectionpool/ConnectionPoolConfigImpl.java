@@ -33,6 +33,10 @@ public class ConnectionPoolConfigImpl implements ConnectionPoolConfig {
     static final int DEFAULT_MAX_CONNS_PER_HOST = 50;
     static final int DEFAULT_PER_SERVER_WATERLINE = 4;
     static final int DEFAULT_MAX_REQUESTS_PER_CONNECTION = 1000;
+    static final int DEFAULT_PREWARM_CONNECT_INTERVAL = 100;
+    static final int DEFAULT_PREWARM_CHECK_INTERVAL = 5000;
+    static final int DEFAULT_CONNECT_RACE_MIN_DELAY = 20;
+    static final int DEFAULT_IDLE_REAPER_INTERVAL = 1000;
 
     // TODO(argha-c): Document why these values were chosen, as opposed to defaults of 32k/64k
     static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 32 * 1024;
@@ -47,6 +51,52 @@ public class ConnectionPoolConfigImpl implements ConnectionPoolConfig {
     public static final IClientConfigKey<Boolean> CLOSE_ON_CIRCUIT_BREAKER =
             new CommonClientConfigKey<>("CloseOnCircuitBreaker") {};
 
+    /**
+     * NOTE that like the waterline, this is applied per event-loop.
+     */
+    public static final IClientConfigKey<Integer> MIN_IDLE_CONNECTIONS_PER_SERVER =
+            new CommonClientConfigKey<>("MinIdleConnectionsPerServer") {};
+
+    public static final IClientConfigKey<Integer> PREWARM_CONNECT_INTERVAL =
+            new CommonClientConfigKey<>("PrewarmConnectIntervalMs") {};
+
+    public static final IClientConfigKey<Integer> PREWARM_CHECK_INTERVAL =
+            new CommonClientConfigKey<>("PrewarmCheckIntervalMs") {};
+
+    public static final IClientConfigKey<Integer> MAX_PENDING_ACQUIRES_PER_SERVER =
+            new CommonClientConfigKey<>("MaxPendingAcquiresPerServer") {};
+
+    /**
+     * Only applies to acquires that don't pass their own limit, as proxied requests wait for at most the read timeout
+     * left for their attempt.  Defaults to the ConnectTimeout.
+     */
+    public static final IClientConfigKey<Integer> PENDING_ACQUIRE_TIMEOUT =
+            new CommonClientConfigKey<>("PendingAcquireTimeoutMs") {};
+
+    public static final IClientConfigKey<Boolean> CONNECTION_STEALING =
+            new CommonClientConfigKey<>("ConnectionStealing") {};
+
+    public static final IClientConfigKey<Boolean> CONNECT_RACING = new CommonClientConfigKey<>("ConnectRacing") {};
+
+    public static final IClientConfigKey<Integer> CONNECT_RACE_MIN_DELAY =
+            new CommonClientConfigKey<>("ConnectRaceMinDelayMs") {};
+
+    public static final IClientConfigKey<Boolean> TLS_SESSION_RESUMPTION =
+            new CommonClientConfigKey<>("TlsSessionResumption") {};
+
+    public static final IClientConfigKey<Boolean> FLUSH_BATCHING = new CommonClientConfigKey<>("FlushBatching") {};
+
+    public static final IClientConfigKey<Boolean> TCP_FAST_OPEN_CONNECT =
+            new CommonClientConfigKey<>("TcpFastOpenConnect") {};
+
+    public static final IClientConfigKey<Boolean> IDLE_REAPER = new CommonClientConfigKey<>("IdleReaper") {};
+
+    public static final IClientConfigKey<Integer> IDLE_REAPER_INTERVAL =
+            new CommonClientConfigKey<>("IdleReaperIntervalMs") {};
+
+    public static final IClientConfigKey<Boolean> LOAD_AWARE_SERVER_SELECTION =
+            new CommonClientConfigKey<>("LoadAwareServerSelection") {};
+
     public static final IClientConfigKey<Integer> MAX_REQUESTS_PER_CONNECTION =
             new CommonClientConfigKey<>("MaxRequestsPerConnection") {};
 
@@ -151,4 +201,74 @@ public class ConnectionPoolConfigImpl implements ConnectionPoolConfig {
     public boolean isCloseOnCircuitBreakerEnabled() {
         return clientConfig.getPropertyAsBoolean(CLOSE_ON_CIRCUIT_BREAKER, true);
     }
+
+    @Override
+    public int minIdleConnectionsPerServer() {
+        return clientConfig.getPropertyAsInteger(MIN_IDLE_CONNECTIONS_PER_SERVER, 0);
+    }
+
+    @Override
+    public int getPrewarmConnectInterval() {
+        return clientConfig.getPropertyAsInteger(PREWARM_CONNECT_INTERVAL, DEFAULT_PREWARM_CONNECT_INTERVAL);
+    }
+
+    @Override
+    public int getPrewarmCheckInterval() {
+        return clientConfig.getPropertyAsInteger(PREWARM_CHECK_INTERVAL, DEFAULT_PREWARM_CHECK_INTERVAL);
+    }
+
+    @Override
+    public int maxPendingAcquiresPerServer() {
+        return clientConfig.getPropertyAsInteger(MAX_PENDING_ACQUIRES_PER_SERVER, 0);
+    }
+
+    @Override
+    public int getPendingAcquireTimeout() {
+        return clientConfig.getPropertyAsInteger(PENDING_ACQUIRE_TIMEOUT, getConnectTimeout());
+    }
+
+    @Override
+    public boolean isConnectionStealingEnabled() {
+        return clientConfig.getPropertyAsBoolean(CONNECTION_STEALING, false);
+    }
+
+    @Override
+    public boolean isConnectRacingEnabled() {
+        return clientConfig.getPropertyAsBoolean(CONNECT_RACING, false);
+    }
+
+    @Override
+    public int getConnectRaceMinDelay() {
+        return clientConfig.getPropertyAsInteger(CONNECT_RACE_MIN_DELAY, DEFAULT_CONNECT_RACE_MIN_DELAY);
+    }
+
+    @Override
+    public boolean isTlsSessionResumptionEnabled() {
+        return clientConfig.getPropertyAsBoolean(TLS_SESSION_RESUMPTION, false);
+    }
+
+    @Override
+    public boolean isFlushBatchingEnabled() {
+        return clientConfig.getPropertyAsBoolean(FLUSH_BATCHING, false);
+    }
+
+    @Override
+    public boolean isTcpFastOpenConnectEnabled() {
+        return clientConfig.getPropertyAsBoolean(TCP_FAST_OPEN_CONNECT, false);
+    }
+
+    @Override
+    public boolean isIdleReaperEnabled() {
+        return clientConfig.getPropertyAsBoolean(IDLE_REAPER, false);
+    }
+
+    @Override
+    public int getIdleReaperInterval() {
+        return clientConfig.getPropertyAsInteger(IDLE_REAPER_INTERVAL, DEFAULT_IDLE_REAPER_INTERVAL);
+    }
+
+    @Override
+    public boolean isLoadAwareServerSelectionEnabled() {
+        return clientConfig.getPropertyAsBoolean(LOAD_AWARE_SERVER_SELECTION, false);
+    }
 }
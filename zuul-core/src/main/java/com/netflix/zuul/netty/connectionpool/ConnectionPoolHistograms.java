@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.histogram.PercentileDistributionSummary;
+import com.netflix.spectator.api.histogram.PercentileTimer;
+import com.netflix.zuul.origins.OriginName;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distributions describing how the connections of one origin are used, aggregated over all of its servers to keep
+ * the number of time series bounded.  Per server numbers are available from {@link ServerPoolStats}.
+ *
+ * @param acquireTimer time from asking the pool for a connection until one was handed out
+ * @param connectionLifetime age of connections when they close
+ * @param connectionUsageCount number of requests a connection served by the time it closed
+ */
+public record ConnectionPoolHistograms(
+        PercentileTimer acquireTimer,
+        PercentileTimer connectionLifetime,
+        PercentileDistributionSummary connectionUsageCount) {
+
+    public static ConnectionPoolHistograms create(OriginName originName, Registry registry) {
+        String metricId = originName.getMetricId();
+        return new ConnectionPoolHistograms(
+                PercentileTimer.get(registry, registry.createId("connectionpool_acquireTiming", "id", metricId)),
+                PercentileTimer.get(registry, registry.createId("connectionpool_connectionLifetime", "id", metricId)),
+                PercentileDistributionSummary.get(
+                        registry, registry.createId("connectionpool_connectionUsageCount", "id", metricId)));
+    }
+
+    public void recordAcquire(long startNanos) {
+        acquireTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordClosed(PooledConnection conn) {
+        connectionLifetime.record(conn.getAgeInMillis(), TimeUnit.MILLISECONDS);
+        connectionUsageCount.record(conn.getUsageCount());
+    }
+}
@@ -22,13 +22,13 @@ import com.netflix.client.config.IClientConfig;
 import com.netflix.spectator.api.Counter;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spectator.api.histogram.PercentileTimer;
+import com.netflix.spectator.api.patterns.PolledMeter;
 import com.netflix.zuul.discovery.DiscoveryResult;
 import com.netflix.zuul.discovery.DynamicServerResolver;
 import com.netflix.zuul.discovery.ResolverResult;
 import com.netflix.zuul.exception.OutboundErrorType;
 import com.netflix.zuul.netty.SpectatorUtils;
 import com.netflix.zuul.netty.insights.PassportStateHttpClientHandler;
-import com.netflix.zuul.netty.server.OriginResponseReceiver;
 import com.netflix.zuul.origins.OriginName;
 import com.netflix.zuul.passport.CurrentPassport;
 import com.netflix.zuul.resolver.Resolver;
@@ -38,13 +38,18 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Promise;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -69,6 +74,19 @@ public class DefaultClientChannelManager implements ClientChannelManager {
     protected final OriginName originName;
     protected final ConcurrentHashMap<DiscoveryResult, IConnectionPool> perServerPools;
     protected final ConnectionPoolMetrics metrics;
+    protected final ConnectionPoolHistograms histograms;
+
+    /**
+     * Event loops that pools should be pre-warmed on.  Only populated when pre-warming is enabled.
+     */
+    protected final Set<EventLoop> prewarmEventLoops = ConcurrentHashMap.newKeySet();
+
+    protected final Set<EventLoopGroup> prewarmEventLoopGroups = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Event loops an {@link IdleReaper} is running on.  Only populated when the idle reaper is enabled.
+     */
+    protected final Set<EventLoop> reaperEventLoops = ConcurrentHashMap.newKeySet();
 
     protected NettyClientConnectionFactory clientConnFactory;
     protected OriginChannelInitializer channelInitializer;
@@ -82,15 +100,22 @@ public class DefaultClientChannelManager implements ClientChannelManager {
     public DefaultClientChannelManager(
             OriginName originName, IClientConfig clientConfig, Resolver<DiscoveryResult> resolver, Registry registry) {
         this.originName = Objects.requireNonNull(originName, "originName");
-        this.dynamicServerResolver = resolver;
 
         this.clientConfig = clientConfig;
         this.registry = registry;
         this.perServerPools = new ConcurrentHashMap<>(200);
 
         this.connPoolConfig = new ConnectionPoolConfigImpl(originName, this.clientConfig);
+        this.dynamicServerResolver = connPoolConfig.isLoadAwareServerSelectionEnabled()
+                ? new PowerOfTwoChoicesResolver(resolver, perServerPools::get)
+                : resolver;
 
         this.metrics = ConnectionPoolMetrics.create(originName, registry);
+        this.histograms = ConnectionPoolHistograms.create(originName, registry);
+        PolledMeter.using(registry)
+                .withName("connectionpool_eventLoopSkew")
+                .withTag("id", originName.getMetricId())
+                .monitorValue(this, DefaultClientChannelManager::getMaxEventLoopSkew);
     }
 
     @Override
@@ -127,6 +152,64 @@ public class DefaultClientChannelManager implements ClientChannelManager {
         return false;
     }
 
+    @Override
+    public void prewarm(EventLoopGroup eventLoopGroup) {
+        if (connPoolConfig.minIdleConnectionsPerServer() <= 0
+                || shuttingDown
+                || !prewarmEventLoopGroups.add(eventLoopGroup)) {
+            return;
+        }
+        for (EventExecutor executor : eventLoopGroup) {
+            if (executor instanceof EventLoop eventLoop) {
+                prewarmEventLoops.add(eventLoop);
+                startIdleReaper(eventLoop);
+            }
+        }
+        dynamicServerResolver.getServers().forEach(this::prewarmServer);
+    }
+
+    private void prewarmServer(DiscoveryResult server) {
+        IConnectionPool pool = getOrCreatePool(server);
+        for (EventLoop eventLoop : prewarmEventLoops) {
+            pool.prewarm(eventLoop);
+        }
+    }
+
+    private void startIdleReaper(EventLoop eventLoop) {
+        if (connPoolConfig.isIdleReaperEnabled() && reaperEventLoops.add(eventLoop)) {
+            eventLoop.schedule(
+                    new IdleReaper(eventLoop), connPoolConfig.getIdleReaperInterval(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Closes idle connections across the pools of every server on one event loop, replacing the idle timer that
+     * would otherwise be scheduled for each pooled connection.  Runs only on its own event loop.
+     */
+    protected final class IdleReaper implements Runnable {
+        private final EventLoop eventLoop;
+
+        IdleReaper(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        @Override
+        public void run() {
+            if (shuttingDown) {
+                reaperEventLoops.remove(eventLoop);
+                return;
+            }
+            for (IConnectionPool pool : perServerPools.values()) {
+                try {
+                    pool.reapIdleConnections(eventLoop);
+                } catch (RuntimeException e) {
+                    LOG.warn("Error reaping idle connections of {}", pool.getServer(), e);
+                }
+            }
+            eventLoop.schedule(this, connPoolConfig.getIdleReaperInterval(), TimeUnit.MILLISECONDS);
+        }
+    }
+
     @Override
     public int getInflightRequestsCount() {
         return this.channelInitializer.getHttpMetricsHandler().getInflightRequestsCount();
@@ -159,12 +242,13 @@ public class DefaultClientChannelManager implements ClientChannelManager {
     @Override
     public boolean release(PooledConnection conn) {
 
-        conn.stopRequestTimer();
+        long responseTime = conn.stopRequestTimer();
         metrics.releaseConnCounter().increment();
         metrics.connsInUse().decrementAndGet();
 
         DiscoveryResult discoveryResult = conn.getServer();
         updateServerStatsOnRelease(conn);
+        updateLoadStatsOnRelease(conn, responseTime);
 
         boolean released = false;
 
@@ -231,16 +315,41 @@ public class DefaultClientChannelManager implements ClientChannelManager {
         discoveryResult.incrementNumRequests();
     }
 
+    private void updateLoadStatsOnRelease(PooledConnection conn, long responseTime) {
+        IConnectionPool pool = perServerPools.get(conn.getServer());
+        ServerLoadStats loadStats = pool != null ? pool.getLoadStats() : null;
+        if (loadStats != null) {
+            loadStats.connectionReleased();
+            // Connections get flagged to close when the origin errored on them.
+            loadStats.recordResponse(responseTime, conn.isShouldClose());
+        }
+    }
+
     protected void releaseHandlers(PooledConnection conn) {
         ChannelPipeline pipeline = conn.getChannel().pipeline();
-        removeHandlerFromPipeline(OriginResponseReceiver.CHANNEL_HANDLER_NAME, pipeline);
+        SwitchableOriginHandler.detachReceiver(pipeline);
+        if (!connPoolConfig.isIdleReaperEnabled()) {
+            addIdleStateHandler(pipeline, connPoolConfig.getIdleTimeout());
+        }
+    }
+
+    static void addIdleStateHandler(ChannelPipeline pipeline, int idleTimeoutMillis) {
+        SwitchableOriginHandler switchableHandler = SwitchableOriginHandler.get(pipeline);
+        if (switchableHandler != null) {
+            switchableHandler.startIdleTimeout(idleTimeoutMillis);
+            return;
+        }
+
         // The Outbound handler is always after the inbound handler, so look for it.
         ChannelHandlerContext passportStateHttpClientHandlerCtx =
                 pipeline.context(PassportStateHttpClientHandler.OutboundHandler.class);
-        pipeline.addAfter(
-                passportStateHttpClientHandlerCtx.name(),
-                IDLE_STATE_HANDLER_NAME,
-                new IdleStateHandler(0, 0, connPoolConfig.getIdleTimeout(), TimeUnit.MILLISECONDS));
+        IdleStateHandler idleStateHandler = new IdleStateHandler(0, 0, idleTimeoutMillis, TimeUnit.MILLISECONDS);
+        if (passportStateHttpClientHandlerCtx != null) {
+            pipeline.addAfter(passportStateHttpClientHandlerCtx.name(), IDLE_STATE_HANDLER_NAME, idleStateHandler);
+        } else {
+            // Custom origin initializers may not install the passport handlers.
+            pipeline.addLast(IDLE_STATE_HANDLER_NAME, idleStateHandler);
+        }
     }
 
     public static void removeHandlerFromPipeline(String handlerName, ChannelPipeline pipeline) {
@@ -283,6 +392,23 @@ public class DefaultClientChannelManager implements ClientChannelManager {
             CurrentPassport passport,
             AtomicReference<DiscoveryResult> selectedServer,
             AtomicReference<? super InetAddress> selectedHostAddr) {
+        return acquire(
+                eventLoop,
+                key,
+                passport,
+                selectedServer,
+                selectedHostAddr,
+                Duration.ofMillis(connPoolConfig.getPendingAcquireTimeout()));
+    }
+
+    @Override
+    public Promise<PooledConnection> acquire(
+            EventLoop eventLoop,
+            @Nullable Object key,
+            CurrentPassport passport,
+            AtomicReference<DiscoveryResult> selectedServer,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            Duration maxWait) {
 
         if (shuttingDown) {
             Promise<PooledConnection> promise = eventLoop.newPromise();
@@ -303,14 +429,33 @@ public class DefaultClientChannelManager implements ClientChannelManager {
         }
 
         // Now get the connection-pool for this server.
-        IConnectionPool pool = perServerPools.computeIfAbsent(chosenServer, s -> {
+        IConnectionPool pool = getOrCreatePool(chosenServer);
+        startIdleReaper(eventLoop);
+
+        // Pools are also kept warm on event loops that have served traffic, even if prewarm() was never called.
+        if (connPoolConfig.minIdleConnectionsPerServer() > 0 && prewarmEventLoops.add(eventLoop)) {
+            perServerPools.values().forEach(p -> p.prewarm(eventLoop));
+        }
+
+        long acquireStartNanos = System.nanoTime();
+        Promise<PooledConnection> promise = pool.acquire(eventLoop, passport, selectedHostAddr, maxWait);
+        promise.addListener(future -> {
+            if (future.isSuccess()) {
+                histograms.recordAcquire(acquireStartNanos);
+            }
+        });
+        return promise;
+    }
+
+    private IConnectionPool getOrCreatePool(DiscoveryResult chosenServer) {
+        return perServerPools.computeIfAbsent(chosenServer, s -> {
             SocketAddress finalServerAddr = pickAddress(chosenServer);
             ClientChannelManager clientChannelMgr = this;
-            PooledConnectionFactory pcf = createPooledConnectionFactory(
-                    chosenServer, clientChannelMgr, metrics.closeConnCounter(), metrics.closeWrtBusyConnCounter());
+            PooledConnectionFactory pcf = instrument(createPooledConnectionFactory(
+                    chosenServer, clientChannelMgr, metrics.closeConnCounter(), metrics.closeWrtBusyConnCounter()));
 
             // Create a new pool for this server.
-            return createConnectionPool(
+            IConnectionPool pool = createConnectionPool(
                     chosenServer,
                     finalServerAddr,
                     clientConnFactory,
@@ -328,9 +473,21 @@ public class DefaultClientChannelManager implements ClientChannelManager {
                     metrics.connEstablishTimer(),
                     metrics.connsInPool(),
                     metrics.connsInUse());
+            // Also covers a server whose pool was removed coming back, which needs warming up again.
+            prewarmEventLoops.forEach(pool::prewarm);
+            return pool;
         });
+    }
 
-        return pool.acquire(eventLoop, passport, selectedHostAddr);
+    /**
+     * Records the age and usage count of every connection the factory creates once it closes.
+     */
+    private PooledConnectionFactory instrument(PooledConnectionFactory pcf) {
+        return ch -> {
+            PooledConnection conn = pcf.create(ch);
+            ch.closeFuture().addListener(future -> histograms.recordClosed(conn));
+            return conn;
+        };
     }
 
     protected PooledConnectionFactory createPooledConnectionFactory(
@@ -396,6 +553,18 @@ public class DefaultClientChannelManager implements ClientChannelManager {
                 }
             }
         }
+
+        @Override
+        public void onServersAdded(List<DiscoveryResult> addedSet) {
+            if (connPoolConfig.minIdleConnectionsPerServer() <= 0 || shuttingDown || prewarmEventLoops.isEmpty()) {
+                return;
+            }
+            LOG.debug(
+                    "Pre-warming connection pools for new servers. name = {}. {} servers added.",
+                    originName,
+                    addedSet.size());
+            addedSet.forEach(DefaultClientChannelManager.this::prewarmServer);
+        }
     }
 
     @Override
@@ -408,6 +577,29 @@ public class DefaultClientChannelManager implements ClientChannelManager {
         return metrics.connsInUse().get();
     }
 
+    @Override
+    public List<ServerPoolStats> getServerPoolStats() {
+        List<ServerPoolStats> stats = new ArrayList<>(perServerPools.size());
+        for (IConnectionPool pool : perServerPools.values()) {
+            ServerPoolStats poolStats = pool.getStats();
+            if (poolStats != null) {
+                stats.add(poolStats);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * @return the largest {@link ServerPoolStats#eventLoopSkew()} of any server of the origin.
+     */
+    private int getMaxEventLoopSkew() {
+        int skew = 0;
+        for (ServerPoolStats stats : getServerPoolStats()) {
+            skew = Math.max(skew, stats.eventLoopSkew());
+        }
+        return skew;
+    }
+
     protected ConcurrentHashMap<DiscoveryResult, IConnectionPool> getPerServerPools() {
         return perServerPools;
     }
@@ -16,9 +16,14 @@
 
 package com.netflix.zuul.netty.connectionpool;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.net.InetAddresses;
+import com.netflix.netty.common.FlushBatchingHandler;
 import com.netflix.netty.common.HttpClientLifecycleChannelHandler;
 import com.netflix.netty.common.metrics.HttpMetricsChannelHandler;
+import com.netflix.spectator.api.DistributionSummary;
 import com.netflix.spectator.api.Registry;
+import com.netflix.zuul.discovery.DiscoveryResult;
 import com.netflix.zuul.netty.insights.PassportStateHttpClientHandler;
 import com.netflix.zuul.netty.insights.PassportStateOriginHandler;
 import com.netflix.zuul.netty.server.BaseZuulChannelInitializer;
@@ -29,6 +34,8 @@ import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import javax.annotation.Nullable;
 
 /**
  * Default Origin Channel Initializer
@@ -45,6 +52,8 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
     protected final ConnectionPoolHandler connectionPoolHandler;
     protected final HttpMetricsChannelHandler httpMetricsHandler;
     protected final LoggingHandler nettyLogger;
+    private final OriginTlsHandshakeHandler.Metrics tlsHandshakeMetrics;
+    private final DistributionSummary writesPerFlush;
 
     public DefaultOriginChannelInitializer(ConnectionPoolConfig connPoolConfig, Registry spectatorRegistry) {
         this.connectionPoolConfig = connPoolConfig;
@@ -53,6 +62,10 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
         this.httpMetricsHandler = new HttpMetricsChannelHandler(spectatorRegistry, "client", niwsClientName);
         this.nettyLogger = new LoggingHandler("zuul.origin.nettylog." + niwsClientName, LogLevel.INFO);
         this.sslContext = getClientSslContext(spectatorRegistry);
+        this.tlsHandshakeMetrics =
+                new OriginTlsHandshakeHandler.Metrics(connectionPoolConfig.getOriginName().getMetricId());
+        this.writesPerFlush = spectatorRegistry.distributionSummary(
+                "connectionpool_writesPerFlush", "id", connectionPoolConfig.getOriginName().getMetricId());
     }
 
     @Override
@@ -63,7 +76,8 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
         pipeline.addLast(new PassportStateOriginHandler.OutboundHandler());
 
         if (connectionPoolConfig.isSecure()) {
-            pipeline.addLast("ssl", sslContext.newHandler(ch.alloc()));
+            pipeline.addLast("ssl", newSslHandler(ch));
+            pipeline.addLast(OriginTlsHandshakeHandler.NAME, new OriginTlsHandshakeHandler(tlsHandshakeMetrics));
         }
 
         pipeline.addLast(
@@ -74,6 +88,12 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
                         BaseZuulChannelInitializer.MAX_CHUNK_SIZE.get(),
                         false,
                         false));
+        if (connectionPoolConfig.isFlushBatchingEnabled()) {
+            pipeline.addLast(
+                    FlushBatchingHandler.NAME,
+                    new FlushBatchingHandler(
+                            BaseZuulChannelInitializer.FLUSH_BATCHING_MAX_DELAYED_FLUSHES.get(), writesPerFlush));
+        }
         pipeline.addLast(new PassportStateHttpClientHandler.InboundHandler());
         pipeline.addLast(new PassportStateHttpClientHandler.OutboundHandler());
         pipeline.addLast(ORIGIN_NETTY_LOGGER, nettyLogger);
@@ -83,6 +103,7 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
         pipeline.addLast(HttpClientLifecycleChannelHandler.OUTBOUND_CHANNEL_HANDLER);
         pipeline.addLast(new ClientTimeoutHandler.InboundHandler());
         pipeline.addLast(new ClientTimeoutHandler.OutboundHandler());
+        pipeline.addLast(SwitchableOriginHandler.NAME, new SwitchableOriginHandler());
         pipeline.addLast(CONNECTION_POOL_HANDLER, connectionPoolHandler);
     }
 
@@ -96,6 +117,42 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
         return new ClientSslContextFactory(spectatorRegistry).getClientSslContext();
     }
 
+    /**
+     * Creates the handler for a new origin channel.  With TLS session resumption enabled the handler is created for
+     * the pool's server, so that the SSL engine can resume a session cached from an earlier connection to that server
+     * instead of doing a full handshake.
+     * <p>
+     * The peer host given to the SSL engine is also sent as SNI, so the server's IP address is used rather than its
+     * discovery hostname.  That keys the session cache per server without changing the ClientHello, which is sent
+     * without SNI either way.  A server with no known IP address isn't resumed.
+     */
+    protected SslHandler newSslHandler(Channel ch) {
+        IConnectionPool pool = ch.attr(PerServerConnectionPool.CHANNEL_ATTR).get();
+        DiscoveryResult server = pool == null ? null : pool.getServer();
+        String sessionHost = null;
+        if (connectionPoolConfig.isTlsSessionResumptionEnabled() && server != null) {
+            sessionHost = sessionCacheHost(server);
+        }
+        if (sessionHost != null) {
+            return sslContext.newHandler(ch.alloc(), sessionHost, server.getPort());
+        }
+        return sslContext.newHandler(ch.alloc());
+    }
+
+    /**
+     * Returns the IP address literal of the server to key its TLS sessions on, as SSL engines don't send SNI for an
+     * IP address.
+     */
+    @Nullable
+    @VisibleForTesting
+    static String sessionCacheHost(DiscoveryResult server) {
+        String host = server.getHost();
+        if (InetAddresses.isInetAddress(host)) {
+            return host;
+        }
+        return server.getIPAddr().filter(InetAddresses::isInetAddress).orElse(null);
+    }
+
     /**
      * This method can be overridden to add your own MethodBinding handler for preserving thread locals or thread variables.
      *
@@ -16,11 +16,15 @@
 
 package com.netflix.zuul.netty.connectionpool;
 
+import com.netflix.zuul.discovery.DiscoveryResult;
 import com.netflix.zuul.passport.CurrentPassport;
 import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Promise;
 import java.net.InetAddress;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
 
 /**
  * User: michaels@netflix.com
@@ -31,6 +35,18 @@ public interface IConnectionPool {
     Promise<PooledConnection> acquire(
             EventLoop eventLoop, CurrentPassport passport, AtomicReference<? super InetAddress> selectedHostAddr);
 
+    /**
+     * Same as {@link #acquire(EventLoop, CurrentPassport, AtomicReference)}, but waits at most {@code maxWait} for a
+     * connection when the server is at its connection limit.
+     */
+    default Promise<PooledConnection> acquire(
+            EventLoop eventLoop,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            Duration maxWait) {
+        return acquire(eventLoop, passport, selectedHostAddr);
+    }
+
     boolean release(PooledConnection conn);
 
     boolean remove(PooledConnection conn);
@@ -48,4 +64,50 @@ public interface IConnectionPool {
     int getConnsInPool();
 
     ConnectionPoolConfig getConfig();
+
+    /**
+     * Starts opening idle connections ahead of demand on the given event loop, and keeps topping them up until the
+     * pool is shut down.  Calling this again for the same event loop has no effect.
+     */
+    default void prewarm(EventLoop eventLoop) {}
+
+    /**
+     * @return load signals for the server behind this pool, or {@code null} if this pool doesn't track them.
+     */
+    @Nullable default ServerLoadStats getLoadStats() {
+        return null;
+    }
+
+    /**
+     * @return the server this pool connects to, or {@code null} if this pool isn't bound to a single server.
+     */
+    @Nullable default DiscoveryResult getServer() {
+        return null;
+    }
+
+    /**
+     * Closes the connections pooled for the given event loop that have been idle for longer than the idle timeout,
+     * or that are above the per server waterline, least recently used first.  The minimum of idle connections to
+     * pre-warm is always kept.  Must be called on that event loop.
+     *
+     * @return the number of connections closed.
+     */
+    default int reapIdleConnections(EventLoop eventLoop) {
+        return 0;
+    }
+
+    /**
+     * @return a snapshot of the connections this pool holds, or {@code null} if this pool doesn't track them.  Walks
+     * the per event loop pools, so it's meant for introspection and polled gauges rather than the request path.
+     */
+    @Nullable default ServerPoolStats getStats() {
+        return null;
+    }
+
+    /**
+     * @return true if there is at least one idle connection pooled for the given event loop.
+     */
+    default boolean hasIdleConnections(EventExecutor eventLoop) {
+        return false;
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.netflix.zuul.netty.connectionpool;
 
+import com.netflix.netty.common.EventLoopByteBufAllocator;
 import com.netflix.zuul.netty.server.Server;
 import com.netflix.zuul.passport.CurrentPassport;
 import io.netty.bootstrap.Bootstrap;
@@ -25,6 +26,7 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoop;
 import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.EpollSocketChannel;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.Objects;
@@ -68,6 +70,15 @@ public class NettyClientConnectionFactory {
                                 connPoolConfig.getNettyWriteBufferHighWaterMark()))
                 .option(ChannelOption.AUTO_READ, connPoolConfig.getNettyAutoRead())
                 .remoteAddress(socketAddress);
+        if (connPoolConfig.isTcpFastOpenConnectEnabled()
+                && Server.defaultOutboundChannelType.get() == EpollSocketChannel.class) {
+            bootstrap.option(ChannelOption.TCP_FASTOPEN_CONNECT, true);
+        }
+        // Allocate from the same allocator as the client connections on this event loop, if they were given one.
+        EventLoopByteBufAllocator allocator = EventLoopByteBufAllocator.forEventLoopGroup(eventLoop.parent());
+        if (allocator != null) {
+            bootstrap.option(ChannelOption.ALLOCATOR, allocator);
+        }
         return bootstrap.connect();
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import com.netflix.spectator.api.Counter;
+import com.netflix.spectator.api.Timer;
+import com.netflix.zuul.netty.SpectatorUtils;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Records how long the TLS handshake to an origin took and whether it resumed an earlier session, then removes itself
+ * from the pipeline.  Must be added right after the {@link SslHandler}, which starts the handshake when the channel
+ * becomes active.
+ * <p>
+ * A resumed session keeps the creation time of the handshake that established it, so a session created before this
+ * handshake started is counted as resumed.  This works the same for the JDK and OpenSSL providers.
+ */
+final class OriginTlsHandshakeHandler extends ChannelInboundHandlerAdapter {
+
+    static final String NAME = "originTlsHandshakeHandler";
+
+    private final Metrics metrics;
+    private long startNanos;
+    private long startMillis;
+
+    OriginTlsHandshakeHandler(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        startNanos = System.nanoTime();
+        startMillis = System.currentTimeMillis();
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof SslHandshakeCompletionEvent) {
+            if (((SslHandshakeCompletionEvent) evt).isSuccess()) {
+                SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
+                SSLSession session = sslHandler == null ? null : sslHandler.engine().getSession();
+                boolean resumed = session != null && session.getCreationTime() < startMillis;
+                Timer timer = resumed ? metrics.resumedHandshakes : metrics.fullHandshakes;
+                timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            } else {
+                metrics.failedHandshakes.increment();
+            }
+            super.userEventTriggered(ctx, evt);
+            ctx.pipeline().remove(this);
+        } else {
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+
+    /**
+     * Handshake metrics of one origin, shared by all of its channels.
+     */
+    static final class Metrics {
+        private final Timer fullHandshakes;
+        private final Timer resumedHandshakes;
+        private final Counter failedHandshakes;
+
+        Metrics(String metricId) {
+            this.fullHandshakes = SpectatorUtils.newTimer("connectionpool_tlsHandshake", metricId, "resumed", "false");
+            this.resumedHandshakes =
+                    SpectatorUtils.newTimer("connectionpool_tlsHandshake", metricId, "resumed", "true");
+            this.failedHandshakes = SpectatorUtils.newCounter("connectionpool_tlsHandshakeFailed", metricId);
+        }
+    }
+}
@@ -21,20 +21,35 @@ import com.netflix.spectator.api.Counter;
 import com.netflix.spectator.api.Timer;
 import com.netflix.zuul.discovery.DiscoveryResult;
 import com.netflix.zuul.exception.OutboundErrorType;
+import com.netflix.zuul.netty.SpectatorUtils;
+import com.netflix.zuul.netty.server.Server;
 import com.netflix.zuul.passport.CurrentPassport;
 import com.netflix.zuul.passport.PassportState;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoop;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.kqueue.KQueueSocketChannel;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.DecoderException;
 import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Promise;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.Deque;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
@@ -78,7 +93,39 @@ public class PerServerConnectionPool implements IConnectionPool {
      */
     protected final AtomicInteger connCreationsInProgress;
 
+    /**
+     * A connect taking this many times longer than the average gets a racing connect.
+     */
+    private static final int CONNECT_RACE_DELAY_MULTIPLIER = 3;
+
+    /**
+     * Upper bound for backing off from a server that pre-warming connects keep failing for.
+     */
+    private static final long MAX_PREWARM_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final Set<Class<? extends Channel>> MOVABLE_CHANNEL_TYPES = Set.of(
+            NioSocketChannel.class, EpollSocketChannel.class, KQueueSocketChannel.class, LocalChannel.class);
+
+    protected final ServerLoadStats loadStats = new ServerLoadStats();
+
+    protected final ConcurrentHashMap<EventLoop, Prewarmer> prewarmers = new ConcurrentHashMap<>();
+
+    /**
+     * Acquires waiting for a connection, oldest first.  One queue for the whole server, as the connection limit is per
+     * server and a slot freed up on one event loop may go to a waiter on any other.
+     */
+    protected final Deque<PendingAcquire> pendingAcquires = new ConcurrentLinkedDeque<>();
+    protected final Timer pendingAcquireTimer;
+    protected final Counter pendingAcquireTimeoutCounter;
+    protected final Counter pendingAcquireRejectedCounter;
+    protected final Counter connStolenCounter;
+    protected final Counter connStealFailedCounter;
+    protected final Counter connectRaceCounter;
+    protected final Counter idleReapedCounter;
+    protected final Counter prewarmCounter;
+
     protected volatile boolean draining;
+    protected volatile boolean shutdown;
 
     public PerServerConnectionPool(
             DiscoveryResult server,
@@ -118,6 +165,17 @@ public class PerServerConnectionPool implements IConnectionPool {
         this.connsInUse = connsInUse;
 
         this.connCreationsInProgress = new AtomicInteger(0);
+
+        String metricId = config.getOriginName().getMetricId();
+        this.pendingAcquireTimer = SpectatorUtils.newTimer("connectionpool_pendingAcquire", metricId);
+        this.pendingAcquireTimeoutCounter = SpectatorUtils.newCounter("connectionpool_pendingAcquireTimeout", metricId);
+        this.pendingAcquireRejectedCounter =
+                SpectatorUtils.newCounter("connectionpool_pendingAcquireRejected", metricId);
+        this.connStolenCounter = SpectatorUtils.newCounter("connectionpool_stolen", metricId);
+        this.connStealFailedCounter = SpectatorUtils.newCounter("connectionpool_stealFailed", metricId);
+        this.connectRaceCounter = SpectatorUtils.newCounter("connectionpool_connectRace", metricId);
+        this.idleReapedCounter = SpectatorUtils.newCounter("connectionpool_idleReaped", metricId);
+        this.prewarmCounter = SpectatorUtils.newCounter("connectionpool_prewarm", metricId);
     }
 
     @Override
@@ -144,14 +202,28 @@ public class PerServerConnectionPool implements IConnectionPool {
     }
 
     protected void removeIdleStateHandler(PooledConnection conn) {
-        DefaultClientChannelManager.removeHandlerFromPipeline(
-                DefaultClientChannelManager.IDLE_STATE_HANDLER_NAME,
-                conn.getChannel().pipeline());
+        ChannelPipeline pipeline = conn.getChannel().pipeline();
+        SwitchableOriginHandler switchableHandler = SwitchableOriginHandler.get(pipeline);
+        if (switchableHandler != null) {
+            switchableHandler.stopIdleTimeout();
+        } else {
+            DefaultClientChannelManager.removeHandlerFromPipeline(
+                    DefaultClientChannelManager.IDLE_STATE_HANDLER_NAME, pipeline);
+        }
     }
 
     @Override
     public Promise<PooledConnection> acquire(
             EventLoop eventLoop, CurrentPassport passport, AtomicReference<? super InetAddress> selectedHostAddr) {
+        return acquire(eventLoop, passport, selectedHostAddr, Duration.ofMillis(config.getPendingAcquireTimeout()));
+    }
+
+    @Override
+    public Promise<PooledConnection> acquire(
+            EventLoop eventLoop,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            Duration maxWait) {
 
         if (draining) {
             throw new IllegalStateException("Attempt to acquire connection while draining");
@@ -167,9 +239,10 @@ public class PerServerConnectionPool implements IConnectionPool {
         if (conn != null) {
             // There was a pooled connection available, so use this one.
             reusePooledConnection(passport, selectedHostAddr, conn, promise);
-        } else {
+        } else if (!canStealConnections()
+                || !tryStealingConnection(eventLoop, passport, selectedHostAddr, promise)) {
             // connection pool empty, create new connection using client connection factory.
-            tryMakingNewConnection(eventLoop, promise, passport, selectedHostAddr);
+            tryMakingNewConnection(eventLoop, promise, passport, selectedHostAddr, maxWait);
         }
 
         return promise;
@@ -195,7 +268,7 @@ public class PerServerConnectionPool implements IConnectionPool {
     public PooledConnection tryGettingFromConnectionPool(EventLoop eventLoop) {
         PooledConnection conn;
         Deque<PooledConnection> connections = getPoolForEventLoop(eventLoop);
-        while ((conn = connections.poll()) != null) {
+        while ((conn = pollFromPool(connections)) != null) {
 
             conn.setInPool(false);
 
@@ -203,6 +276,7 @@ public class PerServerConnectionPool implements IConnectionPool {
             if (isValidFromPool(conn)) {
                 reuseConnCounter.increment();
                 connsInUse.incrementAndGet();
+                loadStats.connectionAcquired();
                 connsInPool.decrementAndGet();
                 return conn;
             } else {
@@ -214,6 +288,102 @@ public class PerServerConnectionPool implements IConnectionPool {
         return null;
     }
 
+    /**
+     * Takes an idle connection pooled on another event loop and re-registers its channel with the calling event loop,
+     * so the request and its origin connection still share a thread.
+     *
+     * @return false if no other event loop had a usable idle connection.
+     */
+    protected boolean tryStealingConnection(
+            EventLoop eventLoop,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            Promise<PooledConnection> promise) {
+        for (Map.Entry<EventLoop, Deque<PooledConnection>> entry : connectionsPerEventLoop.entrySet()) {
+            if (entry.getKey() == eventLoop) {
+                continue;
+            }
+            PooledConnection conn;
+            while ((conn = pollFromPool(entry.getValue())) != null) {
+                conn.setInPool(false);
+                connsInPool.decrementAndGet();
+                if (isValidFromPool(conn)) {
+                    reuseConnCounter.increment();
+                    connsInUse.incrementAndGet();
+                    loadStats.connectionAcquired();
+                    moveToEventLoop(conn, eventLoop, passport, selectedHostAddr, promise);
+                    return true;
+                }
+                connTakenFromPoolIsNotOpen.increment();
+                conn.close();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Only transports that can register a channel again after deregistering it let connections move between event
+     * loops.  The incubator io_uring transport can't, as it keeps operations in flight on the ring it registered with.
+     */
+    private boolean canStealConnections() {
+        if (!config.isConnectionStealingEnabled()) {
+            return false;
+        }
+        Class<? extends Channel> channelType = Server.defaultOutboundChannelType.get();
+        return channelType != null && MOVABLE_CHANNEL_TYPES.contains(channelType);
+    }
+
+    private void moveToEventLoop(
+            PooledConnection conn,
+            EventLoop eventLoop,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            Promise<PooledConnection> promise) {
+        Channel channel = conn.getChannel();
+        // The idle timeout is scheduled on the event loop the channel is leaving, so it has to be cancelled there.
+        channel.eventLoop().execute(() -> {
+            removeIdleStateHandler(conn);
+            channel.deregister().addListener(deregistered -> {
+                if (!deregistered.isSuccess()) {
+                    onStealFailed(conn, eventLoop, passport, selectedHostAddr, promise, deregistered.cause());
+                    return;
+                }
+                eventLoop.register(channel).addListener(registered -> {
+                    if (registered.isSuccess()) {
+                        connStolenCounter.increment();
+                        reusePooledConnection(passport, selectedHostAddr, conn, promise);
+                    } else {
+                        onStealFailed(conn, eventLoop, passport, selectedHostAddr, promise, registered.cause());
+                    }
+                });
+            });
+        });
+    }
+
+    private void onStealFailed(
+            PooledConnection conn,
+            EventLoop eventLoop,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            Promise<PooledConnection> promise,
+            Throwable cause) {
+        LOG.debug("Failed moving connection {} to {}, opening a new one", conn, eventLoop, cause);
+        connStealFailedCounter.increment();
+        connsInUse.decrementAndGet();
+        loadStats.connectionReleased();
+        conn.close();
+        eventLoop.execute(() -> tryMakingNewConnection(eventLoop, promise, passport, selectedHostAddr));
+    }
+
+    /**
+     * Connections are added at the tail of the pool.  With the idle reaper, the most recently used one is handed out,
+     * so that surplus connections collect at the head where the reaper can close them.  Otherwise connections are
+     * handed out in turn.
+     */
+    @Nullable protected PooledConnection pollFromPool(Deque<PooledConnection> connections) {
+        return config.isIdleReaperEnabled() ? connections.pollLast() : connections.pollFirst();
+    }
+
     protected boolean isValidFromPool(PooledConnection conn) {
         return conn.isActive() && conn.getChannel().isOpen();
     }
@@ -240,7 +410,31 @@ public class PerServerConnectionPool implements IConnectionPool {
             Promise<PooledConnection> promise,
             CurrentPassport passport,
             AtomicReference<? super InetAddress> selectedHostAddr) {
+        tryMakingNewConnection(
+                eventLoop, promise, passport, selectedHostAddr, Duration.ofMillis(config.getPendingAcquireTimeout()));
+    }
+
+    protected void tryMakingNewConnection(
+            EventLoop eventLoop,
+            Promise<PooledConnection> promise,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            Duration maxWait) {
+        if (isAtConnectionLimit()
+                && tryEnqueuePendingAcquire(eventLoop, promise, passport, selectedHostAddr, maxWait)) {
+            return;
+        }
+        makeNewConnection(eventLoop, promise, passport, selectedHostAddr);
+    }
 
+    /**
+     * Connects to the server for the given acquire, failing it if the server is at maxConnectionsPerHost.
+     */
+    protected void makeNewConnection(
+            EventLoop eventLoop,
+            Promise<PooledConnection> promise,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr) {
         if (!isWithinConnectionLimit(promise)) {
             return;
         }
@@ -252,13 +446,25 @@ public class PerServerConnectionPool implements IConnectionPool {
 
             selectedHostAddr.set(getSelectedHostString(serverAddr));
 
+            long connectStartNanos = System.nanoTime();
             ChannelFuture cf = connectToServer(eventLoop, passport, serverAddr);
 
             if (cf.isDone()) {
                 handleConnectCompletion(cf, promise, passport);
+            } else if (config.isConnectRacingEnabled()) {
+                ConnectRace race = new ConnectRace(eventLoop, promise, passport, connectStartNanos);
+                if (eventLoop.inEventLoop()) {
+                    race.start(cf);
+                } else {
+                    eventLoop.execute(() -> race.start(cf));
+                }
             } else {
                 cf.addListener(future -> {
                     try {
+                        if (future.isSuccess()) {
+                            loadStats.recordConnectTime(
+                                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStartNanos));
+                        }
                         handleConnectCompletion((ChannelFuture) future, promise, passport);
                     } catch (Throwable e) {
                         if (!promise.isDone()) {
@@ -276,6 +482,267 @@ public class PerServerConnectionPool implements IConnectionPool {
         }
     }
 
+    /**
+     * Races a second connect to the server against one that is taking longer than usual, which is typically a dropped
+     * SYN waiting on a retransmit.  The first connect to succeed serves the acquire and a later successful one is
+     * pooled as an idle connection.  Runs only on its event loop.
+     */
+    private final class ConnectRace implements Runnable {
+        private final EventLoop eventLoop;
+        private final Promise<PooledConnection> promise;
+        private final CurrentPassport passport;
+        private final long startNanos;
+        private Future<?> raceTimer;
+        private int pending = 1;
+        private boolean decided;
+
+        ConnectRace(
+                EventLoop eventLoop, Promise<PooledConnection> promise, CurrentPassport passport, long startNanos) {
+            this.eventLoop = eventLoop;
+            this.promise = promise;
+            this.passport = passport;
+            this.startNanos = startNanos;
+        }
+
+        void start(ChannelFuture cf) {
+            cf.addListener(future -> onConnectComplete((ChannelFuture) future));
+            if (!decided) {
+                raceTimer = eventLoop.schedule(this, connectRaceDelayMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public void run() {
+            raceTimer = null;
+            if (decided || draining || shutdown || isAtConnectionLimit()) {
+                return;
+            }
+            connectRaceCounter.increment();
+            createNewConnCounter.increment();
+            connCreationsInProgress.incrementAndGet();
+            pending++;
+            ChannelFuture racer;
+            try {
+                racer = connectToServer(eventLoop, CurrentPassport.create(), serverAddr);
+            } catch (Throwable e) {
+                pending--;
+                connCreationsInProgress.decrementAndGet();
+                createConnFailedCounter.increment();
+                LOG.debug("Error starting racing connect to {}", server, e);
+                return;
+            }
+            racer.addListener(future -> onConnectComplete((ChannelFuture) future));
+        }
+
+        private void onConnectComplete(ChannelFuture cf) {
+            pending--;
+            if (decided) {
+                // Lost the race, keep the connection around for the next request if it made it.
+                connCreationsInProgress.decrementAndGet();
+                if (cf.isSuccess()) {
+                    createConnSucceededCounter.increment();
+                    server.incrementOpenConnectionsCount();
+                    poolIdleConnection(cf.channel(), eventLoop);
+                } else {
+                    createConnFailedCounter.increment();
+                }
+                return;
+            }
+
+            if (!cf.isSuccess() && pending > 0) {
+                // The other connect may still make it.
+                connCreationsInProgress.decrementAndGet();
+                createConnFailedCounter.increment();
+                loadStats.recordConnectFailure();
+                return;
+            }
+
+            decided = true;
+            if (raceTimer != null) {
+                raceTimer.cancel(false);
+                raceTimer = null;
+            }
+            try {
+                if (cf.isSuccess()) {
+                    loadStats.recordConnectTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                }
+                handleConnectCompletion(cf, promise, passport);
+            } catch (Throwable e) {
+                if (!promise.isDone()) {
+                    promise.setFailure(e);
+                }
+                LOG.warn(
+                        "Error creating new connection! origin={}, host={}",
+                        config.getOriginName(),
+                        server.getServerId());
+            }
+        }
+    }
+
+    private long connectRaceDelayMillis() {
+        double connectTime = loadStats.getConnectTimeEwmaMillis();
+        long adaptive = connectTime < 0 ? 0 : (long) (connectTime * CONNECT_RACE_DELAY_MULTIPLIER);
+        return Math.max(config.getConnectRaceMinDelay(), adaptive);
+    }
+
+    private boolean isAtConnectionLimit() {
+        int maxConnectionsPerHost = config.maxConnectionsPerHost();
+        return maxConnectionsPerHost != -1
+                && server.getOpenConnectionsCount() + connCreationsInProgress.get() >= maxConnectionsPerHost;
+    }
+
+    /**
+     * Parks the acquire until a connection of the server is released or closed, on any event loop, instead of failing
+     * it because the server is at maxConnectionsPerHost.
+     *
+     * @return false if waiting is disabled or too many acquires are already waiting.
+     */
+    protected boolean tryEnqueuePendingAcquire(
+            EventLoop eventLoop,
+            Promise<PooledConnection> promise,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            Duration maxWait) {
+        int maxPending = config.maxPendingAcquiresPerServer();
+        if (maxPending <= 0 || maxWait.isNegative() || maxWait.isZero()) {
+            return false;
+        }
+        if (pendingAcquires.size() >= maxPending) {
+            pendingAcquireRejectedCounter.increment();
+            return false;
+        }
+
+        PendingAcquire waiter = new PendingAcquire(eventLoop, promise, passport, selectedHostAddr);
+        waiter.timeout = eventLoop.schedule(waiter, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        pendingAcquires.offer(waiter);
+        return true;
+    }
+
+    @Nullable private PendingAcquire pollPendingAcquire() {
+        PendingAcquire waiter;
+        while ((waiter = pendingAcquires.poll()) != null) {
+            // The caller may have given up on the promise already.
+            if (!waiter.promise.isDone()) {
+                return waiter;
+            }
+            waiter.timeout.cancel(false);
+        }
+        return null;
+    }
+
+    /**
+     * Puts a waiter that couldn't be served after all back at the head of the queue.
+     */
+    private void requeuePendingAcquire(PendingAcquire waiter) {
+        pendingAcquires.offerFirst(waiter);
+        // The timeout may have gone off while the waiter was out of the queue, and found nothing to do then.
+        if (waiter.timeout.isDone()) {
+            waiter.eventLoop.execute(waiter);
+        }
+    }
+
+    /**
+     * Hands a connection that is being released to the oldest waiting acquire.  A waiter on another event loop gets
+     * the connection moved over to its event loop if stealing is possible.  Otherwise the connection is closed, which
+     * frees up a slot for the waiter to open a new connection on its own event loop.
+     *
+     * @return false if the connection was closed instead.
+     */
+    private boolean handToPendingAcquire(PooledConnection conn, PendingAcquire waiter) {
+        EventLoop eventLoop = conn.getChannel().eventLoop();
+        boolean sameEventLoop = waiter.eventLoop == eventLoop;
+        if (!sameEventLoop && !canStealConnections()) {
+            // onConnectionClosed() wakes the waiter back up.
+            requeuePendingAcquire(waiter);
+            conn.close();
+            return false;
+        }
+
+        waiter.served();
+        reuseConnCounter.increment();
+        connsInUse.incrementAndGet();
+        loadStats.connectionAcquired();
+        if (sameEventLoop) {
+            reusePooledConnection(waiter.passport, waiter.selectedHostAddr, conn, waiter.promise);
+        } else {
+            moveToEventLoop(conn, waiter.eventLoop, waiter.passport, waiter.selectedHostAddr, waiter.promise);
+        }
+        return true;
+    }
+
+    /**
+     * A closed connection frees up a slot under maxConnectionsPerHost, so let the oldest waiting acquire open a new
+     * one on its own event loop.  Runs on the event loop of the closed connection.
+     */
+    private void onConnectionClosed() {
+        if (draining || shutdown || isAtConnectionLimit()) {
+            return;
+        }
+        PendingAcquire waiter = pollPendingAcquire();
+        if (waiter != null) {
+            waiter.eventLoop.execute(() -> connectPendingAcquire(waiter));
+        }
+    }
+
+    private void connectPendingAcquire(PendingAcquire waiter) {
+        if (waiter.promise.isDone()) {
+            waiter.timeout.cancel(false);
+            return;
+        }
+        if (isAtConnectionLimit()) {
+            // Another acquire took the slot in the meantime.
+            requeuePendingAcquire(waiter);
+            return;
+        }
+        waiter.served();
+        makeNewConnection(waiter.eventLoop, waiter.promise, waiter.passport, waiter.selectedHostAddr);
+    }
+
+    protected void watchForClose(PooledConnection conn) {
+        if (config.maxPendingAcquiresPerServer() > 0) {
+            conn.getChannel().closeFuture().addListener(future -> onConnectionClosed());
+        }
+    }
+
+    /**
+     * An acquire waiting for a connection, which runs as its own timeout task on the event loop it was made from.
+     */
+    protected final class PendingAcquire implements Runnable {
+        private final EventLoop eventLoop;
+        private final Promise<PooledConnection> promise;
+        private final CurrentPassport passport;
+        private final AtomicReference<? super InetAddress> selectedHostAddr;
+        private final long enqueuedNanos = System.nanoTime();
+        private Future<?> timeout;
+
+        PendingAcquire(
+                EventLoop eventLoop,
+                Promise<PooledConnection> promise,
+                CurrentPassport passport,
+                AtomicReference<? super InetAddress> selectedHostAddr) {
+            this.eventLoop = eventLoop;
+            this.promise = promise;
+            this.passport = passport;
+            this.selectedHostAddr = selectedHostAddr;
+        }
+
+        void served() {
+            timeout.cancel(false);
+            pendingAcquireTimer.record(System.nanoTime() - enqueuedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void run() {
+            if (!pendingAcquires.remove(this) || promise.isDone()) {
+                return;
+            }
+            pendingAcquireTimeoutCounter.increment();
+            pendingAcquireTimer.record(System.nanoTime() - enqueuedNanos, TimeUnit.NANOSECONDS);
+            // Fails the promise with ORIGIN_SERVER_MAX_CONNS, unless a slot has opened up in the meantime.
+            makeNewConnection(eventLoop, promise, passport, selectedHostAddr);
+        }
+    }
+
     protected boolean isWithinConnectionLimit(Promise<PooledConnection> promise) {
         // Enforce MaxConnectionsPerHost config.
         int maxConnectionsPerHost = config.maxConnectionsPerHost();
@@ -310,9 +777,11 @@ public class PerServerConnectionPool implements IConnectionPool {
             passport.add(PassportState.ORIGIN_CH_CONNECTED);
             createConnSucceededCounter.increment();
             connsInUse.incrementAndGet();
+            loadStats.connectionAcquired();
             createConnection(cf, callerPromise, passport);
         } else {
             createConnFailedCounter.increment();
+            loadStats.recordConnectFailure();
 
             // unwrap DecoderExceptions to get a better indication of why decoding failed
             // as decoding failures are not indicative of actual connection causes
@@ -339,6 +808,7 @@ public class PerServerConnectionPool implements IConnectionPool {
     protected void createConnection(
             ChannelFuture cf, Promise<PooledConnection> callerPromise, CurrentPassport passport) {
         PooledConnection conn = pooledConnectionFactory.create(cf.channel());
+        watchForClose(conn);
 
         conn.incrementUsageCount();
         conn.startRequestTimer();
@@ -364,6 +834,11 @@ public class PerServerConnectionPool implements IConnectionPool {
             return false;
         }
 
+        PendingAcquire waiter = isValidFromPool(conn) ? pollPendingAcquire() : null;
+        if (waiter != null) {
+            return handToPendingAcquire(conn, waiter);
+        }
+
         // Get the eventloop for this channel.
         EventLoop eventLoop = conn.getChannel().eventLoop();
         Deque<PooledConnection> connections = getPoolForEventLoop(eventLoop);
@@ -378,7 +853,7 @@ public class PerServerConnectionPool implements IConnectionPool {
             return false;
         }
         // Attempt to return connection to the pool.
-        else if (connections.offer(conn)) {
+        else if (offerReleased(connections, conn)) {
             conn.setInPool(true);
             connsInPool.incrementAndGet();
             passport.add(PassportState.ORIGIN_CH_POOL_RETURNED);
@@ -391,6 +866,14 @@ public class PerServerConnectionPool implements IConnectionPool {
         }
     }
 
+    private boolean offerReleased(Deque<PooledConnection> connections, PooledConnection conn) {
+        // The minimum of idle connections is exempt from the idle timeout started on release, like when pre-warmed.
+        if (!config.isIdleReaperEnabled() && connections.size() < minIdleConnections()) {
+            removeIdleStateHandler(conn);
+        }
+        return connections.offer(conn);
+    }
+
     protected boolean isOverPerServerWaterline(int connectionsInPool) {
         int poolWaterline = config.perServerWaterline();
         return poolWaterline > -1 && connectionsInPool >= poolWaterline;
@@ -421,6 +904,12 @@ public class PerServerConnectionPool implements IConnectionPool {
 
     @Override
     public void shutdown() {
+        shutdown = true;
+        PendingAcquire waiter;
+        while ((waiter = pendingAcquires.poll()) != null) {
+            waiter.timeout.cancel(false);
+            waiter.promise.tryFailure(new IllegalStateException("Connection pool shut down"));
+        }
         for (Deque<PooledConnection> connections : connectionsPerEventLoop.values()) {
             for (PooledConnection conn : connections) {
                 conn.close();
@@ -448,6 +937,213 @@ public class PerServerConnectionPool implements IConnectionPool {
         return connsInUse.get();
     }
 
+    @Override
+    public void prewarm(EventLoop eventLoop) {
+        if (config.minIdleConnectionsPerServer() <= 0 || draining || shutdown) {
+            return;
+        }
+        Prewarmer prewarmer = new Prewarmer(eventLoop);
+        if (prewarmers.putIfAbsent(eventLoop, prewarmer) == null) {
+            eventLoop.execute(prewarmer);
+        }
+    }
+
+    /**
+     * The minimum of idle connections to keep pooled per event loop.  Anything above the waterline would just be
+     * closed again on release, so it caps the minimum.
+     */
+    protected int minIdleConnections() {
+        int minIdle = config.minIdleConnectionsPerServer();
+        int waterline = config.perServerWaterline();
+        return waterline > -1 ? Math.min(minIdle, waterline) : minIdle;
+    }
+
+    /**
+     * Keeps {@link ConnectionPoolConfig#minIdleConnectionsPerServer()} idle connections pooled on one event loop.
+     * Only one connect is in flight at a time, and connects are spaced out with jitter, so that a new server or a
+     * freshly started instance doesn't hit the origin with a burst of SYNs.  Failed connects back off exponentially,
+     * and aren't held against the server, as no request was waiting for them.  Runs only on its own event loop.
+     */
+    protected final class Prewarmer implements Runnable {
+        private final EventLoop eventLoop;
+        private boolean connecting;
+        private int successiveFailures;
+        private long retryAtNanos;
+
+        Prewarmer(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        @Override
+        public void run() {
+            if (draining || shutdown) {
+                prewarmers.remove(eventLoop, this);
+                return;
+            }
+
+            long delay = config.getPrewarmCheckInterval();
+            long backoffNanos = successiveFailures > 0 ? retryAtNanos - System.nanoTime() : 0;
+            if (backoffNanos > 0) {
+                delay = Math.min(delay, TimeUnit.NANOSECONDS.toMillis(backoffNanos) + 1);
+            } else if (!connecting && needsMoreIdleConnections()) {
+                openIdleConnection();
+                int interval = config.getPrewarmConnectInterval();
+                delay = interval + ThreadLocalRandom.current().nextInt(Math.max(1, interval));
+            }
+            eventLoop.schedule(this, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private boolean needsMoreIdleConnections() {
+            int maxConnectionsPerHost = config.maxConnectionsPerHost();
+            int openAndOpeningConnectionCount = server.getOpenConnectionsCount() + connCreationsInProgress.get();
+            if (maxConnectionsPerHost != -1 && openAndOpeningConnectionCount >= maxConnectionsPerHost) {
+                return false;
+            }
+            return getPoolForEventLoop(eventLoop).size() < minIdleConnections();
+        }
+
+        private void openIdleConnection() {
+            connecting = true;
+            createNewConnCounter.increment();
+            connCreationsInProgress.incrementAndGet();
+            ChannelFuture cf;
+            try {
+                cf = connectToServer(eventLoop, CurrentPassport.create(), serverAddr);
+            } catch (Throwable e) {
+                connecting = false;
+                connCreationsInProgress.decrementAndGet();
+                createConnFailedCounter.increment();
+                backOff();
+                LOG.warn("Error pre-warming connection! origin={}, host={}", config.getOriginName(), server, e);
+                return;
+            }
+            cf.addListener(future -> onIdleConnectComplete((ChannelFuture) future));
+        }
+
+        private void onIdleConnectComplete(ChannelFuture cf) {
+            connecting = false;
+            connCreationsInProgress.decrementAndGet();
+            if (!cf.isSuccess()) {
+                createConnFailedCounter.increment();
+                backOff();
+                LOG.debug("Failed pre-warming connection to {}", server, cf.cause());
+                return;
+            }
+
+            successiveFailures = 0;
+            createConnSucceededCounter.increment();
+            server.incrementOpenConnectionsCount();
+            if (poolIdleConnection(cf.channel(), eventLoop)) {
+                prewarmCounter.increment();
+            }
+        }
+
+        private void backOff() {
+            successiveFailures++;
+            long backoffMillis = Math.min(
+                    MAX_PREWARM_BACKOFF_MILLIS,
+                    (long) config.getPrewarmConnectInterval() << Math.min(successiveFailures, 16));
+            retryAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+        }
+    }
+
+    /**
+     * Puts a newly connected channel, that no request is waiting for, into the pool of the given event loop.
+     *
+     * @return false if the connection was closed instead.
+     */
+    protected boolean poolIdleConnection(Channel channel, EventLoop eventLoop) {
+        PooledConnection conn = pooledConnectionFactory.create(channel);
+        watchForClose(conn);
+        if (draining || shutdown) {
+            conn.close();
+            return false;
+        }
+
+        Deque<PooledConnection> connections = getPoolForEventLoop(eventLoop);
+        // The minimum of idle connections is exempt from the idle timeout, or pre-warming would just keep replacing it.
+        if (!config.isIdleReaperEnabled() && connections.size() >= minIdleConnections()) {
+            DefaultClientChannelManager.addIdleStateHandler(conn.getChannel().pipeline(), config.getIdleTimeout());
+        }
+        if (!isOverPerServerWaterline(connections.size()) && connections.offer(conn)) {
+            conn.setInPool(true);
+            connsInPool.incrementAndGet();
+            return true;
+        }
+        conn.close();
+        return false;
+    }
+
+    @Override
+    public ServerLoadStats getLoadStats() {
+        return loadStats;
+    }
+
+    @Override
+    public DiscoveryResult getServer() {
+        return server;
+    }
+
+    @Override
+    public int reapIdleConnections(EventLoop eventLoop) {
+        Deque<PooledConnection> connections = connectionsPerEventLoop.get(eventLoop);
+        if (connections == null) {
+            return 0;
+        }
+        long idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getIdleTimeout());
+        int waterline = config.perServerWaterline();
+        int minIdle = minIdleConnections();
+        int size = connections.size();
+        long now = System.nanoTime();
+        int reaped = 0;
+        PooledConnection conn;
+        // Keep the minimum of idle connections, or pre-warming would just open them again.
+        while (size > minIdle && (conn = connections.peekFirst()) != null) {
+            boolean idle = now - conn.getPooledAtNanos() >= idleTimeoutNanos;
+            if (!idle && (waterline < 0 || size <= waterline)) {
+                break;
+            }
+            // Another event loop may have stolen it in the meantime.
+            if (connections.removeFirstOccurrence(conn)) {
+                conn.setInPool(false);
+                connsInPool.decrementAndGet();
+                idleReapedCounter.increment();
+                conn.close();
+                reaped++;
+            }
+            size--;
+        }
+        return reaped;
+    }
+
+    @Override
+    public ServerPoolStats getStats() {
+        int idle = 0;
+        int minIdle = Integer.MAX_VALUE;
+        int maxIdle = 0;
+        for (Deque<PooledConnection> connections : connectionsPerEventLoop.values()) {
+            int size = connections.size();
+            idle += size;
+            minIdle = Math.min(minIdle, size);
+            maxIdle = Math.max(maxIdle, size);
+        }
+        int pending = pendingAcquires.size();
+        return new ServerPoolStats(
+                server.getServerId(),
+                idle,
+                loadStats.getConnsInUse(),
+                connCreationsInProgress.get(),
+                pending,
+                minIdle == Integer.MAX_VALUE ? 0 : minIdle,
+                maxIdle);
+    }
+
+    @Override
+    public boolean hasIdleConnections(EventExecutor eventLoop) {
+        Deque<PooledConnection> connections = connectionsPerEventLoop.get(eventLoop);
+        return connections != null && !connections.isEmpty();
+    }
+
     @Nullable protected InetAddress getSelectedHostString(SocketAddress addr) {
         if (addr instanceof InetSocketAddress) {
             return ((InetSocketAddress) addr).getAddress();
@@ -64,6 +64,7 @@ public class PooledConnection {
     private long usageCount = 0;
     private long reqStartTime;
     private boolean inPool = false;
+    private long pooledAtNanos;
     private boolean shouldClose = false;
     protected boolean released = false;
 
@@ -146,9 +147,19 @@ public class PooledConnection {
     }
 
     public void setInPool(boolean inPool) {
+        if (inPool && !this.inPool) {
+            pooledAtNanos = System.nanoTime();
+        }
         this.inPool = inPool;
     }
 
+    /**
+     * @return the {@link System#nanoTime()} at which this connection was last put into the pool.
+     */
+    public long getPooledAtNanos() {
+        return pooledAtNanos;
+    }
+
     public boolean isShouldClose() {
         return shouldClose;
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.zuul.discovery.DiscoveryResult;
+import com.netflix.zuul.resolver.Resolver;
+import com.netflix.zuul.resolver.ResolverListener;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.internal.ThreadExecutorMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Picks two servers at random from the delegate's candidate set and sends the request to the less loaded one.
+ * <p>
+ * Load is derived from the per-server connection pools: connections in use, a moving average of response latency and
+ * a moving error rate.  Servers that already have an idle pooled connection on the calling event loop get a discount,
+ * since choosing them avoids opening a new connection.  If the delegate doesn't expose its candidates, selection falls
+ * back to {@link Resolver#resolve(Object)} on the delegate.
+ */
+public class PowerOfTwoChoicesResolver implements Resolver<DiscoveryResult> {
+
+    /**
+     * Multiplier applied to the cost of a server with an idle connection on the current event loop.
+     */
+    static final double IDLE_CONNECTION_DISCOUNT = 0.5;
+
+    /**
+     * How much a 100% error rate inflates the cost of a server.
+     */
+    static final double ERROR_PENALTY = 10;
+
+    private final Resolver<DiscoveryResult> delegate;
+    private final Function<DiscoveryResult, IConnectionPool> poolLookup;
+
+    public PowerOfTwoChoicesResolver(
+            Resolver<DiscoveryResult> delegate, Function<DiscoveryResult, IConnectionPool> poolLookup) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.poolLookup = Objects.requireNonNull(poolLookup, "poolLookup");
+    }
+
+    @Override
+    public DiscoveryResult resolve(@Nullable Object key) {
+        List<DiscoveryResult> servers = delegate.getServers();
+        int size = servers.size();
+        if (size == 0) {
+            return delegate.resolve(key);
+        }
+        if (size == 1) {
+            return servers.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        return choose(servers.get(first), servers.get(second), ThreadExecutorMap.currentExecutor());
+    }
+
+    @VisibleForTesting
+    DiscoveryResult choose(DiscoveryResult first, DiscoveryResult second, @Nullable EventExecutor currentLoop) {
+        // Never prefer a server whose circuit breaker is open if there is an alternative.
+        boolean firstTripped = first.isCircuitBreakerTripped();
+        if (firstTripped != second.isCircuitBreakerTripped()) {
+            return firstTripped ? second : first;
+        }
+
+        IConnectionPool firstPool = poolLookup.apply(first);
+        IConnectionPool secondPool = poolLookup.apply(second);
+        ServerLoadStats firstStats = firstPool != null ? firstPool.getLoadStats() : null;
+        ServerLoadStats secondStats = secondPool != null ? secondPool.getLoadStats() : null;
+
+        double firstLatency = firstStats != null ? firstStats.getLatencyEwmaMillis() : -1;
+        double secondLatency = secondStats != null ? secondStats.getLatencyEwmaMillis() : -1;
+        // A server with no latency history is assumed to be as fast as the one it's being compared against.
+        if (firstLatency < 0) {
+            firstLatency = Math.max(secondLatency, 0);
+        }
+        if (secondLatency < 0) {
+            secondLatency = Math.max(firstLatency, 0);
+        }
+
+        double firstCost = cost(firstPool, firstStats, firstLatency, currentLoop);
+        double secondCost = cost(secondPool, secondStats, secondLatency, currentLoop);
+        return secondCost < firstCost ? second : first;
+    }
+
+    private static double cost(
+            @Nullable IConnectionPool pool,
+            @Nullable ServerLoadStats stats,
+            double latencyMillis,
+            @Nullable EventExecutor currentLoop) {
+        int inUse = stats != null ? stats.getConnsInUse() : 0;
+        double errorRate = stats != null ? stats.getErrorRateEwma() : 0;
+
+        double cost = (inUse + 1) * (latencyMillis + 1) * (1 + ERROR_PENALTY * errorRate);
+        if (pool != null && currentLoop != null && pool.hasIdleConnections(currentLoop)) {
+            cost *= IDLE_CONNECTION_DISCOUNT;
+        }
+        return cost;
+    }
+
+    @Override
+    public boolean hasServers() {
+        return delegate.hasServers();
+    }
+
+    @Override
+    public List<DiscoveryResult> getServers() {
+        return delegate.getServers();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public void setListener(ResolverListener<DiscoveryResult> listener) {
+        delegate.setListener(listener);
+    }
+}
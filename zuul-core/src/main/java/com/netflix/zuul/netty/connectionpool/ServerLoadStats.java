@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load signals for a single origin server, kept alongside its {@link PerServerConnectionPool} and consumed by
+ * {@link PowerOfTwoChoicesResolver}.
+ * <p>
+ * The moving averages are updated from whichever event loop released the connection, without synchronization.  A lost
+ * update only costs a slightly stale average, which is acceptable for a load balancing hint.
+ */
+public final class ServerLoadStats {
+
+    /**
+     * Weight given to the newest sample. 0.1 roughly averages over the last ~20 samples.
+     */
+    static final double DEFAULT_DECAY = 0.1;
+
+    private final double decay;
+    private final AtomicInteger connsInUse = new AtomicInteger();
+
+    private volatile double latencyEwmaMillis = -1;
+    private volatile double errorRateEwma = 0;
+    private volatile double connectTimeEwmaMillis = -1;
+
+    public ServerLoadStats() {
+        this(DEFAULT_DECAY);
+    }
+
+    ServerLoadStats(double decay) {
+        if (decay <= 0 || decay > 1) {
+            throw new IllegalArgumentException("decay must be in (0, 1]: " + decay);
+        }
+        this.decay = decay;
+    }
+
+    public void connectionAcquired() {
+        connsInUse.incrementAndGet();
+    }
+
+    public void connectionReleased() {
+        connsInUse.decrementAndGet();
+    }
+
+    public void recordResponse(long responseTimeMillis, boolean error) {
+        double latency = latencyEwmaMillis;
+        latencyEwmaMillis = latency < 0 ? responseTimeMillis : latency + decay * (responseTimeMillis - latency);
+        recordOutcome(error);
+    }
+
+    public void recordConnectFailure() {
+        recordOutcome(true);
+    }
+
+    public void recordConnectTime(long connectTimeMillis) {
+        double connectTime = connectTimeEwmaMillis;
+        connectTimeEwmaMillis =
+                connectTime < 0 ? connectTimeMillis : connectTime + decay * (connectTimeMillis - connectTime);
+    }
+
+    private void recordOutcome(boolean error) {
+        double errorRate = errorRateEwma;
+        errorRateEwma = errorRate + decay * ((error ? 1 : 0) - errorRate);
+    }
+
+    public int getConnsInUse() {
+        return Math.max(0, connsInUse.get());
+    }
+
+    /**
+     * @return the latency moving average in milliseconds, or {@code -1} if no response has been recorded yet.
+     */
+    public double getLatencyEwmaMillis() {
+        return latencyEwmaMillis;
+    }
+
+    /**
+     * @return the moving average of successful connect times in milliseconds, or {@code -1} if none was recorded yet.
+     */
+    public double getConnectTimeEwmaMillis() {
+        return connectTimeEwmaMillis;
+    }
+
+    /**
+     * @return the moving error ratio, between 0 and 1.
+     */
+    public double getErrorRateEwma() {
+        return errorRateEwma;
+    }
+
+    @Override
+    public String toString() {
+        return "ServerLoadStats{" + "connsInUse=" + connsInUse.get() + ", latencyEwmaMillis=" + latencyEwmaMillis
+                + ", errorRateEwma=" + errorRateEwma + '}';
+    }
+}
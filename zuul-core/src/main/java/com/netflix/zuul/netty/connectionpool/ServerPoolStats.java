@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+/**
+ * A point in time snapshot of the connections one {@link IConnectionPool} holds to a single server.
+ *
+ * @param serverId the server the pool connects to
+ * @param idle connections sitting in the pool
+ * @param inUse connections currently handed out to requests
+ * @param creating connects in progress
+ * @param pendingAcquires acquires waiting for a connection to free up
+ * @param minIdlePerEventLoop fewest idle connections pooled on any one event loop
+ * @param maxIdlePerEventLoop most idle connections pooled on any one event loop
+ */
+public record ServerPoolStats(
+        String serverId,
+        int idle,
+        int inUse,
+        int creating,
+        int pendingAcquires,
+        int minIdlePerEventLoop,
+        int maxIdlePerEventLoop) {
+
+    /**
+     * @return how unevenly the idle connections are spread across event loops.  A large skew means requests on some
+     * event loops have to open new connections (or steal them) while others have plenty sitting idle.
+     */
+    public int eventLoopSkew() {
+        return maxIdlePerEventLoop - minIdlePerEventLoop;
+    }
+}
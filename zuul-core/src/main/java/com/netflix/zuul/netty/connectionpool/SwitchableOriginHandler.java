@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import com.netflix.zuul.netty.server.OriginResponseReceiver;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.IdleStateEvent;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Permanent handler on pooled origin channels that stands in for the per-request {@link OriginResponseReceiver} and
+ * the pool's idle timeout, so that the pipeline doesn't change as the connection moves in and out of the pool.
+ * <p>
+ * While a request is in flight, events are dispatched to that request's receiver as if it were in the pipeline at this
+ * position.  While the connection is pooled, an {@link IdleStateEvent} is fired once nothing has been read for the idle
+ * timeout, the same as the {@code IdleStateHandler} it replaces.
+ * <p>
+ * Channels whose initializer doesn't install this handler fall back to adding and removing those handlers, see
+ * {@link #attachReceiver}.
+ */
+public final class SwitchableOriginHandler extends ChannelDuplexHandler {
+
+    public static final String NAME = "switchableOriginHandler";
+
+    private ChannelHandlerContext ctx;
+    @Nullable private volatile ChannelDuplexHandler receiver;
+
+    private long idleTimeoutNanos;
+    private long lastReadNanos;
+    @Nullable private Future<?> idleTimeoutTask;
+
+    @Nullable public static SwitchableOriginHandler get(ChannelPipeline pipeline) {
+        return (SwitchableOriginHandler) pipeline.get(NAME);
+    }
+
+    /**
+     * Routes the channel's events to the given receiver until {@link #detachReceiver} is called.
+     */
+    public static void attachReceiver(ChannelPipeline pipeline, OriginResponseReceiver receiver) {
+        SwitchableOriginHandler handler = get(pipeline);
+        if (handler != null) {
+            handler.receiver = receiver;
+        } else {
+            pipeline.addBefore(
+                    DefaultOriginChannelInitializer.CONNECTION_POOL_HANDLER,
+                    OriginResponseReceiver.CHANNEL_HANDLER_NAME,
+                    receiver);
+        }
+    }
+
+    public static void detachReceiver(ChannelPipeline pipeline) {
+        SwitchableOriginHandler handler = get(pipeline);
+        if (handler != null) {
+            handler.receiver = null;
+        } else {
+            DefaultClientChannelManager.removeHandlerFromPipeline(
+                    OriginResponseReceiver.CHANNEL_HANDLER_NAME, pipeline);
+        }
+    }
+
+    /**
+     * Starts tracking idleness, called when the connection goes into the pool.
+     */
+    void startIdleTimeout(int idleTimeoutMillis) {
+        stopIdleTimeout();
+        if (idleTimeoutMillis <= 0 || ctx == null) {
+            return;
+        }
+        idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        lastReadNanos = System.nanoTime();
+        scheduleIdleCheck(idleTimeoutNanos);
+    }
+
+    /**
+     * Stops tracking idleness, called when the connection is taken out of the pool.
+     */
+    void stopIdleTimeout() {
+        idleTimeoutNanos = 0;
+        if (idleTimeoutTask != null) {
+            idleTimeoutTask.cancel(false);
+            idleTimeoutTask = null;
+        }
+    }
+
+    private void scheduleIdleCheck(long delayNanos) {
+        idleTimeoutTask = ctx.executor().schedule(this::checkIdle, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void checkIdle() {
+        idleTimeoutTask = null;
+        if (idleTimeoutNanos == 0 || !ctx.channel().isOpen()) {
+            return;
+        }
+        long remaining = idleTimeoutNanos - (System.nanoTime() - lastReadNanos);
+        if (remaining > 0) {
+            scheduleIdleCheck(remaining);
+        } else {
+            idleTimeoutNanos = 0;
+            ctx.fireUserEventTriggered(IdleStateEvent.ALL_IDLE_STATE_EVENT);
+        }
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        stopIdleTimeout();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (idleTimeoutNanos != 0) {
+            lastReadNanos = System.nanoTime();
+        }
+        ChannelDuplexHandler current = receiver;
+        if (current != null) {
+            current.channelRead(ctx, msg);
+        } else {
+            super.channelRead(ctx, msg);
+        }
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        ChannelDuplexHandler current = receiver;
+        if (current != null) {
+            current.userEventTriggered(ctx, evt);
+        } else {
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        ChannelDuplexHandler current = receiver;
+        if (current != null) {
+            current.exceptionCaught(ctx, cause);
+        } else {
+            super.exceptionCaught(ctx, cause);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        stopIdleTimeout();
+        ChannelDuplexHandler current = receiver;
+        if (current != null) {
+            current.channelInactive(ctx);
+        } else {
+            super.channelInactive(ctx);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        ChannelDuplexHandler current = receiver;
+        if (current != null) {
+            current.channelWritabilityChanged(ctx);
+        } else {
+            super.channelWritabilityChanged(ctx);
+        }
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        ChannelDuplexHandler current = receiver;
+        if (current != null) {
+            current.write(ctx, msg, promise);
+        } else {
+            super.write(ctx, msg, promise);
+        }
+    }
+}
@@ -220,6 +220,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
 
             if (!isMessageBodyReadyForFilter(filter, inMesg)) {
                 setFilterAwaitingBody(inMesg, true);
+                RequestBodyFlowControl.resume(inMesg);
                 logger.debug(
                         "Filter {} waiting for body, UUID {}",
                         filter.filterName(),
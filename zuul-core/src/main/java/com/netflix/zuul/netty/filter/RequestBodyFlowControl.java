@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.filter;
+
+import com.netflix.config.CachedDynamicBooleanProperty;
+import com.netflix.netty.common.ChannelReadPauses;
+import com.netflix.config.CachedDynamicIntProperty;
+import com.netflix.spectator.api.Counter;
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.message.ZuulMessage;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.netty.SpectatorUtils;
+
+/**
+ * Stops reading the body of a request from the client while the inbound filters or the proxy endpoint can't pass it
+ * on yet, so that large uploads wait in the client's socket and flow control windows rather than in direct memory.
+ * <p>
+ * Reading is paused once more than {@code zuul.request.body.flow.control.max.buffered.bytes} of the body is buffered
+ * because an async filter is still running, or because the proxy endpoint hasn't connected to the origin yet.  It is
+ * resumed as soon as the body can move on: when the proxy endpoint has written the buffered body to the origin, when a
+ * filter or endpoint needs the whole body buffered, or when the response starts, whichever comes first.
+ */
+public final class RequestBodyFlowControl {
+
+    private static final CachedDynamicBooleanProperty ENABLED =
+            new CachedDynamicBooleanProperty("zuul.request.body.flow.control.enabled", false);
+    private static final CachedDynamicIntProperty MAX_BUFFERED_BYTES =
+            new CachedDynamicIntProperty("zuul.request.body.flow.control.max.buffered.bytes", 64 * 1024);
+
+    private static final SessionContext.Key<Boolean> READ_PAUSED = SessionContext.newKey("_request_body_read_paused");
+
+    private static final Counter PAUSES = SpectatorUtils.newCounter("zuul.request.body.read", "paused");
+
+    private RequestBodyFlowControl() {}
+
+    /**
+     * Called after a chunk of the request body was buffered only because the stage it reached can't take it yet, as
+     * opposed to a filter waiting for the whole body.
+     */
+    public static void onChunkBuffered(HttpRequestMessage request) {
+        SessionContext context = request.getContext();
+        if (!ENABLED.get() || context.containsKey(READ_PAUSED) || request.hasCompleteBody()) {
+            return;
+        }
+        if (request.getBodyLength() > MAX_BUFFERED_BYTES.get()) {
+            context.put(READ_PAUSED, Boolean.TRUE);
+            ChannelReadPauses.pause(
+                    BaseZuulFilterRunner.getChannelHandlerContext(request).channel(),
+                    ChannelReadPauses.Reason.REQUEST_BODY_BUFFERED);
+            PAUSES.increment();
+        }
+    }
+
+    /**
+     * Starts reading the body of the request of the given message from the client again, if it was paused here and
+     * nothing else, such as {@code ProxyBackpressure}, is holding reads off too.
+     */
+    public static void resume(ZuulMessage message) {
+        SessionContext context = message.getContext();
+        if (context.remove(READ_PAUSED) != null) {
+            ChannelReadPauses.resume(
+                    BaseZuulFilterRunner.getChannelHandlerContext(message).channel(),
+                    ChannelReadPauses.Reason.REQUEST_BODY_BUFFERED);
+        }
+    }
+
+    static boolean isPaused(ZuulMessage message) {
+        return message.getContext().containsKey(READ_PAUSED);
+    }
+}
@@ -125,6 +125,10 @@ public class ZuulEndPointRunner extends BaseZuulFilterRunner<HttpRequestMessage,
                     endpoint.filterName(),
                     zuulReq.getContext().getUUID());
             setEndpoint(zuulReq, endpoint);
+            if (!(endpoint instanceof ProxyEndpoint)) {
+                // Only the proxy endpoint streams the body on, other endpoints may need all of it.
+                RequestBodyFlowControl.resume(zuulReq);
+            }
             HttpResponseMessage zuulResp = filter(endpoint, zuulReq);
 
             if ((zuulResp != null) && !(endpoint instanceof ProxyEndpoint)) {
@@ -159,6 +163,10 @@ public class ZuulEndPointRunner extends BaseZuulFilterRunner<HttpRequestMessage,
                 ByteBufUtil.touch(newChunk, "Endpoint buffering newChunk, ZuulMessage: ", zuulReq);
                 // Endpoints do not directly forward content chunks to next stage in the filter chain.
                 zuulReq.bufferBodyContents(newChunk);
+                if (endpoint instanceof ProxyEndpoint) {
+                    // Buffered until the proxy endpoint has connected to the origin.
+                    RequestBodyFlowControl.onChunkBuffered(zuulReq);
+                }
 
                 // deallocate original chunk if necessary
                 if (newChunk != chunk) {
@@ -16,10 +16,14 @@
 
 package com.netflix.zuul.netty.filter;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.config.CachedDynamicBooleanProperty;
 import com.netflix.netty.common.ByteBufUtil;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spectator.impl.Preconditions;
 import com.netflix.zuul.FilterUsageNotifier;
+import com.netflix.zuul.filters.BaseFilter;
+import com.netflix.zuul.filters.SyncZuulFilterAdapter;
 import com.netflix.zuul.filters.ZuulFilter;
 import com.netflix.zuul.message.ZuulMessage;
 import com.netflix.zuul.message.http.HttpRequestMessage;
@@ -30,6 +34,7 @@ import io.netty.handler.codec.http.HttpContent;
 import io.netty.util.ReferenceCountUtil;
 import io.perfmark.PerfMark;
 import io.perfmark.TaskCloseable;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -40,7 +45,15 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public class ZuulFilterChainRunner<T extends ZuulMessage> extends BaseZuulFilterRunner<T, T> {
 
+    /**
+     * If {@code true}, body chunks of a message that has passed through the whole chain skip the filters when none of
+     * them transforms chunks, rather than asking each filter whether it applies.
+     */
+    private static final CachedDynamicBooleanProperty CHUNK_PASS_THROUGH =
+            new CachedDynamicBooleanProperty("zuul.filters.chunk.passthrough.enabled", false);
+
     private final ZuulFilter<T, T>[] filters;
+    private final boolean chunkPassThrough;
 
     public ZuulFilterChainRunner(
             ZuulFilter<T, T>[] zuulFilters,
@@ -49,6 +62,7 @@ public class ZuulFilterChainRunner<T extends ZuulMessage> extends BaseZuulFilter
             Registry registry) {
         super(zuulFilters[0].filterType(), usageNotifier, nextStage, registry);
         this.filters = zuulFilters;
+        this.chunkPassThrough = Arrays.stream(zuulFilters).noneMatch(ZuulFilterChainRunner::transformsChunks);
     }
 
     public ZuulFilterChainRunner(ZuulFilter<T, T>[] zuulFilters, FilterUsageNotifier usageNotifier, Registry registry) {
@@ -73,6 +87,10 @@ public class ZuulFilterChainRunner<T extends ZuulMessage> extends BaseZuulFilter
 
             AtomicInteger runningFilterIdx = getRunningFilterIndex(inMesg);
             int limit = runningFilterIdx.get();
+            if (limit >= filters.length && chunkPassThrough && CHUNK_PASS_THROUGH.get()) {
+                invokeNextStage(inMesg, chunk);
+                return;
+            }
             for (int i = 0; i < limit; i++) {
                 ZuulFilter<T, T> filter = filters[i];
                 filterName = filter.filterName();
@@ -101,6 +119,10 @@ public class ZuulFilterChainRunner<T extends ZuulMessage> extends BaseZuulFilter
                 inMesg.bufferBodyContents(chunk);
 
                 boolean isAwaitingBody = isFilterAwaitingBody(inMesg.getContext());
+                if (!isAwaitingBody && inMesg instanceof HttpRequestMessage request) {
+                    // Buffered only because an async filter is still running.
+                    RequestBodyFlowControl.onChunkBuffered(request);
+                }
 
                 // Record passport states for start and end of buffering bodies.
                 if (isAwaitingBody) {
@@ -132,6 +154,29 @@ public class ZuulFilterChainRunner<T extends ZuulMessage> extends BaseZuulFilter
         }
     }
 
+    /**
+     * @return true if none of the filters of this chain transforms body chunks.
+     */
+    public boolean isChunkPassThrough() {
+        return chunkPassThrough;
+    }
+
+    /**
+     * A filter is assumed to transform chunks unless it keeps one of the pass-through implementations of
+     * {@link ZuulFilter#processContentChunk}.
+     */
+    @VisibleForTesting
+    static boolean transformsChunks(ZuulFilter<?, ?> filter) {
+        try {
+            Class<?> declaringClass = filter.getClass()
+                    .getMethod("processContentChunk", ZuulMessage.class, HttpContent.class)
+                    .getDeclaringClass();
+            return declaringClass != BaseFilter.class && declaringClass != SyncZuulFilterAdapter.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
     @Override
     protected void resume(T inMesg) {
         try (TaskCloseable ignored = PerfMark.traceTask(this, s -> s.getClass().getSimpleName() + ".resume")) {
@@ -295,9 +295,44 @@ public abstract class BaseServerStartup {
                         "connection.close.delay",
                         CommonChannelConfigKeys.connCloseDelay.defaultValue())));
 
+        addAllocatorConfig(config, listenAddressName);
+
         return config;
     }
 
+    public static void addAllocatorConfig(ChannelConfig config, String listenAddressName) {
+        config.add(new ChannelConfigValue<>(
+                CommonChannelConfigKeys.allocatorPerEventLoop,
+                chooseBooleanChannelProperty(
+                        listenAddressName,
+                        "allocator.per.event.loop",
+                        CommonChannelConfigKeys.allocatorPerEventLoop.defaultValue())));
+        config.add(new ChannelConfigValue<>(
+                CommonChannelConfigKeys.allocatorPageSize,
+                chooseIntChannelProperty(
+                        listenAddressName,
+                        "allocator.page.size",
+                        CommonChannelConfigKeys.allocatorPageSize.defaultValue())));
+        config.add(new ChannelConfigValue<>(
+                CommonChannelConfigKeys.allocatorMaxOrder,
+                chooseIntChannelProperty(
+                        listenAddressName,
+                        "allocator.max.order",
+                        CommonChannelConfigKeys.allocatorMaxOrder.defaultValue())));
+        config.add(new ChannelConfigValue<>(
+                CommonChannelConfigKeys.allocatorSmallCacheSize,
+                chooseIntChannelProperty(
+                        listenAddressName,
+                        "allocator.small.cache.size",
+                        CommonChannelConfigKeys.allocatorSmallCacheSize.defaultValue())));
+        config.add(new ChannelConfigValue<>(
+                CommonChannelConfigKeys.allocatorNormalCacheSize,
+                chooseIntChannelProperty(
+                        listenAddressName,
+                        "allocator.normal.cache.size",
+                        CommonChannelConfigKeys.allocatorNormalCacheSize.defaultValue())));
+    }
+
     public static void addHttp2DefaultConfig(ChannelConfig config, String listenAddressName) {
         config.add(new ChannelConfigValue<>(
                 CommonChannelConfigKeys.maxConcurrentStreams,
@@ -332,6 +367,31 @@ public abstract class BaseServerStartup {
                 chooseBooleanChannelProperty(listenAddressName, "connection.close.swallow.unknown.exceptions", false)));
     }
 
+    /**
+     * Adds the QUIC transport settings of an HTTP/3 listener.  The stream limits use the same config keys as HTTP/2,
+     * but are read from {@code http3.*} properties.
+     */
+    public static void addHttp3DefaultConfig(ChannelConfig config, String listenAddressName) {
+        config.add(new ChannelConfigValue<>(
+                CommonChannelConfigKeys.maxConcurrentStreams,
+                chooseIntChannelProperty(
+                        listenAddressName,
+                        "http3.max.concurrent.streams",
+                        CommonChannelConfigKeys.maxConcurrentStreams.defaultValue())));
+        config.add(new ChannelConfigValue<>(
+                CommonChannelConfigKeys.initialWindowSize,
+                chooseIntChannelProperty(
+                        listenAddressName,
+                        "http3.initialwindowsize",
+                        CommonChannelConfigKeys.initialWindowSize.defaultValue())));
+        config.add(new ChannelConfigValue<>(
+                CommonChannelConfigKeys.http3InitialMaxData,
+                chooseIntChannelProperty(
+                        listenAddressName,
+                        "http3.initialmaxdata",
+                        CommonChannelConfigKeys.http3InitialMaxData.defaultValue())));
+    }
+
     // TODO(carl-mastrangelo): remove this after 2.1.7
 
     /**
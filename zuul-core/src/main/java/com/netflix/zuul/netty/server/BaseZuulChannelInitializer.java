@@ -20,6 +20,8 @@ import com.google.common.base.Preconditions;
 import com.netflix.config.CachedDynamicBooleanProperty;
 import com.netflix.config.CachedDynamicIntProperty;
 import com.netflix.netty.common.CloseOnIdleStateHandler;
+import com.netflix.netty.common.EventLoopByteBufAllocator;
+import com.netflix.netty.common.FlushBatchingHandler;
 import com.netflix.netty.common.Http1ConnectionCloseHandler;
 import com.netflix.netty.common.Http1ConnectionExpiryHandler;
 import com.netflix.netty.common.HttpRequestReadTimeoutHandler;
@@ -57,6 +59,7 @@ import com.netflix.zuul.netty.filter.ZuulFilterChainRunner;
 import com.netflix.zuul.netty.insights.PassportLoggingHandler;
 import com.netflix.zuul.netty.insights.PassportStateHttpServerHandler;
 import com.netflix.zuul.netty.insights.ServerStateHandler;
+import com.netflix.zuul.netty.server.http3.AltSvcHeaderHandler;
 import com.netflix.zuul.netty.server.ssl.SslHandshakeInfoHandler;
 import com.netflix.zuul.netty.timeouts.HttpHeadersTimeoutHandler;
 import com.netflix.zuul.passport.PassportState;
@@ -72,6 +75,7 @@ import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.AttributeKey;
 import java.util.SortedSet;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /**
  * User: Mike Smith
@@ -97,6 +101,12 @@ public abstract class BaseZuulChannelInitializer extends ChannelInitializer<Chan
     public static final CachedDynamicIntProperty HTTP_REQUEST_HEADERS_READ_TIMEOUT =
             new CachedDynamicIntProperty("server.http.request.headers.read.timeout", 10000);
 
+    public static final CachedDynamicBooleanProperty FLUSH_BATCHING_ENABLED =
+            new CachedDynamicBooleanProperty("server.http.flush.batching.enabled", false);
+
+    public static final CachedDynamicIntProperty FLUSH_BATCHING_MAX_DELAYED_FLUSHES =
+            new CachedDynamicIntProperty("server.http.flush.batching.maxDelayedFlushes", 256);
+
     /**
      * The port that the server intends to listen on.  Subclasses should NOT use this field, as it may not be set, and
      * may differ from the actual listening port.  For example:
@@ -143,6 +153,7 @@ public abstract class BaseZuulChannelInitializer extends ChannelInitializer<Chan
     protected final FilterLoader filterLoader;
     protected final FilterUsageNotifier filterUsageNotifier;
     protected final SourceAddressChannelHandler sourceAddressChannelHandler;
+    @Nullable protected final AltSvcHeaderHandler altSvcHeaderHandler;
 
     /** A collection of all the active channels that we can use to things like graceful shutdown */
     protected final ChannelGroup channels;
@@ -223,6 +234,9 @@ public abstract class BaseZuulChannelInitializer extends ChannelInitializer<Chan
         this.filterUsageNotifier = channelDependencies.get(ZuulDependencyKeys.filterUsageNotifier);
 
         this.sourceAddressChannelHandler = new SourceAddressChannelHandler();
+
+        String altSvc = channelConfig.get(CommonChannelConfigKeys.altSvc);
+        this.altSvcHeaderHandler = altSvc == null ? null : new AltSvcHeaderHandler(altSvc);
     }
 
     protected void storeChannel(Channel ch) {
@@ -232,6 +246,11 @@ public abstract class BaseZuulChannelInitializer extends ChannelInitializer<Chan
         // introspect
         // and potentially act differently based on the config.
         ch.attr(ATTR_CHANNEL_CONFIG).set(channelConfig);
+
+        if (channelConfig.get(CommonChannelConfigKeys.allocatorPerEventLoop)) {
+            ch.config()
+                    .setAllocator(EventLoopByteBufAllocator.forEventLoopGroup(ch.eventLoop().parent(), channelConfig));
+        }
     }
 
     protected void addPassportHandler(ChannelPipeline pipeline) {
@@ -249,6 +268,13 @@ public abstract class BaseZuulChannelInitializer extends ChannelInitializer<Chan
 
     protected void addHttp1Handlers(ChannelPipeline pipeline) {
         pipeline.addLast(HTTP_CODEC_HANDLER_NAME, createHttpServerCodec());
+        if (FLUSH_BATCHING_ENABLED.get()) {
+            pipeline.addLast(
+                    FlushBatchingHandler.NAME,
+                    new FlushBatchingHandler(
+                            FLUSH_BATCHING_MAX_DELAYED_FLUSHES.get(),
+                            registry.distributionSummary("server.http.writesPerFlush", "id", metricId)));
+        }
 
         pipeline.addLast(new Http1ConnectionCloseHandler());
         pipeline.addLast(
@@ -292,6 +318,10 @@ public abstract class BaseZuulChannelInitializer extends ChannelInitializer<Chan
             pipeline.addLast(rateLimitingChannelHandler);
         }
 
+        if (altSvcHeaderHandler != null) {
+            pipeline.addLast(altSvcHeaderHandler);
+        }
+
         // pipeline.addLast(requestRejectedChannelHandler);
     }
 
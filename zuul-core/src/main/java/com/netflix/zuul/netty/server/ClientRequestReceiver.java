@@ -19,9 +19,11 @@ package com.netflix.zuul.netty.server;
 import static com.netflix.netty.common.HttpLifecycleChannelHandler.CompleteEvent;
 import static com.netflix.netty.common.HttpLifecycleChannelHandler.CompleteReason;
 import com.netflix.netty.common.SourceAddressChannelHandler;
+import com.netflix.netty.common.metrics.ByteBufOwner;
 import com.netflix.netty.common.ssl.SslHandshakeInfo;
 import com.netflix.netty.common.throttle.RejectionUtils;
 import com.netflix.spectator.api.Spectator;
+import com.netflix.zuul.cache.ResponseCache;
 import com.netflix.zuul.context.CommonContextKeys;
 import com.netflix.zuul.context.Debug;
 import com.netflix.zuul.context.SessionContext;
@@ -67,10 +69,8 @@ import io.perfmark.PerfMark;
 import io.perfmark.TaskCloseable;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -195,7 +195,8 @@ public class ClientRequestReceiver extends ChannelDuplexHandler {
 
             // Send the request down the filter pipeline
             ctx.fireChannelRead(zuulRequest);
-        } else if (msg instanceof HttpContent) {
+        } else if (msg instanceof HttpContent chunk) {
+            ByteBufOwner.CLIENT_INBOUND.received(chunk.content().readableBytes());
             if ((zuulRequest != null) && !zuulRequest.getContext().isCancelled()) {
                 ctx.fireChannelRead(msg);
             } else {
@@ -220,6 +221,12 @@ public class ClientRequestReceiver extends ChannelDuplexHandler {
             if (zuulRequest != null) {
                 zuulRequest.getContext().cancel();
                 zuulRequest.disposeBufferedBody();
+                ResponseCache.Fill fill = zuulRequest.getContext().remove(CommonContextKeys.RESPONSE_CACHE_FILL);
+                if (fill != null) {
+                    // The response never made it through the outbound filters, so let the requests waiting for it
+                    // go to the origin now rather than once the fill times out.
+                    fill.abandon();
+                }
                 CurrentPassport passport = CurrentPassport.fromSessionContext(zuulRequest.getContext());
                 if ((passport != null) && (passport.findState(PassportState.OUT_RESP_LAST_CONTENT_SENT) == null)) {
                     // Only log this state if the response does not seem to have completed normally.
@@ -364,7 +371,7 @@ public class ClientRequestReceiver extends ChannelDuplexHandler {
                 nativeRequest.method().asciiName().toString().toLowerCase(Locale.ROOT),
                 path,
                 copyQueryParams(nativeRequest),
-                copyHeaders(nativeRequest),
+                Headers.wrap(nativeRequest.headers()),
                 clientIp,
                 scheme,
                 port,
@@ -434,15 +441,6 @@ public class ClientRequestReceiver extends ChannelDuplexHandler {
         }
     }
 
-    private static Headers copyHeaders(HttpRequest req) {
-        Headers headers = new Headers(req.headers().size());
-        for (Iterator<Entry<String, String>> it = req.headers().iteratorAsString(); it.hasNext(); ) {
-            Entry<String, String> header = it.next();
-            headers.add(header.getKey(), header.getValue());
-        }
-        return headers;
-    }
-
     public static HttpQueryParams copyQueryParams(HttpRequest nativeRequest) {
         String uri = nativeRequest.uri();
         int queryStart = uri.indexOf('?');
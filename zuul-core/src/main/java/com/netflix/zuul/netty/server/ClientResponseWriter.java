@@ -20,6 +20,8 @@ import static com.netflix.netty.common.HttpLifecycleChannelHandler.CompleteEvent
 import static com.netflix.netty.common.HttpLifecycleChannelHandler.StartEvent;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.netflix.config.CachedDynamicBooleanProperty;
+import com.netflix.config.CachedDynamicIntProperty;
 import com.netflix.netty.common.HttpLifecycleChannelHandler.CompleteReason;
 import com.netflix.spectator.api.Counter;
 import com.netflix.spectator.api.NoopRegistry;
@@ -27,11 +29,11 @@ import com.netflix.spectator.api.Registry;
 import com.netflix.zuul.RequestCompleteHandler;
 import com.netflix.zuul.context.CommonContextKeys;
 import com.netflix.zuul.exception.ZuulException;
-import com.netflix.zuul.message.Header;
 import com.netflix.zuul.message.http.HttpRequestInfo;
 import com.netflix.zuul.message.http.HttpRequestMessage;
 import com.netflix.zuul.message.http.HttpResponseMessage;
 import com.netflix.zuul.netty.ChannelUtils;
+import com.netflix.zuul.netty.filter.RequestBodyFlowControl;
 import com.netflix.zuul.stats.status.StatusCategory;
 import com.netflix.zuul.stats.status.StatusCategoryUtils;
 import com.netflix.zuul.stats.status.ZuulStatusCategory;
@@ -50,7 +52,6 @@ import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
-import io.netty.handler.codec.http2.HttpConversionUtil;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.netty.util.ReferenceCountUtil;
@@ -64,6 +65,18 @@ public class ClientResponseWriter extends ChannelInboundHandlerAdapter {
 
     private static final Registry NOOP_REGISTRY = new NoopRegistry();
 
+    /**
+     * Writes response headers through a {@link EncodedHeaderCache}, so that the common ones are copied into the
+     * outbound buffer as pre-encoded bytes.
+     */
+    private static final CachedDynamicBooleanProperty HEADER_CACHE_ENABLED =
+            new CachedDynamicBooleanProperty("zuul.response.header.cache.enabled", false);
+
+    private static final CachedDynamicIntProperty HEADER_CACHE_MAX_ENTRIES =
+            new CachedDynamicIntProperty("zuul.response.header.cache.max.entries", 1024);
+
+    private static final EncodedHeaderCache HEADER_CACHE = new EncodedHeaderCache(HEADER_CACHE_MAX_ENTRIES.get());
+
     private final RequestCompleteHandler requestCompleteHandler;
     private final Counter responseBeforeReceivedLastContentCounter;
 
@@ -92,7 +105,8 @@ public class ClientResponseWriter extends ChannelInboundHandlerAdapter {
         Channel channel = ctx.channel();
 
         if (msg instanceof HttpResponseMessage resp) {
-            
+            // Whatever happens to the response, the rest of the request body has to be read.
+            RequestBodyFlowControl.resume(resp);
 
             if (skipProcessing(resp)) {
                 return;
@@ -186,8 +200,10 @@ public class ClientResponseWriter extends ChannelInboundHandlerAdapter {
 
         // Now set all of the response headers - note this is a multi-set in keeping with HTTP semantics
         HttpHeaders nativeHeaders = nativeResponse.headers();
-        for (Header entry : zuulResp.getHeaders().entries()) {
-            nativeHeaders.add(entry.getKey(), entry.getValue());
+        if (HEADER_CACHE_ENABLED.get()) {
+            HEADER_CACHE.addTo(zuulResp.getHeaders(), nativeHeaders);
+        } else {
+            zuulResp.getHeaders().addTo(nativeHeaders);
         }
 
         // Netty does not automatically add Content-Length or Transfer-Encoding: chunked. So we add here if missing.
@@ -203,12 +219,6 @@ public class ClientResponseWriter extends ChannelInboundHandlerAdapter {
             nativeResponse.headers().set("Connection", "close");
         }
 
-        // TODO - temp hack for http/2 handling.
-        if (nativeReq.headers().contains(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text())) {
-            String streamId = nativeReq.headers().get(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text());
-            nativeResponse.headers().set(HttpConversionUtil.ExtensionHeaderNames.STREAM_ID.text(), streamId);
-        }
-
         return nativeResponse;
     }
 
@@ -312,6 +322,14 @@ public class ClientResponseWriter extends ChannelInboundHandlerAdapter {
         }
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (zuulResponse != null) {
+            ProxyBackpressure.onClientWritabilityChanged(zuulResponse.getContext());
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
         super.channelInactive(ctx);
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server;
+
+import com.netflix.zuul.message.Headers;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpObjectEncoder;
+import io.netty.util.AsciiString;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the response header names, and the values of headers that tend to repeat across responses, as
+ * {@link AsciiString}s.  {@link HttpObjectEncoder} copies the bytes of an {@link AsciiString} straight into the
+ * outbound buffer, where a String is encoded to bytes one char at a time on every response.
+ * <p>
+ * Only the values of the headers in {@link #REPEATED_VALUE_HEADERS} are cached, since most other values (dates,
+ * lengths, ids) differ every time.  Both caches stop growing once full, rather than evicting, so the common entries
+ * that fill them first stay in them.  Only ASCII names and values are cached, since the encoder writes any other char
+ * of a String as {@code ?}.
+ */
+final class EncodedHeaderCache {
+
+    static final Set<String> REPEATED_VALUE_HEADERS = Set.of(
+            "server",
+            "vary",
+            "cache-control",
+            "connection",
+            "content-type",
+            "content-encoding",
+            "transfer-encoding",
+            "accept-ranges",
+            "access-control-allow-origin",
+            "access-control-allow-credentials",
+            "access-control-allow-methods",
+            "access-control-allow-headers",
+            "access-control-expose-headers",
+            "access-control-max-age",
+            "timing-allow-origin",
+            "strict-transport-security",
+            "x-content-type-options",
+            "x-frame-options");
+
+    private static final int MAX_VALUE_LENGTH = 256;
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, CachedName> names = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AsciiString> values = new ConcurrentHashMap<>();
+
+    EncodedHeaderCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Adds all the headers to the given Netty headers, swapping in the cached form of each name and value there is
+     * one for.
+     */
+    void addTo(Headers headers, HttpHeaders target) {
+        headers.forEachOriginal((name, value) -> {
+            CachedName cachedName = name(name);
+            if (cachedName == null) {
+                target.add(name, value);
+            } else if (cachedName.repeatedValues()) {
+                target.add(cachedName.encoded(), value(value));
+            } else {
+                target.add(cachedName.encoded(), value);
+            }
+        });
+    }
+
+    private CachedName name(String name) {
+        CachedName cached = names.get(name);
+        if (cached == null && names.size() < maxEntries && isAscii(name)) {
+            cached = new CachedName(
+                    new AsciiString(name), REPEATED_VALUE_HEADERS.contains(name.toLowerCase(Locale.ROOT)));
+            CachedName existing = names.putIfAbsent(name, cached);
+            if (existing != null) {
+                cached = existing;
+            }
+        }
+        return cached;
+    }
+
+    private CharSequence value(String value) {
+        AsciiString cached = values.get(value);
+        if (cached == null) {
+            if (values.size() >= maxEntries || value.length() > MAX_VALUE_LENGTH || !isAscii(value)) {
+                return value;
+            }
+            cached = new AsciiString(value);
+            AsciiString existing = values.putIfAbsent(value, cached);
+            if (existing != null) {
+                cached = existing;
+            }
+        }
+        return cached;
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record CachedName(AsciiString encoded, boolean repeatedValues) {}
+}
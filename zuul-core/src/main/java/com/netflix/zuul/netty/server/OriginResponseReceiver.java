@@ -18,11 +18,12 @@ package com.netflix.zuul.netty.server;
 
 import com.netflix.netty.common.HttpLifecycleChannelHandler.CompleteEvent;
 import com.netflix.netty.common.HttpLifecycleChannelHandler.CompleteReason;
+import com.netflix.netty.common.metrics.ByteBufOwner;
+import com.netflix.zuul.context.SessionContext;
 import com.netflix.zuul.exception.OutboundErrorType;
 import com.netflix.zuul.exception.OutboundException;
 import com.netflix.zuul.exception.ZuulException;
 import com.netflix.zuul.filters.endpoint.ProxyEndpoint;
-import com.netflix.zuul.message.Header;
 import com.netflix.zuul.message.http.HttpQueryParams;
 import com.netflix.zuul.message.http.HttpRequestMessage;
 import com.netflix.zuul.netty.ChannelUtils;
@@ -48,6 +49,7 @@ import io.perfmark.TaskCloseable;
 import java.io.IOException;
 import java.util.Locale;
 import java.util.Objects;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,30 +85,55 @@ public class OriginResponseReceiver extends ChannelDuplexHandler {
     protected void channelReadInternal(ChannelHandlerContext ctx, Object msg) throws Exception {
         if (msg instanceof HttpResponse) {
             if (edgeProxy != null) {
-                edgeProxy.responseFromOrigin((HttpResponse) msg);
+                edgeProxy.responseFromOrigin(this, (HttpResponse) msg);
             } else if (ReferenceCountUtil.refCnt(msg) > 0) {
                 // this handles the case of a DefaultFullHttpResponse that could have content that needs to be released
                 ReferenceCountUtil.safeRelease(msg);
             }
-            ctx.channel().read();
+            readNext(ctx);
         } else if (msg instanceof HttpContent chunk) {
+            ByteBufOwner.ORIGIN_INBOUND.received(chunk.content().readableBytes());
             if (edgeProxy != null) {
                 edgeProxy.invokeNext(chunk);
             } else {
                 ReferenceCountUtil.safeRelease(chunk);
             }
-            ctx.channel().read();
+            readNext(ctx);
         } else {
             // should never happen
             ReferenceCountUtil.release(msg);
             Exception error = new IllegalStateException("Received invalid message from origin");
             if (edgeProxy != null) {
-                edgeProxy.errorFromOrigin(error);
+                edgeProxy.errorFromOrigin(this, error);
             }
             ctx.fireExceptionCaught(error);
         }
     }
 
+    private void readNext(ChannelHandlerContext ctx) {
+        SessionContext context = proxiedRequestContext();
+        if (context != null) {
+            ProxyBackpressure.readFromOrigin(context, ctx.channel());
+        } else {
+            ctx.channel().read();
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        SessionContext context = proxiedRequestContext();
+        if (context != null) {
+            ProxyBackpressure.onOriginWritabilityChanged(context, ctx.channel());
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Nullable private SessionContext proxiedRequestContext() {
+        ProxyEndpoint proxy = edgeProxy;
+        HttpRequestMessage request = proxy != null ? proxy.getZuulRequest() : null;
+        return request != null ? request.getContext() : null;
+    }
+
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
         if (evt instanceof CompleteEvent completeEvent) {
@@ -117,15 +144,17 @@ public class OriginResponseReceiver extends ChannelDuplexHandler {
                     logger.warn(
                             "Origin request completed with close, after getting a SslCloseCompletionEvent event: {}",
                             ChannelUtils.channelInfoForLogging(ctx.channel()));
-                    edgeProxy.errorFromOrigin(new OriginConnectException(
-                            "Origin connection close_notify", OutboundErrorType.CLOSE_NOTIFY_CONNECTION));
+                    edgeProxy.errorFromOrigin(
+                            this,
+                            new OriginConnectException(
+                                    "Origin connection close_notify", OutboundErrorType.CLOSE_NOTIFY_CONNECTION));
                 } else {
                     logger.error(
                             "Origin request completed with reason other than COMPLETE: {}, {}",
                             reason.name(),
                             ChannelUtils.channelInfoForLogging(ctx.channel()));
                     ZuulException ze = new ZuulException("CompleteEvent", reason.name(), true);
-                    edgeProxy.errorFromOrigin(ze);
+                    edgeProxy.errorFromOrigin(this, ze);
                 }
             }
 
@@ -144,7 +173,7 @@ public class OriginResponseReceiver extends ChannelDuplexHandler {
                 logger.error(
                         "Origin request received IDLE event: {}", ChannelUtils.channelInfoForLogging(ctx.channel()));
                 edgeProxy.errorFromOrigin(
-                        new OutboundException(OutboundErrorType.READ_TIMEOUT, edgeProxy.getRequestAttempts()));
+                        this, new OutboundException(OutboundErrorType.READ_TIMEOUT, edgeProxy.getRequestAttempts()));
             }
             super.userEventTriggered(ctx, evt);
         } else if (evt instanceof SslCloseCompletionEvent) {
@@ -174,9 +203,7 @@ public class OriginResponseReceiver extends ChannelDuplexHandler {
         DefaultHttpRequest nettyReq =
                 new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.valueOf(method), uri, false);
         // Copy headers across.
-        for (Header h : zuulRequest.getHeaders().entries()) {
-            nettyReq.headers().add(h.getKey(), h.getValue());
-        }
+        zuulRequest.getHeaders().addTo(nettyReq.headers());
 
         return nettyReq;
     }
@@ -267,7 +294,7 @@ public class OriginResponseReceiver extends ChannelDuplexHandler {
             ProxyEndpoint ep = edgeProxy;
             edgeProxy = null;
             errMesg += ep.getOrigin().getName();
-            ep.errorFromOrigin(cause);
+            ep.errorFromOrigin(this, cause);
         }
         ctx.fireExceptionCaught(new ZuulException(cause, errMesg, true));
     }
@@ -286,7 +313,7 @@ public class OriginResponseReceiver extends ChannelDuplexHandler {
             } else {
                 logger.error("Error from Origin connection:", cause);
             }
-            edgeProxy.errorFromOrigin(cause);
+            edgeProxy.errorFromOrigin(this, cause);
         }
         ctx.fireExceptionCaught(cause);
     }
@@ -297,7 +324,7 @@ public class OriginResponseReceiver extends ChannelDuplexHandler {
             logger.debug("Origin channel inactive. channel-info={}", ChannelUtils.channelInfoForLogging(ctx.channel()));
             OriginConnectException ex =
                     new OriginConnectException("Origin server inactive", OutboundErrorType.RESET_CONNECTION);
-            edgeProxy.errorFromOrigin(ex);
+            edgeProxy.errorFromOrigin(this, ex);
         }
         super.channelInactive(ctx);
         ctx.close();
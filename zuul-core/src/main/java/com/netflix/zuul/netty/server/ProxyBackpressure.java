@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server;
+
+import com.netflix.config.CachedDynamicBooleanProperty;
+import com.netflix.netty.common.ChannelReadPauses;
+import com.netflix.spectator.api.Timer;
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.netty.SpectatorUtils;
+import com.netflix.zuul.netty.connectionpool.ClientTimeoutHandler;
+import io.netty.channel.Channel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps each side of a proxied request from reading faster than the other side can be written to.  While the client
+ * channel is not writable, the next read from the origin channel is held back, so a fast origin can't fill the
+ * outbound buffer of a slow client with the response.  While the origin channel is not writable, reading from the
+ * client channel stops, so a fast client can't fill the outbound buffer of a slow origin with the request body.
+ * <p>
+ * Origin channels don't read automatically, {@link OriginResponseReceiver} asks for each message, which is the point
+ * where a read is held back.  The read timeout of the origin channel is suspended meanwhile, as it is the client that
+ * is slow.  Reads from the client channel are paused through {@link ChannelReadPauses}, so that they don't start again
+ * while {@code RequestBodyFlowControl} still holds them off, nor the other way round.  Time spent paused in either
+ * direction is recorded to {@code zuul.proxy.backpressure}.
+ * <p>
+ * A request is tracked from the time the proxy endpoint has written it to an origin connection until it unlinks from
+ * that connection, and only on the connection it is currently using, not on a hedge that is still racing it.
+ */
+public final class ProxyBackpressure {
+
+    private static final CachedDynamicBooleanProperty ENABLED =
+            new CachedDynamicBooleanProperty("zuul.proxy.backpressure.enabled", false);
+
+    private static final SessionContext.Key<ProxyBackpressure> KEY = SessionContext.newKey("_proxy_backpressure");
+
+    private static final Timer ORIGIN_READ_PAUSED =
+            SpectatorUtils.newTimer("zuul.proxy.backpressure", "origin_read_paused");
+    private static final Timer CLIENT_READ_PAUSED =
+            SpectatorUtils.newTimer("zuul.proxy.backpressure", "client_read_paused");
+
+    private final Channel clientChannel;
+    private Channel originChannel;
+
+    private boolean originReadPaused;
+    private long originReadPausedAtNanos;
+    private boolean clientReadPaused;
+    private long clientReadPausedAtNanos;
+
+    private ProxyBackpressure(Channel clientChannel, Channel originChannel) {
+        this.clientChannel = clientChannel;
+        this.originChannel = originChannel;
+    }
+
+    /**
+     * Starts tracking the request of the given context on the given origin channel, replacing the channel of an
+     * earlier attempt.  Called once the request has been written to the origin channel.
+     */
+    public static void link(SessionContext context, Channel clientChannel, Channel originChannel) {
+        ProxyBackpressure backpressure = context.get(KEY);
+        if (backpressure != null) {
+            backpressure.resumeOriginRead(false);
+            backpressure.originChannel = originChannel;
+        } else if (ENABLED.get()) {
+            backpressure = new ProxyBackpressure(clientChannel, originChannel);
+            context.put(KEY, backpressure);
+        } else {
+            return;
+        }
+        backpressure.checkOriginWritability();
+    }
+
+    /**
+     * Stops tracking the request of the given context, and starts reading from the client again if it was paused.
+     * The origin channel is left as it is, since it is either done with the response or about to be closed.
+     */
+    public static void unlink(SessionContext context) {
+        ProxyBackpressure backpressure = context.remove(KEY);
+        if (backpressure != null) {
+            backpressure.resumeOriginRead(false);
+            backpressure.resumeClientRead();
+        }
+    }
+
+    /**
+     * Reads the next message from the given origin channel, unless the client channel can't take any more of the
+     * response for now, in which case the read happens once it can.
+     */
+    public static void readFromOrigin(SessionContext context, Channel originChannel) {
+        ProxyBackpressure backpressure = context.get(KEY);
+        if (backpressure == null
+                || backpressure.originChannel != originChannel
+                || backpressure.clientChannel.isWritable()
+                || !backpressure.clientChannel.isActive()) {
+            originChannel.read();
+        } else if (!backpressure.originReadPaused) {
+            backpressure.originReadPaused = true;
+            backpressure.originReadPausedAtNanos = System.nanoTime();
+            ClientTimeoutHandler.suspendReadTimeout(originChannel);
+        }
+    }
+
+    public static void onClientWritabilityChanged(SessionContext context) {
+        ProxyBackpressure backpressure = context.get(KEY);
+        if (backpressure != null && backpressure.clientChannel.isWritable()) {
+            backpressure.resumeOriginRead(true);
+        }
+    }
+
+    /**
+     * Called after a chunk of the request body was written to the origin channel.
+     */
+    public static void onRequestChunkWritten(SessionContext context) {
+        ProxyBackpressure backpressure = context.get(KEY);
+        if (backpressure != null) {
+            backpressure.checkOriginWritability();
+        }
+    }
+
+    public static void onOriginWritabilityChanged(SessionContext context, Channel originChannel) {
+        ProxyBackpressure backpressure = context.get(KEY);
+        if (backpressure != null && backpressure.originChannel == originChannel) {
+            backpressure.checkOriginWritability();
+        }
+    }
+
+    private void checkOriginWritability() {
+        if (originChannel.isWritable() || !originChannel.isActive()) {
+            resumeClientRead();
+        } else if (!clientReadPaused) {
+            clientReadPaused = true;
+            clientReadPausedAtNanos = System.nanoTime();
+            ChannelReadPauses.pause(clientChannel, ChannelReadPauses.Reason.ORIGIN_NOT_WRITABLE);
+        }
+    }
+
+    private void resumeOriginRead(boolean read) {
+        if (originReadPaused) {
+            originReadPaused = false;
+            ORIGIN_READ_PAUSED.record(System.nanoTime() - originReadPausedAtNanos, TimeUnit.NANOSECONDS);
+            ClientTimeoutHandler.resumeReadTimeout(originChannel, read);
+            if (read) {
+                originChannel.read();
+            }
+        }
+    }
+
+    private void resumeClientRead() {
+        if (clientReadPaused) {
+            clientReadPaused = false;
+            CLIENT_READ_PAUSED.record(System.nanoTime() - clientReadPausedAtNanos, TimeUnit.NANOSECONDS);
+            ChannelReadPauses.resume(clientChannel, ChannelReadPauses.Reason.ORIGIN_NOT_WRITABLE);
+        }
+    }
+}
@@ -20,8 +20,10 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.netflix.appinfo.InstanceInfo;
 import com.netflix.config.DynamicBooleanProperty;
+import com.netflix.config.DynamicIntProperty;
 import com.netflix.netty.common.CategorizedThreadFactory;
 import com.netflix.netty.common.LeastConnsEventLoopChooserFactory;
+import com.netflix.netty.common.metrics.ByteBufAllocatorMetrics;
 import com.netflix.netty.common.metrics.EventLoopGroupMetrics;
 import com.netflix.netty.common.status.ServerStatusManager;
 import com.netflix.spectator.api.Registry;
@@ -30,10 +32,14 @@ import com.netflix.spectator.api.patterns.PolledMeter;
 import com.netflix.zuul.Attrs;
 import com.netflix.zuul.monitoring.ConnCounter;
 import com.netflix.zuul.monitoring.ConnTimer;
+import com.netflix.zuul.netty.server.http3.Http3ChannelInitializer;
+import io.netty.bootstrap.AbstractBootstrap;
+import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufAllocatorMetric;
 import io.netty.buffer.ByteBufAllocatorMetricProvider;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
@@ -41,21 +47,28 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.DefaultSelectStrategyFactory;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.kqueue.KQueue;
+import io.netty.channel.kqueue.KQueueDatagramChannel;
 import io.netty.channel.kqueue.KQueueEventLoopGroup;
 import io.netty.channel.kqueue.KQueueServerSocketChannel;
 import io.netty.channel.kqueue.KQueueSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.unix.UnixChannelOption;
 import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringDatagramChannel;
 import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
 import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
 import io.netty.incubator.channel.uring.IOUringSocketChannel;
@@ -78,6 +91,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -108,6 +122,28 @@ public class Server {
     private static final DynamicBooleanProperty FORCE_IO_URING =
             new DynamicBooleanProperty("zuul.server.netty.socket.force_io_uring", false);
 
+    /**
+     * If {@code true} and the epoll or io_uring transport is in use, each address is bound once per worker event loop
+     * with SO_REUSEPORT, and each of those listeners accepts on its own worker event loop.  The kernel then spreads
+     * new connections across the event loops, rather than all of them going through the acceptor threads.
+     * <p>
+     * UDP listeners, such as for HTTP/3, are still bound once, see {@link #setupDatagramBootstrap}.
+     */
+    private static final DynamicBooleanProperty REUSE_PORT =
+            new DynamicBooleanProperty("zuul.server.netty.socket.reuse_port", false);
+
+    /**
+     * The TCP_FASTOPEN queue length of listening sockets when the epoll transport is in use, or 0 to disable it.
+     */
+    private static final DynamicIntProperty TCP_FASTOPEN =
+            new DynamicIntProperty("zuul.server.netty.socket.tcp_fastopen", 0);
+
+    /**
+     * The TCP_DEFER_ACCEPT timeout of listening sockets in seconds, when the epoll transport is in use.
+     */
+    private static final DynamicIntProperty TCP_DEFER_ACCEPT =
+            new DynamicIntProperty("zuul.server.netty.socket.tcp_defer_accept", -1);
+
     private static final Logger LOG = LoggerFactory.getLogger(Server.class);
 
     private static final DynamicBooleanProperty USE_LEASTCONNS_FOR_EVENTLOOPS =
@@ -128,6 +164,10 @@ public class Server {
      * Unlike the above, the socket addresses in this map are the *bound* addresses, rather than the requested ones.
      */
     private final Map<NamedSocketAddress, Channel> addressesToChannels = new LinkedHashMap<>();
+    /**
+     * The additional listeners bound to the addresses above when using SO_REUSEPORT.
+     */
+    private final List<Channel> reusePortChannels = new ArrayList<>();
 
     private final EventLoopConfig eventLoopConfig;
 
@@ -231,15 +271,37 @@ public class Server {
                 "Salamander", eventLoopConfig.acceptorCount(), eventLoopConfig.eventLoopCount(), eventLoopGroupMetrics);
         serverGroup.initializeTransport();
         List<ChannelFuture> allBindFutures = new ArrayList<>(addressesToInitializers.size());
+        List<EventLoop> workerEventLoops = eventLoopsOf(serverGroup.clientToProxyWorkerPool);
+        int datagramListeners = 0;
 
         // Setup each of the channel initializers on requested ports.
         for (Map.Entry<NamedSocketAddress, ? extends ChannelInitializer<?>> entry :
                 addressesToInitializers.entrySet()) {
             NamedSocketAddress requestedNamedAddr = entry.getKey();
-            ChannelFuture nettyServerFuture = setupServerBootstrap(requestedNamedAddr, entry.getValue());
+            if (entry.getValue() instanceof Http3ChannelInitializer) {
+                // Spread the UDP listeners of different addresses over the worker event loops.
+                EventLoop eventLoop = workerEventLoops.get(datagramListeners++ % workerEventLoops.size());
+                ChannelFuture datagramFuture = setupDatagramBootstrap(requestedNamedAddr, entry.getValue(), eventLoop);
+                Channel chan = datagramFuture.channel();
+                addressesToChannels.put(requestedNamedAddr.withNewSocket(chan.localAddress()), chan);
+                allBindFutures.add(datagramFuture);
+                continue;
+            }
+            List<EventLoop> listenerEventLoops = serverGroup.listenerEventLoops;
+            EventLoop firstEventLoop = listenerEventLoops.isEmpty() ? null : listenerEventLoops.get(0);
+            ChannelFuture nettyServerFuture =
+                    setupServerBootstrap(requestedNamedAddr, entry.getValue(), firstEventLoop);
             Channel chan = nettyServerFuture.channel();
-            addressesToChannels.put(requestedNamedAddr.withNewSocket(chan.localAddress()), chan);
+            NamedSocketAddress boundNamedAddr = requestedNamedAddr.withNewSocket(chan.localAddress());
+            addressesToChannels.put(boundNamedAddr, chan);
             allBindFutures.add(nettyServerFuture);
+
+            // Bind the other listeners to the address the first one got, in case the requested port was 0.
+            for (int i = 1; i < listenerEventLoops.size(); i++) {
+                ChannelFuture listenerFuture =
+                        setupServerBootstrap(boundNamedAddr, entry.getValue(), listenerEventLoops.get(i));
+                reusePortChannels.add(listenerFuture.channel());
+            }
         }
 
         // All channels should share a single ByteBufAllocator instance.
@@ -255,6 +317,9 @@ public class Server {
                         .withId(registry.createId("zuul.nettybuffermem.live", "type", "direct"))
                         .monitorValue(metrics, ByteBufAllocatorMetric::usedDirectMemory);
             }
+            if (alloc instanceof PooledByteBufAllocator pooled) {
+                ByteBufAllocatorMetrics.register(registry, "default", pooled);
+            }
         }
     }
 
@@ -262,6 +327,9 @@ public class Server {
         for (Channel chan : addressesToChannels.values()) {
             chan.closeFuture().sync();
         }
+        for (Channel chan : reusePortChannels) {
+            chan.closeFuture().sync();
+        }
     }
 
     public final List<NamedSocketAddress> getListeningAddresses() {
@@ -281,10 +349,19 @@ public class Server {
         }
     }
 
+    /**
+     * @param acceptorEventLoop the worker event loop to accept on when the address has a listener per event loop, or
+     *     {@code null} to accept on the acceptor threads.
+     */
     private ChannelFuture setupServerBootstrap(
-            NamedSocketAddress listenAddress, ChannelInitializer<?> channelInitializer) {
+            NamedSocketAddress listenAddress,
+            ChannelInitializer<?> channelInitializer,
+            @Nullable EventLoop acceptorEventLoop) {
+        // Registering with an explicit event loop, as the chooser of the worker pool may put several listeners on one.
+        EventLoopGroup acceptorPool =
+                acceptorEventLoop != null ? acceptorEventLoop : serverGroup.clientToProxyBossPool;
         ServerBootstrap serverBootstrap =
-                new ServerBootstrap().group(serverGroup.clientToProxyBossPool, serverGroup.clientToProxyWorkerPool);
+                new ServerBootstrap().group(acceptorPool, serverGroup.clientToProxyWorkerPool);
 
         LOG.info("Proxy listening with {}", serverGroup.channelType);
         serverBootstrap.channel(serverGroup.channelType);
@@ -303,6 +380,32 @@ public class Server {
         serverBootstrap.childHandler(channelInitializer);
         serverBootstrap.validate();
 
+        return bind(listenAddress, serverBootstrap);
+    }
+
+    /**
+     * Binds a UDP listener, such as for HTTP/3, on the given worker event loop.  All of the packets of the socket are
+     * read on that event loop, and the QUIC connections multiplexed over it are served there too, so a single event
+     * loop serves all of the HTTP/3 traffic of an address.
+     * <p>
+     * Unlike TCP listeners, UDP listeners aren't bound once per event loop with SO_REUSEPORT.  The kernel would pick
+     * the socket by the client's address, so a QUIC connection whose address changes, through a NAT rebinding or a
+     * connection migration, would land on a socket that doesn't know it.  Spreading them safely needs packets routed
+     * by QUIC connection ID, which the QUIC codec doesn't do across sockets.
+     */
+    private ChannelFuture setupDatagramBootstrap(
+            NamedSocketAddress listenAddress, ChannelInitializer<?> channelInitializer, EventLoop eventLoop) {
+        LOG.info("Proxy listening with {}", serverGroup.datagramChannelType);
+        Bootstrap bootstrap = new Bootstrap()
+                .group(eventLoop)
+                .channel(serverGroup.datagramChannelType)
+                .handler(channelInitializer);
+        bootstrap.validate();
+
+        return bind(listenAddress, bootstrap);
+    }
+
+    private ChannelFuture bind(NamedSocketAddress listenAddress, AbstractBootstrap<?, ?> bootstrap) {
         LOG.info("Binding to : {}", listenAddress);
 
         if (MANUAL_DISCOVERY_STATUS.get()) {
@@ -311,7 +414,7 @@ public class Server {
         }
 
         // Bind and start to accept incoming connections.
-        ChannelFuture bindFuture = serverBootstrap.bind(listenAddress.unwrap());
+        ChannelFuture bindFuture = bootstrap.bind(listenAddress.unwrap());
 
         try {
             return bindFuture.sync();
@@ -331,6 +434,14 @@ public class Server {
     public void postEventLoopCreationHook(
             EventLoopGroup clientToProxyBossPool, EventLoopGroup clientToProxyWorkerPool) {}
 
+    private static List<EventLoop> eventLoopsOf(EventLoopGroup eventLoopGroup) {
+        List<EventLoop> eventLoops = new ArrayList<>();
+        for (EventExecutor executor : eventLoopGroup) {
+            eventLoops.add((EventLoop) executor);
+        }
+        return Collections.unmodifiableList(eventLoops);
+    }
+
     private final class ServerGroup {
         /** A name for this ServerGroup to use in naming threads. */
         private final String name;
@@ -342,7 +453,13 @@ public class Server {
         private EventLoopGroup clientToProxyBossPool;
         private EventLoopGroup clientToProxyWorkerPool;
         private Class<? extends ServerChannel> channelType;
+        private Class<? extends DatagramChannel> datagramChannelType;
         private Map<ChannelOption<?>, ?> transportChannelOptions;
+        /**
+         * The worker event loops that each accept on their own SO_REUSEPORT listener of every TCP address, or empty
+         * when each address has a single listener.
+         */
+        private List<EventLoop> listenerEventLoops = List.of();
 
         private volatile boolean stopped = false;
 
@@ -378,20 +495,34 @@ public class Server {
             boolean useIoUring = FORCE_IO_URING.get();
             if (useIoUring && ioUringIsAvailable()) {
                 channelType = IOUringServerSocketChannel.class;
+                datagramChannelType = IOUringDatagramChannel.class;
                 defaultOutboundChannelType.set(IOUringSocketChannel.class);
                 clientToProxyBossPool = new IOUringEventLoopGroup(
                         acceptorThreads, new CategorizedThreadFactory(name + "-ClientToZuulAcceptor"));
                 clientToProxyWorkerPool = new IOUringEventLoopGroup(workerThreads, workerExecutor);
+                if (REUSE_PORT.get()) {
+                    extraOptions.put(UnixChannelOption.SO_REUSEPORT, true);
+                    listenerEventLoops = eventLoopsOf(clientToProxyWorkerPool);
+                }
             } else if (!useNio && epollIsAvailable()) {
                 channelType = EpollServerSocketChannel.class;
+                datagramChannelType = EpollDatagramChannel.class;
                 defaultOutboundChannelType.set(EpollSocketChannel.class);
-                extraOptions.put(EpollChannelOption.TCP_DEFER_ACCEPT, -1);
+                extraOptions.put(EpollChannelOption.TCP_DEFER_ACCEPT, TCP_DEFER_ACCEPT.get());
+                if (TCP_FASTOPEN.get() > 0) {
+                    extraOptions.put(ChannelOption.TCP_FASTOPEN, TCP_FASTOPEN.get());
+                }
                 clientToProxyBossPool = new EpollEventLoopGroup(
                         acceptorThreads, new CategorizedThreadFactory(name + "-ClientToZuulAcceptor"));
                 clientToProxyWorkerPool = new EpollEventLoopGroup(
                         workerThreads, workerExecutor, chooserFactory, DefaultSelectStrategyFactory.INSTANCE);
+                if (REUSE_PORT.get()) {
+                    extraOptions.put(UnixChannelOption.SO_REUSEPORT, true);
+                    listenerEventLoops = eventLoopsOf(clientToProxyWorkerPool);
+                }
             } else if (!useNio && kqueueIsAvailable()) {
                 channelType = KQueueServerSocketChannel.class;
+                datagramChannelType = KQueueDatagramChannel.class;
                 defaultOutboundChannelType.set(KQueueSocketChannel.class);
                 clientToProxyBossPool = new KQueueEventLoopGroup(
                         acceptorThreads, new CategorizedThreadFactory(name + "-ClientToZuulAcceptor"));
@@ -399,6 +530,7 @@ public class Server {
                         workerThreads, workerExecutor, chooserFactory, DefaultSelectStrategyFactory.INSTANCE);
             } else {
                 channelType = NioServerSocketChannel.class;
+                datagramChannelType = NioDatagramChannel.class;
                 defaultOutboundChannelType.set(NioSocketChannel.class);
                 NioEventLoopGroup elg = new NioEventLoopGroup(
                         workerThreads,
@@ -412,6 +544,11 @@ public class Server {
                 clientToProxyWorkerPool = elg;
             }
 
+            if (REUSE_PORT.get() && listenerEventLoops.isEmpty()) {
+                LOG.warn(
+                        "SO_REUSEPORT is only supported with the epoll and io_uring transports, using {}",
+                        channelType);
+            }
             transportChannelOptions = Collections.unmodifiableMap(extraOptions);
 
             postEventLoopCreationHook(clientToProxyBossPool, clientToProxyWorkerPool);
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server.http2;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+import io.netty.handler.codec.MessageToMessageCodec;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpHeadersFactory;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpMessage;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpHeadersFactory;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2StreamFrame;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the frames of an HTTP/2 stream to and from the HTTP/1 objects the rest of the server pipeline works on.
+ * Does the same job as {@link Http2StreamFrameToHttpObjectCodec} on the server side, but with less work per stream:
+ * <ul>
+ *   <li>Request headers are copied once into unvalidated headers, since the HPACK decoder has already validated
+ *   them.</li>
+ *   <li>No {@code x-http2-*} extension headers are added to requests, so {@link Http2StreamHeaderCleaner} doesn't
+ *   need to scan for and remove them again.</li>
+ *   <li>Response headers are converted without being validated a second time, and keep their order, so that the
+ *   same response headers are indexed the same way in the HPACK dynamic table.</li>
+ * </ul>
+ * Only HEADERS and DATA frames are converted; all other frames pass through untouched.
+ */
+@ChannelHandler.Sharable
+public class Http2StreamHttpObjectCodec extends MessageToMessageCodec<Http2StreamFrame, HttpObject> {
+
+    private static final HttpHeadersFactory REQUEST_HEADERS =
+            DefaultHttpHeadersFactory.headersFactory().withValidation(false);
+    private static final HttpHeadersFactory TRAILERS =
+            DefaultHttpHeadersFactory.trailersFactory().withValidation(false);
+
+    @Override
+    public boolean acceptInboundMessage(Object msg) {
+        return msg instanceof Http2HeadersFrame || msg instanceof Http2DataFrame;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, Http2StreamFrame frame, List<Object> out) {
+        if (frame instanceof Http2HeadersFrame headersFrame) {
+            Http2Headers headers = headersFrame.headers();
+            if (headers.method() == null) {
+                // A HEADERS frame after the request headers carries the trailers.
+                LastHttpContent last =
+                        new DefaultLastHttpContent(Unpooled.EMPTY_BUFFER, copyHeaders(headers, TRAILERS.newHeaders()));
+                out.add(last);
+            } else if (headersFrame.isEndStream()) {
+                out.add(new DefaultFullHttpRequest(
+                        HttpVersion.HTTP_1_1,
+                        HttpMethod.valueOf(headers.method().toString()),
+                        path(headers),
+                        Unpooled.EMPTY_BUFFER,
+                        copyHeaders(headers, REQUEST_HEADERS.newHeaders()),
+                        TRAILERS.newHeaders()));
+            } else {
+                HttpHeaders httpHeaders = copyHeaders(headers, REQUEST_HEADERS.newHeaders());
+                if (!httpHeaders.contains(HttpHeaderNames.CONTENT_LENGTH)) {
+                    httpHeaders.add(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
+                }
+                out.add(new DefaultHttpRequest(
+                        HttpVersion.HTTP_1_1,
+                        HttpMethod.valueOf(headers.method().toString()),
+                        path(headers),
+                        httpHeaders));
+            }
+        } else {
+            Http2DataFrame dataFrame = (Http2DataFrame) frame;
+            if (dataFrame.isEndStream()) {
+                out.add(new DefaultLastHttpContent(dataFrame.content().retain(), TRAILERS.newHeaders()));
+            } else {
+                out.add(new DefaultHttpContent(dataFrame.content().retain()));
+            }
+        }
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, HttpObject obj, List<Object> out) {
+        if (obj instanceof HttpResponse response) {
+            Http2Headers headers = new DefaultHttp2Headers(false, response.headers().size() + 1);
+            headers.status(response.status().codeAsText());
+            HttpConversionUtil.toHttp2Headers(response.headers(), headers);
+
+            if (response.status().codeClass() == HttpStatusClass.INFORMATIONAL
+                    && response.status().code() != HttpResponseStatus.SWITCHING_PROTOCOLS.code()) {
+                // Interim responses never end the stream, and have no body of their own.
+                if (!(response instanceof FullHttpResponse)) {
+                    throw new EncoderException(HttpStatusClass.INFORMATIONAL + " response must be a FullHttpResponse");
+                }
+                out.add(new DefaultHttp2HeadersFrame(headers, false));
+                return;
+            }
+
+            boolean endStream = response instanceof FullHttpMessage full
+                    && !full.content().isReadable()
+                    && full.trailingHeaders().isEmpty();
+            out.add(new DefaultHttp2HeadersFrame(headers, endStream));
+            if (endStream) {
+                return;
+            }
+        } else if (!(obj instanceof HttpContent)) {
+            throw new EncoderException("Unexpected message on an HTTP/2 server stream: " + obj);
+        }
+
+        if (obj instanceof LastHttpContent last) {
+            encodeLastContent(last, out);
+        } else if (obj instanceof HttpContent content) {
+            out.add(new DefaultHttp2DataFrame(content.content().retain(), false));
+        }
+    }
+
+    private static void encodeLastContent(LastHttpContent last, List<Object> out) {
+        boolean hasTrailers = !last.trailingHeaders().isEmpty();
+        // A full message with neither body nor trailers has already ended the stream with its headers.
+        boolean needFiller = !(last instanceof FullHttpMessage) && !hasTrailers;
+        if (last.content().isReadable() || needFiller) {
+            out.add(new DefaultHttp2DataFrame(last.content().retain(), !hasTrailers));
+        }
+        if (hasTrailers) {
+            Http2Headers trailers = new DefaultHttp2Headers(false, last.trailingHeaders().size());
+            HttpConversionUtil.toHttp2Headers(last.trailingHeaders(), trailers);
+            out.add(new DefaultHttp2HeadersFrame(trailers, true));
+        }
+    }
+
+    /**
+     * Copies the regular headers of an HTTP/2 header block, turning {@code :authority} into {@code Host} and joining
+     * the cookie crumbs of RFC 9113 section 8.2.3 back into a single {@code Cookie} header.
+     */
+    private static HttpHeaders copyHeaders(Http2Headers in, HttpHeaders out) {
+        CharSequence cookie = null;
+        for (Map.Entry<CharSequence, CharSequence> entry : in) {
+            CharSequence name = entry.getKey();
+            CharSequence value = entry.getValue();
+            if (Http2Headers.PseudoHeaderName.hasPseudoHeaderFormat(name)) {
+                if (Http2Headers.PseudoHeaderName.AUTHORITY.value().contentEquals(name)) {
+                    out.add(HttpHeaderNames.HOST, value);
+                }
+            } else if (HttpHeaderNames.COOKIE.contentEquals(name)) {
+                if (cookie == null) {
+                    cookie = value;
+                } else {
+                    StringBuilder sb = cookie instanceof StringBuilder b ? b : new StringBuilder(cookie);
+                    cookie = sb.append("; ").append(value);
+                }
+            } else if (!isConnectionSpecific(name)) {
+                out.add(name, value);
+            }
+        }
+        if (cookie != null) {
+            out.add(HttpHeaderNames.COOKIE, cookie.toString());
+        }
+        return out;
+    }
+
+    private static boolean isConnectionSpecific(CharSequence name) {
+        return HttpHeaderNames.CONNECTION.contentEquals(name)
+                || HttpHeaderNames.TRANSFER_ENCODING.contentEquals(name)
+                || HttpHeaderNames.TRAILER.contentEquals(name);
+    }
+
+    private static String path(Http2Headers headers) {
+        CharSequence path = HttpMethod.CONNECT.asciiName().contentEquals(headers.method())
+                ? headers.authority()
+                : headers.path();
+        if (path == null) {
+            throw new DecoderException("Request is missing the :path pseudo header");
+        }
+        return path.toString();
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.netflix.zuul.netty.server.http2;
 
+import com.netflix.config.CachedDynamicBooleanProperty;
 import com.netflix.netty.common.Http2ConnectionCloseHandler;
 import com.netflix.netty.common.Http2ConnectionExpiryHandler;
 import com.netflix.netty.common.SourceAddressChannelHandler;
@@ -57,6 +58,14 @@ public class Http2StreamInitializer extends ChannelInboundHandlerAdapter {
             BaseZuulChannelInitializer.ATTR_CHANNEL_CONFIG,
             Server.CONN_DIMENSIONS);
 
+    /**
+     * Converts stream frames with {@link Http2StreamHttpObjectCodec} rather than Netty's own codec, which builds the
+     * request headers twice and adds extension headers that then have to be stripped again.
+     */
+    private static final CachedDynamicBooleanProperty DIRECT_STREAM_CODEC =
+            new CachedDynamicBooleanProperty("server.http2.stream.codec.direct.enabled", false);
+
+    private static final Http2StreamHttpObjectCodec http2StreamHttpObjectCodec = new Http2StreamHttpObjectCodec();
     private static final Http2StreamHeaderCleaner http2StreamHeaderCleaner = new Http2StreamHeaderCleaner();
     private static final Http2ResetFrameHandler http2ResetFrameHandler = new Http2ResetFrameHandler();
     private static final Http2StreamErrorHandler http2StreamErrorHandler = new Http2StreamErrorHandler();
@@ -97,9 +106,14 @@ public class Http2StreamInitializer extends ChannelInboundHandlerAdapter {
         pipeline.addLast("h2_conn_close", connectionCloseHandler);
 
         pipeline.addLast(http2ResetFrameHandler);
-        pipeline.addLast("h2_downgrader", new Http2StreamFrameToHttpObjectCodec(true));
-        pipeline.addLast(http2StreamErrorHandler);
-        pipeline.addLast(http2StreamHeaderCleaner);
+        if (DIRECT_STREAM_CODEC.get()) {
+            pipeline.addLast("h2_downgrader", http2StreamHttpObjectCodec);
+            pipeline.addLast(http2StreamErrorHandler);
+        } else {
+            pipeline.addLast("h2_downgrader", new Http2StreamFrameToHttpObjectCodec(true));
+            pipeline.addLast(http2StreamErrorHandler);
+            pipeline.addLast(http2StreamHeaderCleaner);
+        }
         pipeline.addLast(new Http2ContentLengthEnforcingHandler());
     }
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server.http3;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.util.AsciiString;
+import java.util.Objects;
+
+/**
+ * Advertises an HTTP/3 listener to clients of a TCP listener by adding an {@code Alt-Svc} header (RFC 7838) to every
+ * response that doesn't already have one.  Clients that support HTTP/3 then switch to it for later requests.
+ */
+@ChannelHandler.Sharable
+public final class AltSvcHeaderHandler extends ChannelOutboundHandlerAdapter {
+
+    private static final AsciiString ALT_SVC = AsciiString.cached("alt-svc");
+
+    private final AsciiString value;
+
+    public AltSvcHeaderHandler(String value) {
+        this.value = new AsciiString(Objects.requireNonNull(value, "value"));
+    }
+
+    /**
+     * Returns the {@code Alt-Svc} value advertising HTTP/3 on the given UDP port of the same host, which clients may
+     * remember for {@code maxAgeSeconds}.
+     */
+    public static String http3(int port, int maxAgeSeconds) {
+        return "h3=\":" + port + "\"; ma=" + maxAgeSeconds;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof HttpResponse response && !response.headers().contains(ALT_SVC)) {
+            response.headers().add(ALT_SVC, value);
+        }
+        super.write(ctx, msg, promise);
+    }
+}
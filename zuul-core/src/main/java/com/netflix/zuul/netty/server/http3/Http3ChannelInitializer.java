@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server.http3;
+
+import com.netflix.netty.common.SourceAddressChannelHandler;
+import com.netflix.netty.common.channel.config.ChannelConfig;
+import com.netflix.netty.common.channel.config.CommonChannelConfigKeys;
+import com.netflix.netty.common.ssl.ServerSslConfig;
+import com.netflix.netty.common.ssl.SslHandshakeInfo;
+import com.netflix.zuul.Attrs;
+import com.netflix.zuul.monitoring.ConnCounter;
+import com.netflix.zuul.monitoring.ConnTimer;
+import com.netflix.zuul.netty.server.BaseZuulChannelInitializer;
+import com.netflix.zuul.netty.server.ClientRequestReceiver;
+import com.netflix.zuul.netty.server.Server;
+import com.netflix.zuul.netty.server.http2.Http2OrHttpHandler;
+import com.netflix.zuul.netty.server.ssl.SslHandshakeInfoHandler;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.incubator.codec.http3.Http3;
+import io.netty.incubator.codec.http3.Http3FrameToHttpObjectCodec;
+import io.netty.incubator.codec.http3.Http3ServerConnectionHandler;
+import io.netty.incubator.codec.quic.NoQuicTokenHandler;
+import io.netty.incubator.codec.quic.QuicChannel;
+import io.netty.incubator.codec.quic.QuicSslContext;
+import io.netty.incubator.codec.quic.QuicSslContextBuilder;
+import io.netty.incubator.codec.quic.QuicStreamChannel;
+import io.netty.util.AttributeKey;
+import java.security.cert.Certificate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Initializes the UDP channel of an HTTP/3 listener.  Each QUIC connection gets the same connection level handlers as
+ * a TCP connection, and each request stream then gets an HTTP/3 codec followed by the same HTTP and Zuul handlers as
+ * an HTTP/1 or HTTP/2 request, so HTTP/3 requests go through {@link ClientRequestReceiver}, the filter chain and the
+ * proxy endpoint like any other.
+ * <p>
+ * {@link Server} binds a datagram channel rather than a server socket channel for listeners with this initializer.
+ * TLS is done by BoringSSL inside the QUIC codec, so the key and certificate chain are read straight from the
+ * {@link CommonChannelConfigKeys#serverSslConfig} rather than going through the {@code SslContextFactory}.
+ */
+public final class Http3ChannelInitializer extends BaseZuulChannelInitializer {
+
+    public static final String PROTOCOL_HTTP_3 = "HTTP/3";
+
+    private static final Set<AttributeKey<?>> ATTRIBUTES_TO_COPY = Set.of(
+            SourceAddressChannelHandler.ATTR_LOCAL_ADDR,
+            SourceAddressChannelHandler.ATTR_LOCAL_ADDRESS,
+            SourceAddressChannelHandler.ATTR_LOCAL_INET_ADDR,
+            SourceAddressChannelHandler.ATTR_SOURCE_ADDRESS,
+            SourceAddressChannelHandler.ATTR_REMOTE_ADDR,
+            SourceAddressChannelHandler.ATTR_SOURCE_INET_ADDR,
+            SourceAddressChannelHandler.ATTR_SERVER_LOCAL_ADDRESS,
+            SourceAddressChannelHandler.ATTR_SERVER_LOCAL_PORT,
+            SslHandshakeInfoHandler.ATTR_SSL_INFO,
+            BaseZuulChannelInitializer.ATTR_CHANNEL_CONFIG,
+            Server.CONN_DIMENSIONS);
+
+    private static final ConnectionInfoHandler CONNECTION_INFO_HANDLER = new ConnectionInfoHandler();
+
+    private final QuicSslContext sslContext;
+    private final int initialMaxData;
+    private final int initialMaxStreamData;
+    private final int maxConcurrentStreams;
+
+    public Http3ChannelInitializer(
+            String metricId, ChannelConfig channelConfig, ChannelConfig channelDependencies, ChannelGroup channels) {
+        super(metricId, channelConfig, channelDependencies, channels);
+
+        ServerSslConfig serverSslConfig = channelConfig.get(CommonChannelConfigKeys.serverSslConfig);
+        this.sslContext = QuicSslContextBuilder.forServer(
+                        serverSslConfig.getKeyFile(), null, serverSslConfig.getCertChainFile())
+                .applicationProtocols(Http3.supportedApplicationProtocols())
+                .build();
+        this.initialMaxData = channelConfig.get(CommonChannelConfigKeys.http3InitialMaxData);
+        this.initialMaxStreamData = channelConfig.get(CommonChannelConfigKeys.initialWindowSize);
+        this.maxConcurrentStreams = channelConfig.get(CommonChannelConfigKeys.maxConcurrentStreams);
+    }
+
+    @Override
+    protected void initChannel(Channel ch) {
+        ch.pipeline()
+                .addLast(Http3.newQuicServerCodecBuilder()
+                        .sslContext(sslContext)
+                        .maxIdleTimeout(idleTimeout, TimeUnit.MILLISECONDS)
+                        .initialMaxData(initialMaxData)
+                        .initialMaxStreamDataBidirectionalLocal(initialMaxStreamData)
+                        .initialMaxStreamDataBidirectionalRemote(initialMaxStreamData)
+                        .initialMaxStreamsBidirectional(maxConcurrentStreams)
+                        .tokenHandler(NoQuicTokenHandler.INSTANCE)
+                        .handler(new ChannelInitializer<QuicChannel>() {
+                            @Override
+                            protected void initChannel(QuicChannel quicChannel) {
+                                initConnection(quicChannel);
+                            }
+                        })
+                        .build());
+    }
+
+    private void initConnection(QuicChannel quicChannel) {
+        // QUIC connections aren't accepted by a server channel, so set up what Server does on accept here.
+        long now = System.nanoTime();
+        quicChannel.attr(Server.CONN_DIMENSIONS).set(Attrs.newInstance());
+        ConnTimer.install(quicChannel, registry, registry.createId("zuul.conn.client.timing"))
+                .record(now, "ACCEPT");
+        ConnCounter.install(quicChannel, registry, registry.createId("zuul.conn.client.current"));
+
+        storeChannel(quicChannel);
+
+        ChannelPipeline pipeline = quicChannel.pipeline();
+        pipeline.addLast(CONNECTION_INFO_HANDLER);
+        addPassportHandler(pipeline);
+        pipeline.addLast(perEventLoopConnectionMetricsHandler);
+        pipeline.addLast(maxConnectionsHandler);
+        pipeline.addLast(new Http3ServerConnectionHandler(new ChannelInitializer<QuicStreamChannel>() {
+            @Override
+            protected void initChannel(QuicStreamChannel streamChannel) {
+                initRequestStream(streamChannel);
+            }
+        }));
+    }
+
+    private void initRequestStream(QuicStreamChannel streamChannel) {
+        for (AttributeKey<?> key : ATTRIBUTES_TO_COPY) {
+            copyAttribute(streamChannel.parent(), streamChannel, key);
+        }
+        streamChannel.attr(Http2OrHttpHandler.PROTOCOL_NAME).set(PROTOCOL_HTTP_3);
+
+        ChannelPipeline pipeline = streamChannel.pipeline();
+        pipeline.addLast(new Http3FrameToHttpObjectCodec(true));
+        addHttpRelatedHandlers(pipeline);
+        addZuulHandlers(pipeline);
+    }
+
+    private static <T> void copyAttribute(Channel parent, Channel child, AttributeKey<T> key) {
+        child.attr(key).set(parent.attr(key).get());
+    }
+
+    /**
+     * Stores the address and TLS attributes of a QUIC connection once it is established.  Its channel addresses are
+     * QUIC connection ids, so the socket addresses of the connection path are used instead.
+     */
+    @ChannelHandler.Sharable
+    private static final class ConnectionInfoHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+            QuicChannel quicChannel = (QuicChannel) ctx.channel();
+            SourceAddressChannelHandler.storeAddresses(
+                    quicChannel, quicChannel.remoteSocketAddress(), quicChannel.localSocketAddress());
+
+            SSLSession session = quicChannel.sslEngine().getSession();
+            Certificate[] localCertificates = session.getLocalCertificates();
+            Certificate serverCertificate =
+                    localCertificates == null || localCertificates.length == 0 ? null : localCertificates[0];
+            quicChannel
+                    .attr(SslHandshakeInfoHandler.ATTR_SSL_INFO)
+                    .set(new SslHandshakeInfo(
+                            false,
+                            session.getProtocol(),
+                            session.getCipherSuite(),
+                            ClientAuth.NONE,
+                            serverCertificate,
+                            null));
+
+            super.channelActive(ctx);
+            ctx.pipeline().remove(this);
+        }
+    }
+}
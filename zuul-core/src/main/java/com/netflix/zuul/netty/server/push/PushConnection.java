@@ -18,6 +18,7 @@ package com.netflix.zuul.netty.server.push;
 
 import com.google.common.base.Charsets;
 import com.netflix.config.CachedDynamicIntProperty;
+import com.netflix.netty.common.metrics.ByteBufOwner;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
@@ -82,6 +83,7 @@ public class PushConnection {
     }
 
     public ChannelFuture sendPushMessage(ByteBuf mesg) {
+        ByteBufOwner.PUSH.received(mesg.readableBytes());
         return pushProtocol.sendPushMessage(ctx, mesg);
     }
 
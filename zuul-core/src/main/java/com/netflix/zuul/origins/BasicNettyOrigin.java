@@ -40,8 +40,10 @@ import com.netflix.zuul.stats.status.StatusCategory;
 import com.netflix.zuul.stats.status.StatusCategoryUtils;
 import com.netflix.zuul.stats.status.ZuulStatusCategory;
 import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import io.netty.util.concurrent.Promise;
 import java.net.InetAddress;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -66,6 +68,8 @@ public class BasicNettyOrigin implements NettyOrigin {
     private final Counter rejectedRequests;
     private final CachedDynamicIntProperty concurrencyMax;
     private final CachedDynamicBooleanProperty concurrencyProtectionEnabled;
+    private final HedgePolicy hedgePolicy;
+    private final RetryBudget retryBudget;
 
     public BasicNettyOrigin(OriginName originName, Registry registry) {
         this.originName = Objects.requireNonNull(originName, "originName");
@@ -83,6 +87,8 @@ public class BasicNettyOrigin implements NettyOrigin {
                 new CachedDynamicIntProperty("zuul.origin." + niwsClientName + ".concurrency.max.requests", 200);
         this.concurrencyProtectionEnabled = new CachedDynamicBooleanProperty(
                 "zuul.origin." + niwsClientName + ".concurrency.protect.enabled", true);
+        this.hedgePolicy = new HedgePolicy(niwsClientName);
+        this.retryBudget = new RetryBudget(niwsClientName);
     }
 
     protected IClientConfig setupClientConfig(OriginName originName) {
@@ -117,7 +123,26 @@ public class BasicNettyOrigin implements NettyOrigin {
             CurrentPassport passport,
             AtomicReference<DiscoveryResult> chosenServer,
             AtomicReference<? super InetAddress> chosenHostAddr) {
-        return clientChannelManager.acquire(eventLoop, null, passport, chosenServer, chosenHostAddr);
+        Duration maxWait = zuulReq.getContext().get(CommonContextKeys.ORIGIN_ATTEMPT_TIMEOUT);
+        if (maxWait == null) {
+            return clientChannelManager.acquire(eventLoop, null, passport, chosenServer, chosenHostAddr);
+        }
+        return clientChannelManager.acquire(eventLoop, null, passport, chosenServer, chosenHostAddr, maxWait);
+    }
+
+    @Override
+    public void prewarm(EventLoopGroup eventLoopGroup) {
+        clientChannelManager.prewarm(eventLoopGroup);
+    }
+
+    @Override
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    @Override
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
     }
 
     @Override
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.origins;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.config.CachedDynamicBooleanProperty;
+import com.netflix.config.CachedDynamicIntProperty;
+import com.netflix.spectator.api.Counter;
+import com.netflix.zuul.netty.SpectatorUtils;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * Decides when a request to an origin should be hedged, i.e. sent a second time to another server while the first
+ * attempt is still outstanding.
+ * <p>
+ * The hedge delay is a percentile of the recently observed time-to-response-head for the origin, so only the slowest
+ * requests get hedged.  Extra load is capped by a token budget: every eligible request deposits
+ * {@code budget.percent / 100} of a token and every hedge spends one, so at most that percentage of requests are
+ * hedged over time.
+ * <p>
+ * Properties, all prefixed with {@code zuul.origin.<niwsClientName>.hedge.}:
+ * <ul>
+ *     <li>{@code enabled} - defaults to false</li>
+ *     <li>{@code delay.percentile} - latency percentile used as the hedge delay, defaults to 95</li>
+ *     <li>{@code delay.min.ms} - lower bound for the hedge delay, defaults to 5</li>
+ *     <li>{@code budget.percent} - maximum share of requests that are hedged, defaults to 5</li>
+ *     <li>{@code min.samples} - responses needed before hedging starts, defaults to 100</li>
+ * </ul>
+ */
+public class HedgePolicy {
+
+    /**
+     * Number of hedges that can be saved up while the origin is healthy.
+     */
+    private static final long MAX_BURST = 10;
+
+    private static final long TOKEN = 100;
+
+    private final BooleanSupplier enabled;
+    private final IntSupplier delayPercentile;
+    private final IntSupplier minDelayMillis;
+    private final IntSupplier budgetPercent;
+    private final IntSupplier minSamples;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong tokens = new AtomicLong();
+
+    private final Counter hedgesStarted;
+    private final Counter hedgesWon;
+    private final Counter budgetExhausted;
+
+    public HedgePolicy(String niwsClientName) {
+        this(
+                niwsClientName,
+                new CachedDynamicBooleanProperty(prefix(niwsClientName) + "enabled", false)::get,
+                new CachedDynamicIntProperty(prefix(niwsClientName) + "delay.percentile", 95)::get,
+                new CachedDynamicIntProperty(prefix(niwsClientName) + "delay.min.ms", 5)::get,
+                new CachedDynamicIntProperty(prefix(niwsClientName) + "budget.percent", 5)::get,
+                new CachedDynamicIntProperty(prefix(niwsClientName) + "min.samples", 100)::get);
+    }
+
+    @VisibleForTesting
+    HedgePolicy(
+            String niwsClientName,
+            BooleanSupplier enabled,
+            IntSupplier delayPercentile,
+            IntSupplier minDelayMillis,
+            IntSupplier budgetPercent,
+            IntSupplier minSamples) {
+        this.enabled = enabled;
+        this.delayPercentile = delayPercentile;
+        this.minDelayMillis = minDelayMillis;
+        this.budgetPercent = budgetPercent;
+        this.minSamples = minSamples;
+        this.hedgesStarted = SpectatorUtils.newCounter("zuul.origin.hedge", niwsClientName, "result", "started");
+        this.hedgesWon = SpectatorUtils.newCounter("zuul.origin.hedge", niwsClientName, "result", "won");
+        this.budgetExhausted =
+                SpectatorUtils.newCounter("zuul.origin.hedge", niwsClientName, "result", "budget_exhausted");
+    }
+
+    private static String prefix(String niwsClientName) {
+        return "zuul.origin." + niwsClientName + ".hedge.";
+    }
+
+    public boolean isEnabled() {
+        return enabled.getAsBoolean();
+    }
+
+    /**
+     * Records the time between writing a request and receiving the response head.
+     */
+    public void recordResponseLatency(long millis) {
+        latencies.record(millis);
+    }
+
+    /**
+     * Called once for every request that could be hedged, whether or not it ends up being hedged.
+     *
+     * @return the delay after which the request should be hedged, or {@code -1} if it shouldn't be.
+     */
+    public long onEligibleRequest() {
+        if (!isEnabled()) {
+            return -1;
+        }
+        long maxTokens = MAX_BURST * TOKEN;
+        long deposit = Math.max(0, budgetPercent.getAsInt());
+        tokens.getAndUpdate(current -> Math.min(maxTokens, current + deposit));
+
+        if (latencies.count() < minSamples.getAsInt()) {
+            return -1;
+        }
+        return Math.max(minDelayMillis.getAsInt(), latencies.percentile(delayPercentile.getAsInt()));
+    }
+
+    /**
+     * Spends one hedge from the budget.
+     *
+     * @return false if the budget is exhausted and the request must not be hedged.
+     */
+    public boolean tryAcquireHedge() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                budgetExhausted.increment();
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        hedgesStarted.increment();
+        return true;
+    }
+
+    public void onHedgeWon() {
+        hedgesWon.increment();
+    }
+
+    /**
+     * Lock free, log-linear latency histogram with four buckets per power of two, which bounds the relative error of
+     * a percentile to 25%.  Counts are halved every {@link #DECAY_INTERVAL} samples so the percentiles follow the
+     * origin's recent behaviour.
+     */
+    @VisibleForTesting
+    static final class LatencyHistogram {
+
+        private static final int DECAY_INTERVAL = 1024;
+        private static final int MAX_MSB = 16; // ~65 seconds
+        private static final int BUCKETS = (MAX_MSB - 1) * 4 + 4;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sinceDecay = new AtomicLong();
+
+        void record(long millis) {
+            buckets.incrementAndGet(bucketFor(Math.max(0, millis)));
+            count.incrementAndGet();
+            if (sinceDecay.incrementAndGet() >= DECAY_INTERVAL) {
+                sinceDecay.set(0);
+                decay();
+            }
+        }
+
+        private void decay() {
+            long removed = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                long before = buckets.getAndUpdate(i, c -> c >> 1);
+                removed += before - (before >> 1);
+            }
+            count.addAndGet(-removed);
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        long percentile(int percentile) {
+            long total = 0;
+            long[] snapshot = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = buckets.get(i);
+                total += snapshot[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * (Math.min(100, Math.max(0, percentile)) / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank && snapshot[i] > 0) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(BUCKETS - 1);
+        }
+
+        static int bucketFor(long millis) {
+            if (millis < 4) {
+                return (int) millis;
+            }
+            int msb = 63 - Long.numberOfLeadingZeros(millis);
+            if (msb > MAX_MSB) {
+                return BUCKETS - 1;
+            }
+            int sub = (int) (millis >> (msb - 2)) & 3;
+            return (msb - 1) * 4 + sub;
+        }
+
+        static long upperBound(int bucket) {
+            if (bucket < 4) {
+                return bucket;
+            }
+            int msb = bucket / 4 + 1;
+            int sub = bucket % 4;
+            return ((5L + sub) << (msb - 2)) - 1;
+        }
+    }
+}
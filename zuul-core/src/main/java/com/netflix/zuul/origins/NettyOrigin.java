@@ -26,10 +26,12 @@ import com.netflix.zuul.netty.connectionpool.PooledConnection;
 import com.netflix.zuul.niws.RequestAttempt;
 import com.netflix.zuul.passport.CurrentPassport;
 import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.util.concurrent.Promise;
 import java.net.InetAddress;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
 
 /**
  * Netty Origin interface for integrating cleanly with the ProxyEndpoint state management class.
@@ -76,4 +78,24 @@ public interface NettyOrigin extends InstrumentedOrigin {
     Registry getSpectatorRegistry();
 
     default void originRetryPolicyAdjustmentIfNeeded(HttpRequestMessage zuulReq, HttpResponse nettyResponse) {}
+
+    /**
+     * Opens idle origin connections ahead of demand on the given event loops, if the origin is configured for it.
+     */
+    default void prewarm(EventLoopGroup eventLoopGroup) {}
+
+    /**
+     * @return the policy used to hedge idempotent requests to this origin, or null if the origin never hedges.
+     */
+    @Nullable default HedgePolicy getHedgePolicy() {
+        return null;
+    }
+
+    /**
+     * @return the budget bounding retries to this origin across all requests, or null if retries are only limited
+     * per request.
+     */
+    @Nullable default RetryBudget getRetryBudget() {
+        return null;
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.origins;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.config.CachedDynamicBooleanProperty;
+import com.netflix.config.CachedDynamicIntProperty;
+import com.netflix.spectator.api.Counter;
+import com.netflix.zuul.netty.SpectatorUtils;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounds the retries sent to an origin across all requests, so that an origin brownout doesn't turn into a retry storm.
+ * <p>
+ * Retries are allowed as a percentage of the successful responses seen over a sliding window, plus a small fixed
+ * allowance per second so that low traffic origins can still retry.  The window is made of one second slots of striped
+ * counters, which keeps the hot path free of contention between event loops.
+ * <p>
+ * Properties, all prefixed with {@code zuul.origin.<niwsClientName>.retry.budget.}:
+ * <ul>
+ *     <li>{@code enabled} - defaults to false</li>
+ *     <li>{@code percent} - retries allowed per 100 successful responses, defaults to 20</li>
+ *     <li>{@code min.per.second} - retries always allowed per second, defaults to 10</li>
+ * </ul>
+ */
+public class RetryBudget {
+
+    @VisibleForTesting
+    static final int WINDOW_SECONDS = 10;
+
+    private final BooleanSupplier enabled;
+    private final IntSupplier percent;
+    private final IntSupplier minPerSecond;
+    private final LongSupplier clockMillis;
+
+    private final Slot[] slots = new Slot[WINDOW_SECONDS];
+
+    private final Counter retriesSuppressed;
+
+    public RetryBudget(String niwsClientName) {
+        this(
+                niwsClientName,
+                new CachedDynamicBooleanProperty(prefix(niwsClientName) + "enabled", false)::get,
+                new CachedDynamicIntProperty(prefix(niwsClientName) + "percent", 20)::get,
+                new CachedDynamicIntProperty(prefix(niwsClientName) + "min.per.second", 10)::get,
+                System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    RetryBudget(
+            String niwsClientName,
+            BooleanSupplier enabled,
+            IntSupplier percent,
+            IntSupplier minPerSecond,
+            LongSupplier clockMillis) {
+        this.enabled = enabled;
+        this.percent = percent;
+        this.minPerSecond = minPerSecond;
+        this.clockMillis = clockMillis;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            slots[i] = new Slot();
+        }
+        this.retriesSuppressed = SpectatorUtils.newCounter("zuul.origin.retry.budget.suppressed", niwsClientName);
+    }
+
+    private static String prefix(String niwsClientName) {
+        return "zuul.origin." + niwsClientName + ".retry.budget.";
+    }
+
+    public void recordSuccess() {
+        currentSlot().successes.increment();
+    }
+
+    /**
+     * Called before each retry.  Always succeeds when the budget is disabled.
+     *
+     * @return false if the retry would exceed the budget and must be suppressed.
+     */
+    public boolean tryAcquireRetry() {
+        Slot current = currentSlot();
+        if (!enabled.getAsBoolean()) {
+            current.retries.increment();
+            return true;
+        }
+
+        long now = current.second;
+        long successes = 0;
+        long retries = 0;
+        for (Slot slot : slots) {
+            if (slot.second > now - WINDOW_SECONDS) {
+                successes += slot.successes.sum();
+                retries += slot.retries.sum();
+            }
+        }
+
+        long allowed = (long) minPerSecond.getAsInt() * WINDOW_SECONDS + successes * percent.getAsInt() / 100;
+        if (retries >= allowed) {
+            retriesSuppressed.increment();
+            return false;
+        }
+        current.retries.increment();
+        return true;
+    }
+
+    private Slot currentSlot() {
+        long second = clockMillis.getAsLong() / 1000;
+        Slot slot = slots[(int) (second % WINDOW_SECONDS)];
+        if (slot.second != second) {
+            synchronized (slot) {
+                if (slot.second != second) {
+                    slot.successes.reset();
+                    slot.retries.reset();
+                    slot.second = second;
+                }
+            }
+        }
+        return slot;
+    }
+
+    private static final class Slot {
+        private volatile long second = -1;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+    }
+}
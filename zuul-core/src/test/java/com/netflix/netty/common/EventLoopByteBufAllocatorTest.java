@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.netflix.netty.common.channel.config.ChannelConfig;
+import com.netflix.netty.common.channel.config.CommonChannelConfigKeys;
+import com.netflix.netty.common.metrics.EventLoopGroupMetrics;
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventLoopByteBufAllocatorTest {
+
+    private final EventLoopGroup group = new DefaultEventLoopGroup(2);
+
+    @AfterEach
+    void after() {
+        group.shutdownGracefully().syncUninterruptibly();
+    }
+
+    @Test
+    void givesEachEventLoopAnArenaOfItsOwn() throws Exception {
+        ChannelConfig config = new ChannelConfig();
+        config.set(CommonChannelConfigKeys.allocatorPerEventLoop, true);
+        config.set(CommonChannelConfigKeys.allocatorMaxOrder, 7);
+        EventLoopByteBufAllocator allocator = EventLoopByteBufAllocator.forEventLoopGroup(group, config);
+
+        assertThat(allocator.metric().numDirectArenas()).isEqualTo(2);
+        assertThat(allocator.metric().chunkSize())
+                .isEqualTo(config.get(CommonChannelConfigKeys.allocatorPageSize) << 7);
+        assertThat(EventLoopByteBufAllocator.forEventLoopGroup(group, new ChannelConfig()))
+                .isSameInstanceAs(allocator);
+        assertThat(EventLoopByteBufAllocator.forEventLoopGroup(group)).isSameInstanceAs(allocator);
+
+        for (EventExecutor eventLoop : group) {
+            eventLoop.submit(() -> allocator.directBuffer(64).release()).get();
+        }
+        for (PoolArenaMetric arena : allocator.metric().directArenas()) {
+            assertThat(arena.numThreadCaches()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void countsAllocationsAndCacheHitsPerEventLoop() throws Exception {
+        Registry registry = new DefaultRegistry();
+        EventLoopByteBufAllocator allocator = EventLoopByteBufAllocator.create(group, new ChannelConfig(), registry);
+        EventLoop eventLoop = group.next();
+
+        String name = eventLoop.submit(EventLoopGroupMetrics::nameForCurrentEventLoop).get();
+        // The first buffer is allocated from the arena, and the ones after it from the thread cache it was freed to.
+        for (int i = 0; i < 4; i++) {
+            eventLoop.submit(() -> allocator.directBuffer(64).release()).get();
+        }
+
+        PolledMeter.update(registry);
+        Id allocations = registry.createId("zuul.nettybuffermem.eventloop.allocations", "eventLoop", name);
+        Id cacheHitRate = registry.createId("zuul.nettybuffermem.eventloop.cacheHitRate", "eventLoop", name);
+        assertThat(registry.counter(allocations).count()).isEqualTo(4);
+        assertThat(registry.gauge(cacheHitRate).value()).isEqualTo(0.75);
+    }
+
+    @Test
+    void countsCacheHitsOfEventLoopThatFirstAllocatedHeapBuffer() throws Exception {
+        Registry registry = new DefaultRegistry();
+        EventLoopByteBufAllocator allocator = EventLoopByteBufAllocator.create(group, new ChannelConfig(), registry);
+        EventLoop eventLoop = group.next();
+
+        String name = eventLoop.submit(EventLoopGroupMetrics::nameForCurrentEventLoop).get();
+        // Creates the thread cache, and so binds the event loop to its arenas, before any direct buffer.
+        eventLoop.submit(() -> allocator.heapBuffer(64).release()).get();
+        for (int i = 0; i < 4; i++) {
+            eventLoop.submit(() -> allocator.directBuffer(64).release()).get();
+        }
+
+        PolledMeter.update(registry);
+        Id allocations = registry.createId("zuul.nettybuffermem.eventloop.allocations", "eventLoop", name);
+        Id cacheHitRate = registry.createId("zuul.nettybuffermem.eventloop.cacheHitRate", "eventLoop", name);
+        assertThat(registry.counter(allocations).count()).isEqualTo(4);
+        assertThat(registry.gauge(cacheHitRate).value()).isEqualTo(0.75);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.DistributionSummary;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FlushBatchingHandlerTest {
+
+    private final DistributionSummary writesPerFlush = new DefaultRegistry().distributionSummary("writesPerFlush");
+    private int flushes;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setup() {
+        channel = new EmbeddedChannel();
+        channel.pipeline().addLast(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void flush(ChannelHandlerContext ctx) throws Exception {
+                flushes++;
+                super.flush(ctx);
+            }
+        });
+        channel.pipeline().addLast(FlushBatchingHandler.NAME, new FlushBatchingHandler(3, writesPerFlush));
+    }
+
+    @Test
+    void batchesFlushesWithinTick() {
+        channel.write(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[] {1})));
+        channel.flush();
+        channel.write(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[] {2})));
+        channel.flush();
+        assertEquals(0, flushes);
+
+        channel.runPendingTasks();
+
+        assertEquals(1, flushes);
+        assertEquals(1, writesPerFlush.count());
+        assertEquals(2, writesPerFlush.totalAmount());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void flushesAtEndOfMessage() {
+        channel.write(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[] {1})));
+        channel.flush();
+        channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+
+        assertEquals(1, flushes);
+        assertEquals(2, writesPerFlush.totalAmount());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void boundsDelayedFlushes() {
+        for (int i = 0; i < 3; i++) {
+            channel.write(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[] {1})));
+            channel.flush();
+        }
+
+        assertEquals(1, flushes);
+        channel.finishAndReleaseAll();
+    }
+}
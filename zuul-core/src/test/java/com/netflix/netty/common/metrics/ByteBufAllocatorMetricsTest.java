@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common.metrics;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+
+class ByteBufAllocatorMetricsTest {
+
+    private final Registry registry = new DefaultRegistry();
+
+    @Test
+    void reportsArenaUsage() {
+        PooledByteBufAllocator allocator = new PooledByteBufAllocator(true, 1, 1, 8192, 9, 0, 0, false);
+        ByteBufAllocatorMetrics.register(registry, "test", allocator);
+
+        ByteBuf buf = allocator.directBuffer(1024);
+        PolledMeter.update(registry);
+        Id arena = registry.createId("zuul.nettybuffermem.arena.activeAllocations")
+                .withTags("allocator", "test", "type", "direct", "arena", "0");
+        assertThat(registry.gauge(arena).value()).isEqualTo(1.0);
+
+        buf.release();
+        PolledMeter.update(registry);
+        assertThat(registry.gauge(arena).value()).isEqualTo(0.0);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common.metrics;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.filters.SyncZuulFilterAdapter;
+import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.ZuulMessage;
+import com.netflix.zuul.message.ZuulMessageImpl;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import org.junit.jupiter.api.Test;
+
+class ByteBufOwnerTest {
+
+    @Test
+    void countsBytesAndHeldBytes() {
+        long bytes = ByteBufOwner.PUSH.bytes();
+        long held = ByteBufOwner.PUSH.held();
+
+        ByteBufOwner.PUSH.received(10);
+        ByteBufOwner.PUSH.hold(20);
+
+        assertThat(ByteBufOwner.PUSH.bytes() - bytes).isEqualTo(30);
+        assertThat(ByteBufOwner.PUSH.held() - held).isEqualTo(20);
+
+        ByteBufOwner.PUSH.release(20);
+        assertThat(ByteBufOwner.PUSH.held()).isEqualTo(held);
+    }
+
+    @Test
+    void countsReadableBytesOfBufferedBodies() {
+        long held = ByteBufOwner.BUFFERED_BODY.held();
+        ZuulMessage msg = new ZuulMessageImpl(new SessionContext(), new Headers());
+        ByteBuf content = Unpooled.copiedBuffer("Hello World!", UTF_8);
+        content.skipBytes(6);
+
+        msg.bufferBodyContents(new DefaultLastHttpContent(content));
+        assertThat(ByteBufOwner.BUFFERED_BODY.held() - held).isEqualTo(6);
+
+        msg.runBufferedBodyContentThroughFilter(new SyncZuulFilterAdapter<ZuulMessage, ZuulMessage>() {
+            @Override
+            public String filterName() {
+                return "replacing";
+            }
+
+            @Override
+            public ZuulMessage apply(ZuulMessage input) {
+                return input;
+            }
+
+            @Override
+            public ZuulMessage getDefaultOutput(ZuulMessage input) {
+                return input;
+            }
+
+            @Override
+            public HttpContent processContentChunk(ZuulMessage zuulMessage, HttpContent chunk) {
+                return chunk.replace(Unpooled.copiedBuffer("World", UTF_8));
+            }
+        });
+        assertThat(ByteBufOwner.BUFFERED_BODY.held() - held).isEqualTo(5);
+
+        msg.disposeBufferedBody();
+        assertThat(ByteBufOwner.BUFFERED_BODY.held()).isEqualTo(held);
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.http.HttpQueryParams;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.message.http.HttpRequestMessageImpl;
+import com.netflix.zuul.message.http.HttpResponseMessage;
+import com.netflix.zuul.message.http.HttpResponseMessageImpl;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheTest {
+
+    private final ResponseCache cache = new ResponseCache(1000, 500);
+
+    @Test
+    void servesStoredResponse() {
+        HttpRequestMessage request = request("/config");
+        String key = ResponseCache.key(request);
+        assertThat(key).isEqualTo("https://api.example.com/config");
+        assertThat(cache.get(key, request)).isNull();
+
+        fill(request, "max-age=60", "hello");
+
+        CachedResponse cached = cache.get(key, request);
+        assertThat(cached).isNotNull();
+        HttpResponseMessage response = cached.toResponse(request, request.getContext());
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaders().getFirst("Content-Length")).isEqualTo("5");
+        assertThat(response.getHeaders().getFirst("Age")).isEqualTo("0");
+        assertThat(response.getBodyAsText()).isEqualTo("hello");
+        response.disposeBufferedBody();
+    }
+
+    @Test
+    void collapsesConcurrentMisses() {
+        HttpRequestMessage request = request("/catalog");
+        String key = ResponseCache.key(request);
+
+        ResponseCache.Fill fill = cache.tryStartFill(key);
+        assertThat(fill).isNotNull();
+        assertThat(cache.tryStartFill(key)).isNull();
+        CompletableFuture<CachedResponse> inFlight = cache.inFlight(key);
+        assertThat(inFlight.isDone()).isFalse();
+
+        HttpResponseMessage response = response(request, "s-maxage=60, max-age=0");
+        assertThat(fill.accepts(response)).isTrue();
+        assertThat(fill.append(Unpooled.copiedBuffer("items", UTF_8))).isTrue();
+        fill.complete(response);
+
+        assertThat(inFlight.join()).isNotNull();
+        assertThat(cache.inFlight(key)).isNull();
+        assertThat(cache.get(key, request)).isSameInstanceAs(inFlight.join());
+    }
+
+    @Test
+    void releasesWaitersWhenResponseCannotBeCached() {
+        HttpRequestMessage request = request("/private");
+        String key = ResponseCache.key(request);
+        ResponseCache.Fill fill = cache.tryStartFill(key);
+        CompletableFuture<CachedResponse> inFlight = cache.inFlight(key);
+
+        assertThat(fill.accepts(response(request, "private, max-age=60"))).isFalse();
+        fill.abandon();
+
+        assertThat(inFlight.join()).isNull();
+        assertThat(cache.tryStartFill(key)).isNotNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void skipsBodiesOverMaxEntrySize() {
+        HttpRequestMessage request = request("/big");
+        ResponseCache.Fill fill = cache.tryStartFill(ResponseCache.key(request));
+
+        assertThat(fill.accepts(response(request, "max-age=60"))).isTrue();
+        assertThat(fill.append(Unpooled.wrappedBuffer(new byte[501]))).isFalse();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void missesOnDifferentVaryValues() {
+        HttpRequestMessage request = request("/vary");
+        request.getHeaders().set("Accept-Language", "en");
+        ResponseCache.Fill fill = cache.tryStartFill(ResponseCache.key(request));
+        HttpResponseMessage response = response(request, "max-age=60");
+        response.getHeaders().set("Vary", "Accept-Language");
+        fill.accepts(response);
+        fill.complete(response);
+
+        HttpRequestMessage other = request("/vary");
+        other.getHeaders().set("Accept-Language", "fr");
+        assertThat(cache.get(ResponseCache.key(other), other)).isNull();
+        assertThat(cache.get(ResponseCache.key(request), request)).isNotNull();
+    }
+
+    @Test
+    void keysOnHostHeaderAndRoute() {
+        HttpRequestMessage forwarded = request("/config");
+        forwarded.getHeaders().set("X-Forwarded-Host", "attacker.example.com");
+        assertThat(ResponseCache.key(forwarded)).isEqualTo(ResponseCache.key(request("/config")));
+
+        HttpRequestMessage routed = request("/config");
+        routed.getContext().setRouteVIP("api");
+        assertThat(ResponseCache.key(routed)).isEqualTo("api https://api.example.com/config");
+    }
+
+    @Test
+    void passesKeysWhoseResponsesMayNotBeStored() {
+        HttpRequestMessage request = request("/private");
+        String key = ResponseCache.key(request);
+        ResponseCache.Fill fill = cache.tryStartFill(key);
+        assertThat(fill.accepts(response(request, "private, max-age=60"))).isFalse();
+        fill.abandon();
+
+        assertThat(cache.isHitForPass(key)).isTrue();
+        assertThat(cache.isHitForPass(ResponseCache.key(request("/config")))).isFalse();
+    }
+
+    @Test
+    void doesNotPassKeysOnErrors() {
+        HttpRequestMessage request = request("/config");
+        String key = ResponseCache.key(request);
+        ResponseCache.Fill fill = cache.tryStartFill(key);
+        assertThat(fill.accepts(new HttpResponseMessageImpl(request.getContext(), request, 503))).isFalse();
+        fill.abandon();
+
+        assertThat(cache.isHitForPass(key)).isFalse();
+    }
+
+    @Test
+    void ignoresUncacheableRequests() {
+        HttpRequestMessage noStore = request("/config");
+        noStore.getHeaders().set("Cache-Control", "no-store");
+        assertThat(ResponseCache.key(noStore)).isNull();
+
+        HttpRequestMessage authorized = request("/config");
+        authorized.getHeaders().set("Authorization", "Bearer abc");
+        assertThat(ResponseCache.key(authorized)).isNull();
+    }
+
+    @Test
+    void keepsStaleResponsesThatMayBeServedStale() {
+        HttpRequestMessage request = request("/brownout");
+        String key = ResponseCache.key(request);
+        fill(request, "max-age=0, stale-while-revalidate=60, stale-if-error=300", "stale");
+
+        CachedResponse cached = cache.get(key, request);
+        assertThat(cached).isNotNull();
+        long now = System.nanoTime();
+        assertThat(cached.isFresh(now)).isFalse();
+        assertThat(cached.isServableWhileRevalidating(now)).isTrue();
+        assertThat(cached.isServableOnError(now)).isTrue();
+
+        HttpResponseMessage response = cached.toResponse(request, request.getContext());
+        assertThat(response.getHeaders().getFirst("Warning")).isEqualTo("110 - \"Response is Stale\"");
+        response.disposeBufferedBody();
+        HttpResponseMessage fallback = cached.toErrorFallbackResponse(request, request.getContext());
+        assertThat(fallback.getHeaders().getFirst("Warning")).isEqualTo("111 - \"Revalidation Failed\"");
+        assertThat(fallback.getBodyAsText()).isEqualTo("stale");
+        fallback.disposeBufferedBody();
+    }
+
+    @Test
+    void doesNotKeepStaleResponsesThatMustRevalidate() {
+        HttpRequestMessage request = request("/strict");
+        ResponseCache.Fill fill = cache.tryStartFill(ResponseCache.key(request));
+
+        assertThat(fill.accepts(response(request, "max-age=0, must-revalidate, stale-if-error=300")))
+                .isFalse();
+    }
+
+    @Test
+    void keepsFrequentlyRequestedEntriesOverNewOnes() {
+        HttpRequestMessage popular = request("/popular");
+        HttpRequestMessage rare = request("/rare");
+        HttpRequestMessage rising = request("/rising");
+        HttpRequestMessage oneOff = request("/one-off");
+
+        fill(popular, "max-age=60", "p".repeat(400));
+        fill(rare, "max-age=60", "r".repeat(400));
+        cache.get(ResponseCache.key(rare), rare);
+        for (int i = 0; i < 5; i++) {
+            cache.get(ResponseCache.key(popular), popular);
+        }
+        cache.get(ResponseCache.key(rising), rising);
+        cache.get(ResponseCache.key(rising), rising);
+
+        // More popular than the least recently used entry, so it replaces it.
+        fill(rising, "max-age=60", "s".repeat(400));
+        // Never requested before, so it doesn't get in.
+        fill(oneOff, "max-age=60", "o".repeat(400));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.weight()).isEqualTo(800);
+        assertThat(cache.get(ResponseCache.key(popular), popular)).isNotNull();
+        assertThat(cache.get(ResponseCache.key(rising), rising)).isNotNull();
+        assertThat(cache.get(ResponseCache.key(rare), rare)).isNull();
+        assertThat(cache.get(ResponseCache.key(oneOff), oneOff)).isNull();
+    }
+
+    private void fill(HttpRequestMessage request, String cacheControl, String body) {
+        ResponseCache.Fill fill = cache.tryStartFill(ResponseCache.key(request));
+        HttpResponseMessage response = response(request, cacheControl);
+        assertThat(fill.accepts(response)).isTrue();
+        ByteBuf content = Unpooled.copiedBuffer(body, UTF_8);
+        assertThat(fill.append(content)).isTrue();
+        content.release();
+        fill.complete(response);
+    }
+
+    private static HttpResponseMessage response(HttpRequestMessage request, String cacheControl) {
+        HttpResponseMessage response = new HttpResponseMessageImpl(request.getContext(), request, 200);
+        response.getHeaders().set("Cache-Control", cacheControl);
+        response.getHeaders().set("Transfer-Encoding", "chunked");
+        return response;
+    }
+
+    private static HttpRequestMessage request(String path) {
+        Headers headers = new Headers();
+        headers.set("Host", "api.example.com");
+        return new HttpRequestMessageImpl(
+                new SessionContext(),
+                "HTTP/1.1",
+                "GET",
+                path,
+                new HttpQueryParams(),
+                headers,
+                "192.168.0.2",
+                "https",
+                7002,
+                "localhost");
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.filters.common;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.Mockito.mock;
+
+import com.netflix.config.ConfigurationManager;
+import com.netflix.zuul.context.CommonContextKeys;
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.filters.endpoint.ProxyEndpoint;
+import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.http.HttpQueryParams;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.message.http.HttpRequestMessageImpl;
+import com.netflix.zuul.message.http.HttpResponseMessage;
+import com.netflix.zuul.message.http.HttpResponseMessageImpl;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import org.apache.commons.configuration.AbstractConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheFillFilterTest {
+
+    private final AbstractConfiguration config = ConfigurationManager.getConfigInstance();
+    private final ResponseCacheLookupFilter lookupFilter = new ResponseCacheLookupFilter();
+    private final ResponseCacheFillFilter fillFilter = new ResponseCacheFillFilter();
+
+    @BeforeEach
+    void before() {
+        config.setProperty("zuul.response.cache.enabled", true);
+    }
+
+    @AfterEach
+    void after() {
+        config.clearProperty("zuul.response.cache.enabled");
+    }
+
+    @Test
+    void replacesOriginErrorWithStaleCopy() {
+        HttpRequestMessage first = request("/stale-if-error");
+        lookup(first);
+        fillFromOrigin(first, "max-age=0, stale-if-error=60", "stale body");
+
+        HttpRequestMessage revalidating = request("/stale-if-error");
+        lookup(revalidating);
+        SessionContext context = revalidating.getContext();
+        assertThat(context.getStaticResponse()).isNull();
+        assertThat(context.get(CommonContextKeys.RESPONSE_CACHE_STALE)).isNotNull();
+        assertThat(context.get(CommonContextKeys.RESPONSE_CACHE_FILL)).isNotNull();
+
+        HttpResponseMessage error = originResponse(revalidating, 503, "no-store");
+        assertThat(fillFilter.shouldFilter(error)).isTrue();
+        HttpResponseMessage fallback = fillFilter.apply(error);
+
+        assertThat(fallback).isNotSameInstanceAs(error);
+        assertThat(fallback.getStatus()).isEqualTo(200);
+        assertThat(fallback.getHeaders().getAll("Warning")).contains("111 - \"Revalidation Failed\"");
+        assertThat(fallback.getBodyAsText()).isEqualTo("stale body");
+        assertThat(context.get(CommonContextKeys.RESPONSE_CACHE_FILL)).isNull();
+        assertThat(context.get(CommonContextKeys.RESPONSE_CACHE_STALE)).isNull();
+
+        // The chunks of the error body that follow are dropped.
+        assertThat(fillFilter.shouldFilter(fallback)).isTrue();
+        HttpContent chunk = new DefaultHttpContent(Unpooled.copiedBuffer("Service ", UTF_8));
+        HttpContent last = new DefaultLastHttpContent(Unpooled.copiedBuffer("Unavailable", UTF_8));
+        assertThat(fillFilter.processContentChunk(fallback, chunk)).isNull();
+        assertThat(fillFilter.processContentChunk(fallback, last)).isNull();
+        assertThat(chunk.refCnt()).isEqualTo(0);
+        assertThat(last.refCnt()).isEqualTo(0);
+        fallback.disposeBufferedBody();
+    }
+
+    @Test
+    void servesStaleCopyWhileAnotherRequestRevalidates() {
+        HttpRequestMessage first = request("/stale-while-revalidate");
+        lookup(first);
+        fillFromOrigin(first, "max-age=0, stale-while-revalidate=60", "stale body");
+
+        HttpRequestMessage revalidating = request("/stale-while-revalidate");
+        lookup(revalidating);
+        assertThat(revalidating.getContext().getStaticResponse()).isNull();
+        assertThat(revalidating.getContext().get(CommonContextKeys.RESPONSE_CACHE_FILL)).isNotNull();
+
+        HttpRequestMessage second = request("/stale-while-revalidate");
+        lookup(second);
+        HttpResponseMessage stale = second.getContext().getStaticResponse();
+        assertThat(stale).isNotNull();
+        assertThat(stale.getStatus()).isEqualTo(200);
+        assertThat(stale.getHeaders().getAll("Warning")).contains("110 - \"Response is Stale\"");
+        assertThat(stale.getBodyAsText()).isEqualTo("stale body");
+        assertThat(second.getContext().get(CommonContextKeys.RESPONSE_CACHE_FILL)).isNull();
+        stale.disposeBufferedBody();
+
+        revalidating.getContext().get(CommonContextKeys.RESPONSE_CACHE_FILL).abandon();
+    }
+
+    private void lookup(HttpRequestMessage request) {
+        assertThat(lookupFilter.applyAsync(request).toBlocking().single()).isSameInstanceAs(request);
+    }
+
+    private void fillFromOrigin(HttpRequestMessage request, String cacheControl, String body) {
+        HttpResponseMessage response = originResponse(request, 200, cacheControl);
+        assertThat(fillFilter.apply(response)).isSameInstanceAs(response);
+        HttpContent chunk = fillFilter.processContentChunk(
+                response, new DefaultLastHttpContent(Unpooled.copiedBuffer(body, UTF_8)));
+        chunk.release();
+        assertThat(request.getContext().get(CommonContextKeys.RESPONSE_CACHE_FILL)).isNull();
+    }
+
+    private static HttpResponseMessage originResponse(HttpRequestMessage request, int status, String cacheControl) {
+        SessionContext context = request.getContext();
+        context.put(CommonContextKeys.ZUUL_ENDPOINT, mock(ProxyEndpoint.class));
+        HttpResponseMessage response = new HttpResponseMessageImpl(context, request, status);
+        response.getHeaders().set("Cache-Control", cacheControl);
+        return response;
+    }
+
+    private static HttpRequestMessage request(String path) {
+        Headers headers = new Headers();
+        headers.set("Host", "api.example.com");
+        return new HttpRequestMessageImpl(
+                new SessionContext(),
+                "HTTP/1.1",
+                "GET",
+                path,
+                new HttpQueryParams(),
+                headers,
+                "192.168.0.2",
+                "https",
+                7002,
+                "localhost");
+    }
+}
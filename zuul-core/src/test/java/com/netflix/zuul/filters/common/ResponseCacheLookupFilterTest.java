@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.filters.common;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.Mockito.mock;
+
+import com.netflix.config.ConfigurationManager;
+import com.netflix.zuul.cache.ResponseCache;
+import com.netflix.zuul.context.CommonContextKeys;
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.filters.endpoint.ProxyEndpoint;
+import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.http.HttpQueryParams;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.message.http.HttpRequestMessageImpl;
+import com.netflix.zuul.message.http.HttpResponseMessage;
+import com.netflix.zuul.message.http.HttpResponseMessageImpl;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.configuration.AbstractConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import rx.observers.TestSubscriber;
+
+class ResponseCacheLookupFilterTest {
+
+    private final AbstractConfiguration config = ConfigurationManager.getConfigInstance();
+    private final ResponseCacheLookupFilter lookupFilter = new ResponseCacheLookupFilter();
+    private final ResponseCacheFillFilter fillFilter = new ResponseCacheFillFilter();
+
+    @BeforeEach
+    void before() {
+        config.setProperty("zuul.response.cache.enabled", true);
+    }
+
+    @AfterEach
+    void after() {
+        config.clearProperty("zuul.response.cache.enabled");
+        config.clearProperty("zuul.response.cache.fill.timeout.ms");
+    }
+
+    @Test
+    void servesFreshHitAsStaticResponse() {
+        HttpRequestMessage first = request("/fresh");
+        lookup(first);
+        fillFromOrigin(first, "cached body");
+
+        HttpRequestMessage second = request("/fresh");
+        assertThat(lookupFilter.shouldFilter(second)).isTrue();
+        assertThat(second.getContext().get(CommonContextKeys.RESPONSE_CACHE_KEY))
+                .isEqualTo(ResponseCache.key(second));
+        lookup(second);
+
+        HttpResponseMessage response = second.getContext().getStaticResponse();
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getBodyAsText()).isEqualTo("cached body");
+        assertThat(second.getContext().get(CommonContextKeys.RESPONSE_CACHE_FILL)).isNull();
+        response.disposeBufferedBody();
+    }
+
+    @Test
+    void releasesWaiterWithCompletedFill() {
+        HttpRequestMessage first = request("/collapsed");
+        lookup(first);
+        assertThat(first.getContext().get(CommonContextKeys.RESPONSE_CACHE_FILL)).isNotNull();
+
+        HttpRequestMessage second = request("/collapsed");
+        TestSubscriber<HttpRequestMessage> waiter = new TestSubscriber<>();
+        lookupFilter.applyAsync(second).subscribe(waiter);
+        waiter.assertNoValues();
+
+        fillFromOrigin(first, "collapsed body");
+
+        waiter.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        waiter.assertValue(second);
+        HttpResponseMessage response = second.getContext().getStaticResponse();
+        assertThat(response).isNotNull();
+        assertThat(response.getBodyAsText()).isEqualTo("collapsed body");
+        response.disposeBufferedBody();
+    }
+
+    @Test
+    void sendsWaiterToOriginOnTimeout() {
+        config.setProperty("zuul.response.cache.fill.timeout.ms", 200);
+        HttpRequestMessage first = request("/slow");
+        lookup(first);
+
+        HttpRequestMessage second = request("/slow");
+        TestSubscriber<HttpRequestMessage> waiter = new TestSubscriber<>();
+        lookupFilter.applyAsync(second).subscribe(waiter);
+
+        waiter.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        waiter.assertValue(second);
+        assertThat(second.getContext().getStaticResponse()).isNull();
+        assertThat(second.getContext().get(CommonContextKeys.RESPONSE_CACHE_FILL)).isNull();
+        first.getContext().get(CommonContextKeys.RESPONSE_CACHE_FILL).abandon();
+    }
+
+    @Test
+    void sendsWaiterToOriginWhenFillIsAbandoned() {
+        HttpRequestMessage first = request("/abandoned");
+        lookup(first);
+
+        HttpRequestMessage second = request("/abandoned");
+        TestSubscriber<HttpRequestMessage> waiter = new TestSubscriber<>();
+        lookupFilter.applyAsync(second).subscribe(waiter);
+        waiter.assertNoValues();
+
+        first.getContext().get(CommonContextKeys.RESPONSE_CACHE_FILL).abandon();
+
+        waiter.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        waiter.assertValue(second);
+        assertThat(second.getContext().getStaticResponse()).isNull();
+    }
+
+    private void lookup(HttpRequestMessage request) {
+        assertThat(lookupFilter.applyAsync(request).toBlocking().single()).isSameInstanceAs(request);
+    }
+
+    private void fillFromOrigin(HttpRequestMessage request, String body) {
+        SessionContext context = request.getContext();
+        context.put(CommonContextKeys.ZUUL_ENDPOINT, mock(ProxyEndpoint.class));
+        HttpResponseMessage response = new HttpResponseMessageImpl(context, request, 200);
+        response.getHeaders().set("Cache-Control", "max-age=60");
+
+        assertThat(fillFilter.shouldFilter(response)).isTrue();
+        assertThat(fillFilter.apply(response)).isSameInstanceAs(response);
+        HttpContent chunk = fillFilter.processContentChunk(
+                response, new DefaultLastHttpContent(Unpooled.copiedBuffer(body, UTF_8)));
+        chunk.release();
+        assertThat(context.get(CommonContextKeys.RESPONSE_CACHE_FILL)).isNull();
+    }
+
+    private static HttpRequestMessage request(String path) {
+        Headers headers = new Headers();
+        headers.set("Host", "api.example.com");
+        return new HttpRequestMessageImpl(
+                new SessionContext(),
+                "HTTP/1.1",
+                "GET",
+                path,
+                new HttpQueryParams(),
+                headers,
+                "192.168.0.2",
+                "https",
+                7002,
+                "localhost");
+    }
+}
@@ -23,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.truth.Truth;
 import com.netflix.zuul.exception.ZuulException;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -50,6 +52,90 @@ class HeadersTest {
         Truth.assertThat(headers2.getAll("Content-Length")).containsExactly("5");
     }
 
+    @Test
+    void copyOf_originalChangedAfterCopy() {
+        Headers headers = new Headers();
+        headers.set("Content-Length", "5");
+        headers.add("Via", "duct");
+        Headers headers2 = Headers.copyOf(headers);
+
+        headers.set("Content-Length", "6");
+        headers.remove("Via");
+        headers2.add("Cookie", "this=that");
+
+        Truth.assertThat(headers.size()).isEqualTo(1);
+        Truth.assertThat(headers.getAll("Content-Length")).containsExactly("6");
+        Truth.assertThat(headers2.size()).isEqualTo(3);
+        Truth.assertThat(headers2.getAll("Content-Length")).containsExactly("5");
+        Truth.assertThat(headers2.getAll("Via")).containsExactly("duct");
+    }
+
+    @Test
+    void wrap_readsNettyHeaders() {
+        HttpHeaders nettyHeaders = new DefaultHttpHeaders();
+        nettyHeaders.add("Via", "duct");
+        nettyHeaders.add("Cookie", "this=that");
+        nettyHeaders.add("Cookie", "frizzle=frazzle");
+        Headers headers = Headers.wrap(nettyHeaders);
+
+        Truth.assertThat(headers.size()).isEqualTo(3);
+        Truth.assertThat(headers.getFirst("cOOkIE")).isEqualTo("this=that");
+        Truth.assertThat(headers.getAll(new HeaderName("cookie")))
+                .containsExactly("this=that", "frizzle=frazzle")
+                .inOrder();
+        Truth.assertThat(headers.contains("via", "duct")).isTrue();
+        Truth.assertThat(headers.keySet()).containsExactly(new HeaderName("Via"), new HeaderName("Cookie"));
+    }
+
+    @Test
+    void wrap_changesLeaveNettyHeadersAlone() {
+        HttpHeaders nettyHeaders = new DefaultHttpHeaders();
+        nettyHeaders.add("Via", "duct");
+        nettyHeaders.add("Cookie", "this=that");
+        Headers headers = Headers.wrap(nettyHeaders);
+
+        headers.set("Via", "pipe");
+        headers.add("X-Forwarded-For", "1.2.3.4");
+        Truth.assertThat(headers.remove("cookie")).containsExactly("this=that");
+
+        Truth.assertThat(headers.getAll("Via")).containsExactly("pipe");
+        Truth.assertThat(headers.getAll("Cookie")).isEmpty();
+        Truth.assertThat(headers.size()).isEqualTo(2);
+        Truth.assertThat(nettyHeaders.getAll("Via")).containsExactly("duct");
+        Truth.assertThat(nettyHeaders.contains("X-Forwarded-For")).isFalse();
+        Truth.assertThat(nettyHeaders.size()).isEqualTo(2);
+    }
+
+    @Test
+    void wrap_removeIf() {
+        HttpHeaders nettyHeaders = new DefaultHttpHeaders();
+        nettyHeaders.add("Via", "duct");
+        nettyHeaders.add("Cookie", "this=that");
+        Headers headers = Headers.wrap(nettyHeaders);
+
+        Truth.assertThat(headers.removeIf(entry -> entry.getKey().equals(new HeaderName("via")))).isTrue();
+
+        Truth.assertThat(headers.entries()).containsExactly(new Header(new HeaderName("Cookie"), "this=that"));
+        Truth.assertThat(nettyHeaders.size()).isEqualTo(2);
+    }
+
+    @Test
+    void addTo() {
+        HttpHeaders nettyHeaders = new DefaultHttpHeaders();
+        nettyHeaders.add("Via", "duct");
+        Headers wrapped = Headers.wrap(nettyHeaders);
+        Headers plain = new Headers();
+        plain.add("Cookie", "this=that");
+
+        HttpHeaders target = new DefaultHttpHeaders();
+        wrapped.addTo(target);
+        plain.addTo(target);
+
+        Truth.assertThat(target.get("via")).isEqualTo("duct");
+        Truth.assertThat(target.get("cookie")).isEqualTo("this=that");
+        Truth.assertThat(target.names()).containsExactly("Via", "Cookie");
+    }
+
     @Test
     void getFirst_normalizesName() {
         Headers headers = new Headers();
@@ -17,6 +17,7 @@
 package com.netflix.zuul.message.http;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
@@ -160,6 +161,21 @@ class HttpQueryParamsTest {
         assertTrue(queryParams.containsIgnoreCase(camelCaseKey));
     }
 
+    @Test
+    void immutableCopyUnaffectedByLaterChanges() {
+        HttpQueryParams queryParams = HttpQueryParams.parse("k1=v1&k2=v2");
+        HttpQueryParams copy = queryParams.immutableCopy();
+
+        queryParams.set("k1", "changed");
+        queryParams.removeAll("k2");
+        queryParams.add("k3", "v3");
+
+        assertTrue(copy.isImmutable());
+        assertEquals("k1=v1&k2=v2", copy.toEncodedString());
+        assertEquals("k1=changed&k3=v3", queryParams.toEncodedString());
+        assertThrows(UnsupportedOperationException.class, () -> copy.add("k4", "v4"));
+    }
+
     @Test
     void maintainsOrderOnToString() {
         String queryString =
@@ -109,6 +109,39 @@ class ClientTimeoutHandlerTest {
         verifyWrite();
     }
 
+    @Test
+    public void startReadTimeoutHandlerOnceResumed() {
+        Duration timeout = addTimeoutToChannel();
+        ClientTimeoutHandler.suspendReadTimeout(channel);
+        channel.writeOutbound(new DefaultLastHttpContent());
+        verify(pooledConnection, never()).startReadTimeoutHandler(any());
+
+        ClientTimeoutHandler.resumeReadTimeout(channel, true);
+        verify(pooledConnection).startReadTimeoutHandler(timeout);
+        verifyWrite();
+    }
+
+    @Test
+    public void restartReadTimeoutHandlerSuspendedWhileStarted() {
+        Duration timeout = addTimeoutToChannel();
+        channel.pipeline().addLast(PooledConnection.READ_TIMEOUT_HANDLER_NAME, new ChannelDuplexHandler());
+        ClientTimeoutHandler.suspendReadTimeout(channel);
+        verify(pooledConnection).removeReadTimeoutHandler();
+
+        ClientTimeoutHandler.resumeReadTimeout(channel, true);
+        verify(pooledConnection).startReadTimeoutHandler(timeout);
+    }
+
+    @Test
+    public void dontRestartReadTimeoutHandlerWhenDoneWithResponse() {
+        addTimeoutToChannel();
+        channel.pipeline().addLast(PooledConnection.READ_TIMEOUT_HANDLER_NAME, new ChannelDuplexHandler());
+        ClientTimeoutHandler.suspendReadTimeout(channel);
+
+        ClientTimeoutHandler.resumeReadTimeout(channel, false);
+        verify(pooledConnection, never()).startReadTimeoutHandler(any());
+    }
+
     private Duration addTimeoutToChannel() {
         Duration timeout = Duration.of(5, ChronoUnit.SECONDS);
         channel.attr(ClientTimeoutHandler.ORIGIN_RESPONSE_READ_TIMEOUT).set(timeout);
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertEquals;
 import com.google.common.collect.Lists;
 import com.netflix.spectator.api.Counter;
 import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Meter;
 import com.netflix.spectator.api.Tag;
 import com.netflix.zuul.origins.OriginName;
 import java.util.Map;
@@ -56,9 +57,24 @@ class ConnectionPoolMetricsTest {
         validateCounter("connectionpool_closeCircuitBreaker", metrics.circuitBreakerClose());
     }
 
+    @Test
+    public void validateHistogramNames() {
+        DefaultRegistry registry = new DefaultRegistry();
+        OriginName originName = OriginName.fromVipAndApp("whatever", "whatever");
+        ConnectionPoolHistograms histograms = ConnectionPoolHistograms.create(originName, registry);
+
+        validateMeter("connectionpool_acquireTiming", histograms.acquireTimer());
+        validateMeter("connectionpool_connectionLifetime", histograms.connectionLifetime());
+        validateMeter("connectionpool_connectionUsageCount", histograms.connectionUsageCount());
+    }
+
     private void validateCounter(String name, Counter counter) {
-        assertEquals(name, counter.id().name());
-        Map<String, String> tags = Lists.newArrayList(counter.id().tags().iterator()).stream()
+        validateMeter(name, counter);
+    }
+
+    private void validateMeter(String name, Meter meter) {
+        assertEquals(name, meter.id().name());
+        Map<String, String> tags = Lists.newArrayList(meter.id().tags().iterator()).stream()
                 .collect(Collectors.toMap(Tag::key, Tag::value));
         assertEquals("whatever", tags.get("id"));
     }
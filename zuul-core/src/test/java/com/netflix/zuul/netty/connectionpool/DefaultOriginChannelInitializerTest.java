@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.zuul.discovery.DiscoveryResult;
+import org.junit.jupiter.api.Test;
+
+class DefaultOriginChannelInitializerTest {
+
+    @Test
+    void keysSessionsOnIpAddressHost() {
+        DiscoveryResult server = DiscoveryResult.from(
+                InstanceInfo.Builder.newBuilder()
+                        .setAppName("app")
+                        .setHostName("192.168.0.1")
+                        .setPort(443)
+                        .build(),
+                true);
+
+        assertThat(DefaultOriginChannelInitializer.sessionCacheHost(server)).isEqualTo("192.168.0.1");
+    }
+
+    @Test
+    void keysSessionsOnIpAddressRatherThanHostname() {
+        DiscoveryResult server = DiscoveryResult.from(
+                InstanceInfo.Builder.newBuilder()
+                        .setAppName("app")
+                        .setHostName("origin.example.com")
+                        .setIPAddr("10.0.0.7")
+                        .setPort(443)
+                        .build(),
+                true);
+
+        assertThat(DefaultOriginChannelInitializer.sessionCacheHost(server)).isEqualTo("10.0.0.7");
+    }
+
+    @Test
+    void noSessionHostWithoutIpAddress() {
+        DiscoveryResult server = DiscoveryResult.from(
+                InstanceInfo.Builder.newBuilder()
+                        .setAppName("app")
+                        .setHostName("origin.example.com")
+                        .setPort(443)
+                        .build(),
+                true);
+
+        assertThat(DefaultOriginChannelInitializer.sessionCacheHost(server)).isNull();
+    }
+}
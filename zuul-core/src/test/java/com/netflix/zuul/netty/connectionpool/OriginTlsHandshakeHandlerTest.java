@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import java.util.ArrayList;
+import java.util.List;
+import javax.net.ssl.SSLHandshakeException;
+import org.junit.jupiter.api.Test;
+
+class OriginTlsHandshakeHandlerTest {
+
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    void removedAfterHandshake() {
+        EmbeddedChannel channel = newChannel();
+        assertNotNull(channel.pipeline().get(OriginTlsHandshakeHandler.NAME));
+
+        SslHandshakeCompletionEvent event = new SslHandshakeCompletionEvent(new SSLHandshakeException("bad cert"));
+        channel.pipeline().fireUserEventTriggered(event);
+
+        assertNull(channel.pipeline().get(OriginTlsHandshakeHandler.NAME));
+        assertEquals(List.of(event), events);
+    }
+
+    @Test
+    void passesThroughOtherEvents() {
+        EmbeddedChannel channel = newChannel();
+
+        channel.pipeline().fireUserEventTriggered("other");
+
+        assertNotNull(channel.pipeline().get(OriginTlsHandshakeHandler.NAME));
+        assertEquals(List.of("other"), events);
+    }
+
+    private EmbeddedChannel newChannel() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline()
+                .addLast(
+                        OriginTlsHandshakeHandler.NAME,
+                        new OriginTlsHandshakeHandler(new OriginTlsHandshakeHandler.Metrics("test")));
+        channel.pipeline().addLast(new EventRecorder());
+        return channel;
+    }
+
+    private class EventRecorder extends ChannelInboundHandlerAdapter {
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+            events.add(evt);
+        }
+    }
+}
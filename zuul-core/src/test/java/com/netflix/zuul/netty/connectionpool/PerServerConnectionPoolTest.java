@@ -16,6 +16,7 @@
 
 package com.netflix.zuul.netty.connectionpool;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -24,6 +25,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 
 import com.netflix.appinfo.InstanceInfo;
@@ -42,6 +45,9 @@ import com.netflix.zuul.passport.PassportState;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultChannelPromise;
+import io.netty.channel.DefaultEventLoop;
 import io.netty.channel.DefaultEventLoopGroup;
 import io.netty.channel.EventLoop;
 import io.netty.channel.embedded.EmbeddedChannel;
@@ -50,6 +56,8 @@ import io.netty.channel.local.LocalChannel;
 import io.netty.channel.local.LocalServerChannel;
 import io.netty.handler.codec.DecoderException;
 import io.netty.util.concurrent.Promise;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.Deque;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
@@ -203,6 +211,299 @@ class PerServerConnectionPoolTest {
         assertEquals(1, maxConnsPerHostExceededCounter.count());
     }
 
+    @Test
+    void pendingAcquireGetsReleasedConnection() throws InterruptedException, ExecutionException {
+        clientConfig.set(Keys.MaxConnectionsPerHost, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.MAX_PENDING_ACQUIRES_PER_SERVER, 1);
+
+        PooledConnection connection = pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+
+        Promise<PooledConnection> pending =
+                pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>());
+        assertFalse(pending.isDone());
+
+        CLIENT_EVENT_LOOP
+                .submit(() -> {
+                    pool.release(connection);
+                })
+                .sync();
+
+        assertEquals(connection, pending.sync().get());
+        assertEquals(0, connsInPool.get());
+        assertEquals(1, createNewConnCounter.count());
+        assertEquals(0, maxConnsPerHostExceededCounter.count());
+    }
+
+    @Test
+    void pendingAcquireTimesOut() {
+        clientConfig.set(Keys.MaxConnectionsPerHost, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.MAX_PENDING_ACQUIRES_PER_SERVER, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.PENDING_ACQUIRE_TIMEOUT, 10);
+        discoveryResult.incrementOpenConnectionsCount();
+
+        Promise<PooledConnection> promise =
+                pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>());
+        assertFalse(promise.isDone());
+
+        await().atMost(5, TimeUnit.SECONDS).until(promise::isDone);
+        assertTrue(promise.cause() instanceof OriginConnectException);
+        assertEquals(1, maxConnsPerHostExceededCounter.count());
+        assertTrue(pool.pendingAcquires.isEmpty());
+    }
+
+    @Test
+    void pendingAcquireWaitsAtMostItsOwnLimit() {
+        clientConfig.set(Keys.MaxConnectionsPerHost, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.MAX_PENDING_ACQUIRES_PER_SERVER, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.PENDING_ACQUIRE_TIMEOUT, 60_000);
+        discoveryResult.incrementOpenConnectionsCount();
+
+        Promise<PooledConnection> promise = pool.acquire(
+                CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>(), Duration.ofMillis(10));
+        assertFalse(promise.isDone());
+
+        await().atMost(5, TimeUnit.SECONDS).until(promise::isDone);
+        assertTrue(promise.cause() instanceof OriginConnectException);
+        assertTrue(pool.pendingAcquires.isEmpty());
+    }
+
+    @Test
+    void pendingAcquireOnOtherEventLoopGetsNewConnectionOnRelease() throws InterruptedException, ExecutionException {
+        clientConfig.set(Keys.MaxConnectionsPerHost, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.MAX_PENDING_ACQUIRES_PER_SERVER, 1);
+        EventLoop otherEventLoop = new DefaultEventLoop();
+        try {
+            PooledConnection connection = pool.acquire(
+                            CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                    .sync()
+                    .get();
+
+            Promise<PooledConnection> pending =
+                    pool.acquire(otherEventLoop, CurrentPassport.create(), new AtomicReference<>());
+            assertFalse(pending.isDone());
+
+            CLIENT_EVENT_LOOP
+                    .submit(() -> {
+                        pool.release(connection);
+                    })
+                    .sync();
+
+            PooledConnection other = pending.sync().get();
+            assertNotEquals(connection, other);
+            assertEquals(otherEventLoop, other.getChannel().eventLoop());
+            assertFalse(connection.getChannel().isOpen());
+            assertEquals(2, createNewConnCounter.count());
+            assertEquals(0, maxConnsPerHostExceededCounter.count());
+        } finally {
+            otherEventLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    void pendingAcquireOnOtherEventLoopGetsMovedConnectionOnRelease() throws InterruptedException, ExecutionException {
+        clientConfig.set(Keys.MaxConnectionsPerHost, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.MAX_PENDING_ACQUIRES_PER_SERVER, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.CONNECTION_STEALING, true);
+        EventLoop otherEventLoop = new DefaultEventLoop();
+        try {
+            PooledConnection connection = pool.acquire(
+                            CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                    .sync()
+                    .get();
+
+            Promise<PooledConnection> pending =
+                    pool.acquire(otherEventLoop, CurrentPassport.create(), new AtomicReference<>());
+            assertFalse(pending.isDone());
+
+            CLIENT_EVENT_LOOP
+                    .submit(() -> {
+                        pool.release(connection);
+                    })
+                    .sync();
+
+            assertEquals(connection, pending.sync().get());
+            assertEquals(otherEventLoop, connection.getChannel().eventLoop());
+            assertEquals(1, createNewConnCounter.count());
+        } finally {
+            otherEventLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    void stealsIdleConnectionFromOtherEventLoop() throws InterruptedException, ExecutionException {
+        clientConfig.set(ConnectionPoolConfigImpl.CONNECTION_STEALING, true);
+        EventLoop otherEventLoop = new DefaultEventLoop();
+        try {
+            PooledConnection connection = pool.acquire(
+                            CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                    .sync()
+                    .get();
+            CLIENT_EVENT_LOOP
+                    .submit(() -> {
+                        pool.release(connection);
+                    })
+                    .sync();
+
+            PooledConnection stolen = pool.acquire(otherEventLoop, CurrentPassport.create(), new AtomicReference<>())
+                    .sync()
+                    .get();
+
+            assertEquals(connection, stolen);
+            assertEquals(otherEventLoop, stolen.getChannel().eventLoop());
+            assertEquals(1, createNewConnCounter.count());
+            assertEquals(0, connsInPool.get());
+            assertEquals(1, connsInUse.get());
+        } finally {
+            otherEventLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    void noStealingByDefault() throws InterruptedException, ExecutionException {
+        EventLoop otherEventLoop = new DefaultEventLoop();
+        try {
+            PooledConnection connection = pool.acquire(
+                            CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                    .sync()
+                    .get();
+            CLIENT_EVENT_LOOP
+                    .submit(() -> {
+                        pool.release(connection);
+                    })
+                    .sync();
+
+            PooledConnection other = pool.acquire(otherEventLoop, CurrentPassport.create(), new AtomicReference<>())
+                    .sync()
+                    .get();
+
+            assertNotEquals(connection, other);
+            assertEquals(1, connsInPool.get());
+        } finally {
+            otherEventLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    void racesSlowConnect() throws InterruptedException, ExecutionException {
+        clientConfig.set(ConnectionPoolConfigImpl.CONNECT_RACING, true);
+        clientConfig.set(ConnectionPoolConfigImpl.CONNECT_RACE_MIN_DELAY, 1);
+        PerServerConnectionPool racingPool = spy(pool);
+        ChannelPromise stalledConnect = new DefaultChannelPromise(new EmbeddedChannel(), CLIENT_EVENT_LOOP);
+        doReturn(stalledConnect)
+                .doCallRealMethod()
+                .when(racingPool)
+                .connectToServer(any(), any(), any());
+
+        PooledConnection connection = racingPool
+                .acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+
+        assertTrue(connection.getChannel().isActive());
+        assertEquals(2, createNewConnCounter.count());
+        assertEquals(1, createConnSucceededCounter.count());
+
+        stalledConnect.setFailure(new RuntimeException("connect timed out"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> createConnFailedCounter.count() == 1);
+    }
+
+    @Test
+    void noConnectRacingByDefault() throws InterruptedException, ExecutionException {
+        PerServerConnectionPool spiedPool = spy(pool);
+        ChannelPromise stalledConnect = new DefaultChannelPromise(new EmbeddedChannel(), CLIENT_EVENT_LOOP);
+        doReturn(stalledConnect).when(spiedPool).connectToServer(any(), any(), any());
+
+        Promise<PooledConnection> promise =
+                spiedPool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>());
+        Thread.sleep(50);
+
+        assertFalse(promise.isDone());
+        assertEquals(1, createNewConnCounter.count());
+        stalledConnect.setFailure(new RuntimeException("connect timed out"));
+        await().atMost(5, TimeUnit.SECONDS).until(promise::isDone);
+        assertInstanceOf(OriginConnectException.class, promise.cause());
+    }
+
+    @Test
+    void idleReaperTrimsLeastRecentlyUsedFirst() throws InterruptedException, ExecutionException {
+        clientConfig.set(ConnectionPoolConfigImpl.IDLE_REAPER, true);
+        PooledConnection first = pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+        PooledConnection second = pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+        CLIENT_EVENT_LOOP
+                .submit(() -> {
+                    pool.release(first);
+                    pool.release(second);
+                })
+                .sync();
+
+        clientConfig.set(ConnectionPoolConfigImpl.PER_SERVER_WATERLINE, 1);
+        int reaped = CLIENT_EVENT_LOOP
+                .submit(() -> pool.reapIdleConnections(CLIENT_EVENT_LOOP))
+                .get();
+
+        assertEquals(1, reaped);
+        assertEquals(1, connsInPool.get());
+        assertFalse(first.isInPool());
+        assertTrue(second.isInPool());
+        PooledConnection reused = pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+        assertEquals(second, reused);
+    }
+
+    @Test
+    void idleReaperClosesIdleConnections() throws InterruptedException, ExecutionException {
+        clientConfig.set(ConnectionPoolConfigImpl.IDLE_REAPER, true);
+        clientConfig.set(Keys.ConnIdleEvictTimeMilliSeconds, 1);
+        PooledConnection connection = pool.acquire(
+                        CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+        CLIENT_EVENT_LOOP.submit(() -> pool.release(connection)).sync();
+        Thread.sleep(5);
+
+        int reaped = CLIENT_EVENT_LOOP
+                .submit(() -> pool.reapIdleConnections(CLIENT_EVENT_LOOP))
+                .get();
+
+        assertEquals(1, reaped);
+        assertEquals(0, connsInPool.get());
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !connection.getChannel().isOpen());
+    }
+
+    @Test
+    void idleReaperKeepsPrewarmedConnections() throws InterruptedException, ExecutionException {
+        clientConfig.set(ConnectionPoolConfigImpl.IDLE_REAPER, true);
+        clientConfig.set(Keys.ConnIdleEvictTimeMilliSeconds, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.MIN_IDLE_CONNECTIONS_PER_SERVER, 2);
+        clientConfig.set(ConnectionPoolConfigImpl.PREWARM_CONNECT_INTERVAL, 1);
+        PooledConnection connection = pool.acquire(
+                        CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+
+        pool.prewarm(CLIENT_EVENT_LOOP);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> connsInPool.get() == 2);
+        CLIENT_EVENT_LOOP.submit(() -> pool.release(connection)).sync();
+        Thread.sleep(5);
+
+        int reaped = CLIENT_EVENT_LOOP
+                .submit(() -> pool.reapIdleConnections(CLIENT_EVENT_LOOP))
+                .get();
+
+        assertEquals(1, reaped);
+        assertEquals(2, connsInPool.get());
+        assertTrue(connection.isInPool());
+
+        pool.shutdown();
+    }
+
     @Test
     void acquireNewConnection() throws InterruptedException, ExecutionException {
         CurrentPassport currentPassport = CurrentPassport.create();
@@ -254,6 +555,26 @@ class PerServerConnectionPoolTest {
                 .sync();
     }
 
+    @Test
+    void statsReportPooledConnections() throws InterruptedException, ExecutionException {
+        Promise<PooledConnection> promise =
+                pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>());
+        PooledConnection connection = promise.sync().get();
+
+        ServerPoolStats stats = pool.getStats();
+        assertEquals(discoveryResult.getServerId(), stats.serverId());
+        assertEquals(0, stats.idle());
+        assertEquals(1, stats.inUse());
+        assertEquals(0, stats.creating());
+
+        CLIENT_EVENT_LOOP.submit(() -> pool.release(connection)).sync();
+
+        stats = pool.getStats();
+        assertEquals(1, stats.idle());
+        assertEquals(1, stats.maxIdlePerEventLoop());
+        assertEquals(0, stats.eventLoopSkew());
+    }
+
     @Test
     void releaseFromPoolButAlreadyClosed() throws InterruptedException, ExecutionException {
         CurrentPassport currentPassport = CurrentPassport.create();
@@ -323,6 +644,67 @@ class PerServerConnectionPoolTest {
                 "connection should have been closed after release");
     }
 
+    @Test
+    void prewarmOpensMinimumIdleConnections() {
+        clientConfig.set(ConnectionPoolConfigImpl.MIN_IDLE_CONNECTIONS_PER_SERVER, 2);
+        clientConfig.set(ConnectionPoolConfigImpl.PREWARM_CONNECT_INTERVAL, 1);
+
+        pool.prewarm(CLIENT_EVENT_LOOP);
+        // A second call for the same event loop must not start another pre-warmer.
+        pool.prewarm(CLIENT_EVENT_LOOP);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> connsInPool.get() == 2);
+        assertEquals(2, createConnSucceededCounter.count());
+        assertEquals(0, connsInUse.get());
+        assertEquals(2, pool.getPoolForEventLoop(CLIENT_EVENT_LOOP).size());
+
+        pool.shutdown();
+    }
+
+    @Test
+    void prewarmedConnectionsAreExemptFromIdleTimeout() {
+        clientConfig.set(ConnectionPoolConfigImpl.MIN_IDLE_CONNECTIONS_PER_SERVER, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.PREWARM_CONNECT_INTERVAL, 1);
+
+        pool.prewarm(CLIENT_EVENT_LOOP);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> connsInPool.get() == 1);
+        PooledConnection connection = pool.getPoolForEventLoop(CLIENT_EVENT_LOOP).peekFirst();
+        assertNull(connection.getChannel().pipeline().get(DefaultClientChannelManager.IDLE_STATE_HANDLER_NAME));
+
+        pool.shutdown();
+    }
+
+    @Test
+    void prewarmBacksOffWithoutBlamingServer() throws InterruptedException {
+        clientConfig.set(ConnectionPoolConfigImpl.MIN_IDLE_CONNECTIONS_PER_SERVER, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.PREWARM_CONNECT_INTERVAL, 10);
+        clientConfig.set(ConnectionPoolConfigImpl.PREWARM_CHECK_INTERVAL, 1);
+        PerServerConnectionPool spiedPool = spy(pool);
+        doReturn(new EmbeddedChannel().newFailedFuture(new IOException("connection refused")))
+                .when(spiedPool)
+                .connectToServer(any(), any(), any());
+        double errorRate = spiedPool.getLoadStats().getErrorRateEwma();
+
+        spiedPool.prewarm(CLIENT_EVENT_LOOP);
+        Thread.sleep(500);
+        spiedPool.shutdown();
+
+        // Without backing off, it would have tried every 10-20ms.
+        assertTrue(createConnFailedCounter.count() >= 2);
+        assertTrue(createConnFailedCounter.count() <= 8);
+        assertEquals(errorRate, spiedPool.getLoadStats().getErrorRateEwma());
+        assertEquals(0, spiedPool.connCreationsInProgress.get());
+    }
+
+    @Test
+    void prewarmDisabledByDefault() {
+        pool.prewarm(CLIENT_EVENT_LOOP);
+
+        assertTrue(pool.prewarmers.isEmpty());
+        assertEquals(0, createNewConnCounter.count());
+    }
+
     @Test
     void acquireWhileDraining() {
         pool.drain();
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.truth.Truth;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.zuul.discovery.DiscoveryResult;
+import com.netflix.zuul.resolver.Resolver;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PowerOfTwoChoicesResolverTest {
+
+    private DiscoveryResult first;
+    private DiscoveryResult second;
+    private final Map<DiscoveryResult, IConnectionPool> pools = new HashMap<>();
+    private PowerOfTwoChoicesResolver resolver;
+
+    @BeforeEach
+    void setup() {
+        first = server("10.0.0.1");
+        second = server("10.0.0.2");
+
+        Resolver<DiscoveryResult> delegate = mock(Resolver.class);
+        when(delegate.getServers()).thenReturn(List.of(first, second));
+        resolver = new PowerOfTwoChoicesResolver(delegate, pools::get);
+    }
+
+    @Test
+    void prefersFewerConnectionsInUse() {
+        ServerLoadStats busy = poolFor(first);
+        ServerLoadStats quiet = poolFor(second);
+        busy.connectionAcquired();
+        busy.connectionAcquired();
+        quiet.connectionAcquired();
+
+        Truth.assertThat(resolver.choose(first, second, null)).isSameInstanceAs(second);
+        Truth.assertThat(resolver.choose(second, first, null)).isSameInstanceAs(second);
+    }
+
+    @Test
+    void prefersLowerLatency() {
+        poolFor(first).recordResponse(200, false);
+        poolFor(second).recordResponse(10, false);
+
+        Truth.assertThat(resolver.choose(first, second, null)).isSameInstanceAs(second);
+    }
+
+    @Test
+    void penalizesErrors() {
+        ServerLoadStats failing = poolFor(first);
+        poolFor(second).recordResponse(10, false);
+        failing.recordResponse(10, true);
+        failing.recordConnectFailure();
+
+        Truth.assertThat(resolver.choose(first, second, null)).isSameInstanceAs(second);
+    }
+
+    @Test
+    void prefersIdleConnectionOnCurrentLoop() {
+        EventLoop loop = new DefaultEventLoop();
+        try {
+            poolFor(first);
+            poolFor(second);
+            when(pools.get(second).hasIdleConnections(loop)).thenReturn(true);
+
+            Truth.assertThat(resolver.choose(first, second, loop)).isSameInstanceAs(second);
+        } finally {
+            loop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    void unknownServerComparedAsEqualLatency() {
+        ServerLoadStats known = poolFor(first);
+        known.recordResponse(500, false);
+        known.connectionAcquired();
+
+        // No pool yet for the second server, so it has no load.
+        Truth.assertThat(resolver.choose(first, second, null)).isSameInstanceAs(second);
+    }
+
+    @Test
+    void resolvePicksFromCandidates() {
+        Truth.assertThat(resolver.resolve(null)).isAnyOf(first, second);
+    }
+
+    private ServerLoadStats poolFor(DiscoveryResult server) {
+        ServerLoadStats stats = new ServerLoadStats();
+        IConnectionPool pool = mock(IConnectionPool.class);
+        when(pool.getLoadStats()).thenReturn(stats);
+        pools.put(server, pool);
+        return stats;
+    }
+
+    private static DiscoveryResult server(String ip) {
+        InstanceInfo instanceInfo = InstanceInfo.Builder.newBuilder()
+                .setAppName("app")
+                .setHostName(ip)
+                .setIPAddr(ip)
+                .setPort(7001)
+                .build();
+        return DiscoveryResult.from(instanceInfo, false);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.netflix.zuul.filters.endpoint.ProxyEndpoint;
+import com.netflix.zuul.netty.server.OriginResponseReceiver;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.timeout.IdleStateEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SwitchableOriginHandlerTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setup() {
+        channel = new EmbeddedChannel();
+        channel.pipeline().addLast(SwitchableOriginHandler.NAME, new SwitchableOriginHandler());
+        channel.pipeline().addLast(DefaultOriginChannelInitializer.CONNECTION_POOL_HANDLER, new EventRecorder());
+    }
+
+    @Test
+    void dispatchesToAttachedReceiver() {
+        ProxyEndpoint proxyEndpoint = mock(ProxyEndpoint.class);
+        OriginResponseReceiver receiver = new OriginResponseReceiver(proxyEndpoint);
+        SwitchableOriginHandler.attachReceiver(channel.pipeline(), receiver);
+
+        HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+        channel.writeInbound(response);
+
+        verify(proxyEndpoint).responseFromOrigin(receiver, response);
+        assertNull(channel.pipeline().get(OriginResponseReceiver.CHANNEL_HANDLER_NAME));
+    }
+
+    @Test
+    void passesThroughWhenDetached() {
+        ProxyEndpoint proxyEndpoint = mock(ProxyEndpoint.class);
+        OriginResponseReceiver receiver = new OriginResponseReceiver(proxyEndpoint);
+        SwitchableOriginHandler.attachReceiver(channel.pipeline(), receiver);
+        SwitchableOriginHandler.detachReceiver(channel.pipeline());
+
+        HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+        channel.writeInbound(response);
+
+        verify(proxyEndpoint, never()).responseFromOrigin(receiver, response);
+        assertSame(response, channel.readInbound());
+    }
+
+    @Test
+    void firesIdleEventWhilePooled() throws InterruptedException {
+        DefaultClientChannelManager.addIdleStateHandler(channel.pipeline(), 1);
+        Thread.sleep(20);
+        channel.runScheduledPendingTasks();
+
+        assertEquals(List.of(IdleStateEvent.ALL_IDLE_STATE_EVENT), events);
+        assertNull(channel.pipeline().get(DefaultClientChannelManager.IDLE_STATE_HANDLER_NAME));
+    }
+
+    @Test
+    void noIdleEventOnceAcquired() throws InterruptedException {
+        SwitchableOriginHandler handler = SwitchableOriginHandler.get(channel.pipeline());
+        handler.startIdleTimeout(1);
+        handler.stopIdleTimeout();
+        Thread.sleep(20);
+        channel.runScheduledPendingTasks();
+
+        assertEquals(List.of(), events);
+    }
+
+    private class EventRecorder extends ChannelInboundHandlerAdapter {
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+            events.add(evt);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.filter;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.netflix.config.ConfigurationManager;
+import com.netflix.netty.common.ChannelReadPauses;
+import com.netflix.zuul.context.CommonContextKeys;
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.http.HttpQueryParams;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.message.http.HttpRequestMessageImpl;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import org.apache.commons.configuration.AbstractConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestBodyFlowControlTest {
+
+    private final AbstractConfiguration config = ConfigurationManager.getConfigInstance();
+    private EmbeddedChannel channel;
+    private HttpRequestMessage request;
+
+    @BeforeEach
+    void before() {
+        config.setProperty("zuul.request.body.flow.control.enabled", true);
+        config.setProperty("zuul.request.body.flow.control.max.buffered.bytes", 8);
+        channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        SessionContext context = new SessionContext();
+        context.put(CommonContextKeys.NETTY_SERVER_CHANNEL_HANDLER_CONTEXT, channel.pipeline().firstContext());
+        request = new HttpRequestMessageImpl(
+                context,
+                "HTTP/1.1",
+                "POST",
+                "/upload",
+                new HttpQueryParams(),
+                new Headers(),
+                "192.168.0.2",
+                "https",
+                7002,
+                "localhost");
+    }
+
+    @AfterEach
+    void after() {
+        request.disposeBufferedBody();
+        channel.finishAndReleaseAll();
+        config.clearProperty("zuul.request.body.flow.control.enabled");
+        config.clearProperty("zuul.request.body.flow.control.max.buffered.bytes");
+    }
+
+    @Test
+    void pausesReadingOnceThresholdIsBufferedAndResumes() {
+        request.bufferBodyContents(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[8])));
+        RequestBodyFlowControl.onChunkBuffered(request);
+        assertThat(channel.config().isAutoRead()).isTrue();
+
+        request.bufferBodyContents(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[1])));
+        RequestBodyFlowControl.onChunkBuffered(request);
+        assertThat(channel.config().isAutoRead()).isFalse();
+        assertThat(RequestBodyFlowControl.isPaused(request)).isTrue();
+
+        RequestBodyFlowControl.resume(request);
+        assertThat(channel.config().isAutoRead()).isTrue();
+        assertThat(RequestBodyFlowControl.isPaused(request)).isFalse();
+    }
+
+    @Test
+    void keepsReadsPausedForOtherReasonOnResume() {
+        ChannelReadPauses.pause(channel, ChannelReadPauses.Reason.ORIGIN_NOT_WRITABLE);
+        request.bufferBodyContents(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[16])));
+        RequestBodyFlowControl.onChunkBuffered(request);
+        assertThat(RequestBodyFlowControl.isPaused(request)).isTrue();
+
+        RequestBodyFlowControl.resume(request);
+        assertThat(channel.config().isAutoRead()).isFalse();
+
+        ChannelReadPauses.resume(channel, ChannelReadPauses.Reason.ORIGIN_NOT_WRITABLE);
+        assertThat(channel.config().isAutoRead()).isTrue();
+    }
+
+    @Test
+    void doesNotPauseCompleteBodies() {
+        request.bufferBodyContents(new DefaultLastHttpContent(Unpooled.wrappedBuffer(new byte[16])));
+        RequestBodyFlowControl.onChunkBuffered(request);
+        assertThat(channel.config().isAutoRead()).isTrue();
+    }
+}
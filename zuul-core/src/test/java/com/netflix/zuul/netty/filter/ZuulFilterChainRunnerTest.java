@@ -15,6 +15,8 @@
  */
 package com.netflix.zuul.netty.filter;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -35,12 +37,14 @@ import com.netflix.zuul.filters.ZuulFilter;
 import com.netflix.zuul.filters.http.HttpInboundFilter;
 import com.netflix.zuul.filters.http.HttpOutboundFilter;
 import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.ZuulMessage;
 import com.netflix.zuul.message.http.HttpQueryParams;
 import com.netflix.zuul.message.http.HttpRequestMessage;
 import com.netflix.zuul.message.http.HttpRequestMessageImpl;
 import com.netflix.zuul.message.http.HttpResponseMessage;
 import com.netflix.zuul.message.http.HttpResponseMessageImpl;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -116,6 +120,27 @@ class ZuulFilterChainRunnerTest {
         verifyNoMoreInteractions(notifier);
     }
 
+    @Test
+    void detectsFiltersTransformingChunks() {
+        SimpleOutboundFilter passThrough = new SimpleOutboundFilter(true);
+        SimpleOutboundFilter transforming = new SimpleOutboundFilter(true) {
+            @Override
+            public HttpContent processContentChunk(ZuulMessage zuulMessage, HttpContent chunk) {
+                return chunk.replace(chunk.content().copy());
+            }
+        };
+
+        assertFalse(ZuulFilterChainRunner.transformsChunks(passThrough));
+        assertTrue(ZuulFilterChainRunner.transformsChunks(transforming));
+
+        FilterUsageNotifier notifier = mock(FilterUsageNotifier.class);
+        Registry registry = mock(Registry.class);
+        assertTrue(new ZuulFilterChainRunner(new ZuulFilter[] {passThrough}, notifier, registry)
+                .isChunkPassThrough());
+        assertFalse(new ZuulFilterChainRunner(new ZuulFilter[] {passThrough, transforming}, notifier, registry)
+                .isChunkPassThrough());
+    }
+
     class SimpleInboundFilter extends HttpInboundFilter {
         private final boolean shouldFilter;
 
@@ -27,6 +27,7 @@ import com.netflix.netty.common.HttpLifecycleChannelHandler.CompleteEvent;
 import com.netflix.netty.common.HttpLifecycleChannelHandler.CompleteReason;
 import com.netflix.netty.common.SourceAddressChannelHandler;
 import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.zuul.cache.ResponseCache;
 import com.netflix.zuul.context.CommonContextKeys;
 import com.netflix.zuul.context.SessionContext;
 import com.netflix.zuul.message.Headers;
@@ -330,6 +331,33 @@ class ClientRequestReceiverTest {
                 StatusCategoryUtils.getStatusCategory(inboundRequest.getContext()));
     }
 
+    @Test
+    void abandonsResponseCacheFillOnComplete() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ClientRequestReceiver(null));
+        channel.attr(SourceAddressChannelHandler.ATTR_SERVER_LOCAL_PORT).set(1234);
+
+        DefaultFullHttpRequest request =
+                new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/cached", Unpooled.buffer());
+        channel.writeInbound(request);
+        HttpRequestMessage inboundRequest = ClientRequestReceiver.getRequestFromChannel(channel);
+
+        ResponseCache cache = ResponseCache.getInstance();
+        String key = "abandonsResponseCacheFillOnComplete";
+        ResponseCache.Fill fill = cache.tryStartFill(key);
+        assertNotNull(fill);
+        inboundRequest.getContext().put(CommonContextKeys.RESPONSE_CACHE_FILL, fill);
+
+        channel.pipeline()
+                .fireUserEventTriggered(new CompleteEvent(
+                        CompleteReason.INACTIVE,
+                        request,
+                        new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK)));
+        channel.close();
+
+        assertNull(cache.inFlight(key));
+        assertNull(inboundRequest.getContext().get(CommonContextKeys.RESPONSE_CACHE_FILL));
+    }
+
     @Test
     void headersAllCopied() {
         ClientRequestReceiver receiver = new ClientRequestReceiver(null);
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.netflix.zuul.message.Headers;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.AsciiString;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EncodedHeaderCacheTest {
+
+    @Test
+    void cachesNamesAndRepeatedValues() {
+        EncodedHeaderCache cache = new EncodedHeaderCache(16);
+        Headers headers = new Headers();
+        headers.add("Cache-Control", "no-cache");
+        headers.add("X-Request-Id", "abc");
+
+        HttpHeaders first = new DefaultHttpHeaders();
+        cache.addTo(headers, first);
+        HttpHeaders second = new DefaultHttpHeaders();
+        cache.addTo(headers, second);
+
+        List<Map.Entry<CharSequence, CharSequence>> firstEntries = entries(first);
+        List<Map.Entry<CharSequence, CharSequence>> secondEntries = entries(second);
+        assertThat(firstEntries.get(0).getKey()).isInstanceOf(AsciiString.class);
+        assertThat(secondEntries.get(0).getKey()).isSameInstanceAs(firstEntries.get(0).getKey());
+        assertThat(secondEntries.get(0).getValue()).isSameInstanceAs(firstEntries.get(0).getValue());
+        assertThat(secondEntries.get(1).getValue()).isInstanceOf(String.class);
+        assertThat(second.get("cache-control")).isEqualTo("no-cache");
+        assertThat(second.get("x-request-id")).isEqualTo("abc");
+    }
+
+    @Test
+    void stopsCachingWhenFull() {
+        EncodedHeaderCache cache = new EncodedHeaderCache(1);
+        Headers headers = new Headers();
+        headers.add("Vary", "Origin");
+        headers.add("Server", "zuul");
+
+        HttpHeaders target = new DefaultHttpHeaders();
+        cache.addTo(headers, target);
+
+        List<Map.Entry<CharSequence, CharSequence>> entries = entries(target);
+        assertThat(entries.get(0).getKey()).isInstanceOf(AsciiString.class);
+        assertThat(entries.get(1).getKey()).isInstanceOf(String.class);
+        assertThat(target.get("server")).isEqualTo("zuul");
+    }
+
+    @Test
+    void skipsNonAsciiValues() {
+        EncodedHeaderCache cache = new EncodedHeaderCache(16);
+        Headers headers = new Headers();
+        headers.add("Content-Type", "text/plain; name=é");
+
+        HttpHeaders target = new DefaultHttpHeaders();
+        cache.addTo(headers, target);
+
+        assertThat(entries(target).get(0).getValue()).isInstanceOf(String.class);
+    }
+
+    private static List<Map.Entry<CharSequence, CharSequence>> entries(HttpHeaders headers) {
+        List<Map.Entry<CharSequence, CharSequence>> entries = new ArrayList<>();
+        headers.iteratorCharSequence().forEachRemaining(entries::add);
+        return entries;
+    }
+}
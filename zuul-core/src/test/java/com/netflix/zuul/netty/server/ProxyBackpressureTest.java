@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.netflix.config.ConfigurationManager;
+import com.netflix.zuul.context.CommonContextKeys;
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.http.HttpQueryParams;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.message.http.HttpRequestMessageImpl;
+import com.netflix.zuul.message.http.HttpResponseMessageImpl;
+import com.netflix.zuul.netty.connectionpool.ClientTimeoutHandler;
+import com.netflix.zuul.netty.connectionpool.PooledConnection;
+import com.netflix.zuul.netty.filter.RequestBodyFlowControl;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import java.time.Duration;
+import org.apache.commons.configuration.AbstractConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProxyBackpressureTest {
+
+    private final AbstractConfiguration config = ConfigurationManager.getConfigInstance();
+    private final SessionContext context = new SessionContext();
+    private final ReadCounter originReads = new ReadCounter();
+    private EmbeddedChannel clientChannel;
+    private EmbeddedChannel originChannel;
+
+    @BeforeEach
+    void before() {
+        config.setProperty("zuul.proxy.backpressure.enabled", true);
+        clientChannel = new EmbeddedChannel();
+        clientChannel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8, 16));
+        originChannel = new EmbeddedChannel(originReads);
+        originChannel.config().setAutoRead(false);
+        originChannel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8, 16));
+        ProxyBackpressure.link(context, clientChannel, originChannel);
+    }
+
+    @AfterEach
+    void after() {
+        ProxyBackpressure.unlink(context);
+        clientChannel.finishAndReleaseAll();
+        originChannel.finishAndReleaseAll();
+        config.clearProperty("zuul.proxy.backpressure.enabled");
+    }
+
+    @Test
+    void holdsOriginReadWhileClientIsNotWritable() {
+        ProxyBackpressure.readFromOrigin(context, originChannel);
+        assertThat(originReads.count).isEqualTo(1);
+
+        clientChannel.write(Unpooled.wrappedBuffer(new byte[32]));
+        assertThat(clientChannel.isWritable()).isFalse();
+        ProxyBackpressure.readFromOrigin(context, originChannel);
+        assertThat(originReads.count).isEqualTo(1);
+
+        clientChannel.flush();
+        ProxyBackpressure.onClientWritabilityChanged(context);
+        assertThat(originReads.count).isEqualTo(2);
+    }
+
+    @Test
+    void suspendsOriginReadTimeoutWhileOriginReadIsHeld() {
+        PooledConnection conn = mock(PooledConnection.class);
+        originChannel.attr(PooledConnection.CHANNEL_ATTR).set(conn);
+        Duration timeout = Duration.ofSeconds(5);
+        originChannel.attr(ClientTimeoutHandler.ORIGIN_RESPONSE_READ_TIMEOUT).set(timeout);
+        originChannel.pipeline().addLast(new ClientTimeoutHandler.OutboundHandler());
+
+        clientChannel.write(Unpooled.wrappedBuffer(new byte[32]));
+        ProxyBackpressure.readFromOrigin(context, originChannel);
+        originChannel.writeOutbound(new DefaultLastHttpContent());
+        verify(conn, never()).startReadTimeoutHandler(any());
+
+        clientChannel.flush();
+        ProxyBackpressure.onClientWritabilityChanged(context);
+        verify(conn).startReadTimeoutHandler(timeout);
+        assertThat(originReads.count).isEqualTo(1);
+    }
+
+    @Test
+    void pausesClientReadWhileOriginIsNotWritable() {
+        originChannel.write(Unpooled.wrappedBuffer(new byte[32]));
+        ProxyBackpressure.onRequestChunkWritten(context);
+        assertThat(clientChannel.config().isAutoRead()).isFalse();
+
+        originChannel.flush();
+        ProxyBackpressure.onOriginWritabilityChanged(context, originChannel);
+        assertThat(clientChannel.config().isAutoRead()).isTrue();
+    }
+
+    @Test
+    void keepsClientReadPausedWhenResponseStartsWhileOriginIsNotWritable() {
+        config.setProperty("zuul.request.body.flow.control.enabled", true);
+        config.setProperty("zuul.request.body.flow.control.max.buffered.bytes", 8);
+        clientChannel.pipeline().addLast(new ChannelInboundHandlerAdapter());
+        context.put(CommonContextKeys.NETTY_SERVER_CHANNEL_HANDLER_CONTEXT, clientChannel.pipeline().firstContext());
+        HttpRequestMessage request = new HttpRequestMessageImpl(
+                context,
+                "HTTP/1.1",
+                "POST",
+                "/upload",
+                new HttpQueryParams(),
+                new Headers(),
+                "192.168.0.2",
+                "https",
+                7002,
+                "localhost");
+        try {
+            request.bufferBodyContents(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[16])));
+            RequestBodyFlowControl.onChunkBuffered(request);
+            originChannel.write(Unpooled.wrappedBuffer(new byte[32]));
+            ProxyBackpressure.onRequestChunkWritten(context);
+            assertThat(clientChannel.config().isAutoRead()).isFalse();
+
+            // As ClientResponseWriter does once the response starts.
+            RequestBodyFlowControl.resume(new HttpResponseMessageImpl(context, request, 200));
+            assertThat(clientChannel.config().isAutoRead()).isFalse();
+
+            originChannel.flush();
+            ProxyBackpressure.onOriginWritabilityChanged(context, originChannel);
+            assertThat(clientChannel.config().isAutoRead()).isTrue();
+        } finally {
+            request.disposeBufferedBody();
+            config.clearProperty("zuul.request.body.flow.control.enabled");
+            config.clearProperty("zuul.request.body.flow.control.max.buffered.bytes");
+        }
+    }
+
+    @Test
+    void unlinkResumesClientRead() {
+        originChannel.write(Unpooled.wrappedBuffer(new byte[32]));
+        ProxyBackpressure.onRequestChunkWritten(context);
+        assertThat(clientChannel.config().isAutoRead()).isFalse();
+
+        ProxyBackpressure.unlink(context);
+        assertThat(clientChannel.config().isAutoRead()).isTrue();
+    }
+
+    private static final class ReadCounter extends ChannelOutboundHandlerAdapter {
+        private int count;
+
+        @Override
+        public void read(ChannelHandlerContext ctx) throws Exception {
+            count++;
+            super.read(ctx);
+        }
+    }
+}
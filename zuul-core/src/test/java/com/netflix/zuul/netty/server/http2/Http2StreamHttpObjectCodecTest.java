@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server.http2;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class Http2StreamHttpObjectCodecTest {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(new Http2StreamHttpObjectCodec());
+
+    @Test
+    void decodesRequestHeaders() {
+        Http2Headers headers = new DefaultHttp2Headers()
+                .method("GET")
+                .path("/foo?bar=1")
+                .scheme("https")
+                .authority("netflix.com")
+                .add("cookie", "a=1")
+                .add("x-custom", "value")
+                .add("cookie", "b=2");
+
+        channel.writeInbound(new DefaultHttp2HeadersFrame(headers, true));
+
+        FullHttpRequest request = channel.readInbound();
+        assertThat(request.method()).isEqualTo(HttpMethod.GET);
+        assertThat(request.uri()).isEqualTo("/foo?bar=1");
+        assertThat(request.headers().get(HttpHeaderNames.HOST)).isEqualTo("netflix.com");
+        assertThat(request.headers().getAll(HttpHeaderNames.COOKIE)).containsExactly("a=1; b=2");
+        assertThat(request.headers().get("x-custom")).isEqualTo("value");
+        assertThat(request.headers().names()).containsNoneOf("x-http2-stream-id", "x-http2-scheme", ":path");
+        request.release();
+        assertThat(channel.finish()).isFalse();
+    }
+
+    @Test
+    void decodesStreamingRequest() {
+        Http2Headers headers = new DefaultHttp2Headers()
+                .method("POST")
+                .path("/upload")
+                .scheme("https")
+                .authority("netflix.com");
+
+        channel.writeInbound(new DefaultHttp2HeadersFrame(headers, false));
+        channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.copiedBuffer("hello", StandardCharsets.UTF_8), false));
+        channel.writeInbound(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().add("x-trailer", "t"), true));
+
+        HttpRequest request = channel.readInbound();
+        assertThat(request.headers().get(HttpHeaderNames.TRANSFER_ENCODING)).isEqualTo("chunked");
+        HttpContent content = channel.readInbound();
+        assertThat(content.content().toString(StandardCharsets.UTF_8)).isEqualTo("hello");
+        content.release();
+        LastHttpContent last = channel.readInbound();
+        assertThat(last.trailingHeaders().get("x-trailer")).isEqualTo("t");
+        assertThat(channel.finish()).isFalse();
+    }
+
+    @Test
+    void encodesResponse() {
+        DefaultHttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+        response.headers()
+                .add("x-b", "2")
+                .add("x-a", "1")
+                .add(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED)
+                .add(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+
+        channel.writeOutbound(response);
+        channel.writeOutbound(new DefaultLastHttpContent(Unpooled.copiedBuffer("body", StandardCharsets.UTF_8)));
+
+        Http2HeadersFrame headersFrame = channel.readOutbound();
+        assertThat(headersFrame.isEndStream()).isFalse();
+        assertThat(headersFrame.headers().status().toString()).isEqualTo("200");
+        assertThat(headersFrame.headers().names().stream().map(CharSequence::toString).toList())
+                .containsExactly(":status", "x-b", "x-a")
+                .inOrder();
+        Http2DataFrame dataFrame = channel.readOutbound();
+        assertThat(dataFrame.isEndStream()).isTrue();
+        assertThat(ByteBufUtil.getBytes(dataFrame.content())).isEqualTo("body".getBytes(StandardCharsets.UTF_8));
+        dataFrame.release();
+        assertThat(channel.finish()).isFalse();
+    }
+
+    @Test
+    void encodesEmptyFullResponseAsSingleFrame() {
+        channel.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NO_CONTENT));
+
+        Http2HeadersFrame headersFrame = channel.readOutbound();
+        assertThat(headersFrame.isEndStream()).isTrue();
+        assertThat(headersFrame.headers().status().toString()).isEqualTo("204");
+        assertThat(channel.finish()).isFalse();
+    }
+}
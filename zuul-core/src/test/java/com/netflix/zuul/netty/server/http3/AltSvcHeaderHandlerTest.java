@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server.http3;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.jupiter.api.Test;
+
+class AltSvcHeaderHandlerTest {
+
+    private final EmbeddedChannel channel =
+            new EmbeddedChannel(new AltSvcHeaderHandler(AltSvcHeaderHandler.http3(7001, 3600)));
+
+    @Test
+    void advertisesHttp3() {
+        channel.writeOutbound(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+
+        HttpResponse response = channel.readOutbound();
+        assertThat(response.headers().get("Alt-Svc")).isEqualTo("h3=\":7001\"; ma=3600");
+    }
+
+    @Test
+    void keepsExistingAltSvc() {
+        HttpResponse original = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+        original.headers().set("Alt-Svc", "clear");
+        channel.writeOutbound(original);
+
+        HttpResponse response = channel.readOutbound();
+        assertThat(response.headers().getAll("Alt-Svc")).containsExactly("clear");
+    }
+}
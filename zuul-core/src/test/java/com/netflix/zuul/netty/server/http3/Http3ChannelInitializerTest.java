@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server.http3;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableSet;
+import com.netflix.netty.common.channel.config.ChannelConfig;
+import com.netflix.netty.common.channel.config.CommonChannelConfigKeys;
+import com.netflix.netty.common.metrics.EventLoopGroupMetrics;
+import com.netflix.netty.common.ssl.ServerSslConfig;
+import com.netflix.spectator.api.NoopRegistry;
+import com.netflix.spectator.api.Registry;
+import com.netflix.zuul.BasicFilterUsageNotifier;
+import com.netflix.zuul.DefaultFilterFactory;
+import com.netflix.zuul.Filter;
+import com.netflix.zuul.StaticFilterLoader;
+import com.netflix.zuul.filters.FilterType;
+import com.netflix.zuul.filters.http.HttpInboundSyncFilter;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.message.http.HttpResponseMessage;
+import com.netflix.zuul.message.http.HttpResponseMessageImpl;
+import com.netflix.zuul.netty.ratelimiting.NullChannelHandlerProvider;
+import com.netflix.zuul.netty.server.ZuulDependencyKeys;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.incubator.codec.http3.DefaultHttp3HeadersFrame;
+import io.netty.incubator.codec.http3.Http3;
+import io.netty.incubator.codec.http3.Http3ClientConnectionHandler;
+import io.netty.incubator.codec.http3.Http3DataFrame;
+import io.netty.incubator.codec.http3.Http3HeadersFrame;
+import io.netty.incubator.codec.http3.Http3RequestStreamInboundHandler;
+import io.netty.incubator.codec.quic.QuicChannel;
+import io.netty.incubator.codec.quic.QuicSslContext;
+import io.netty.incubator.codec.quic.QuicSslContextBuilder;
+import io.netty.incubator.codec.quic.QuicStreamChannel;
+import io.netty.util.NetUtil;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class Http3ChannelInitializerTest {
+
+    private final EventLoopGroup group = new NioEventLoopGroup(2);
+
+    @AfterEach
+    void after() {
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    void servesRequestOverQuic() throws Exception {
+        SelfSignedCertificate cert = new SelfSignedCertificate("localhost");
+        try {
+            Channel server = new Bootstrap()
+                    .group(group)
+                    .channel(NioDatagramChannel.class)
+                    .handler(newInitializer(cert))
+                    .bind(new InetSocketAddress(NetUtil.LOCALHOST4, 0))
+                    .sync()
+                    .channel();
+            InetSocketAddress serverAddress = (InetSocketAddress) server.localAddress();
+
+            QuicSslContext clientSslContext = QuicSslContextBuilder.forClient()
+                    .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                    .applicationProtocols(Http3.supportedApplicationProtocols())
+                    .build();
+            Channel client = new Bootstrap()
+                    .group(group)
+                    .channel(NioDatagramChannel.class)
+                    .handler(Http3.newQuicClientCodecBuilder()
+                            .sslContext(clientSslContext)
+                            .maxIdleTimeout(5000, TimeUnit.MILLISECONDS)
+                            .initialMaxData(1 << 20)
+                            .initialMaxStreamDataBidirectionalLocal(1 << 20)
+                            .build())
+                    .bind(new InetSocketAddress(NetUtil.LOCALHOST4, 0))
+                    .sync()
+                    .channel();
+
+            QuicChannel quicChannel = QuicChannel.newBootstrap(client)
+                    .handler(new Http3ClientConnectionHandler())
+                    .remoteAddress(serverAddress)
+                    .connect()
+                    .get(5, TimeUnit.SECONDS);
+
+            ResponseCollector response = new ResponseCollector();
+            QuicStreamChannel stream =
+                    Http3.newRequestStream(quicChannel, response).get(5, TimeUnit.SECONDS);
+            Http3HeadersFrame request = new DefaultHttp3HeadersFrame();
+            request.headers()
+                    .method("GET")
+                    .path("/hello")
+                    .scheme("https")
+                    .authority("localhost:" + serverAddress.getPort());
+            stream.writeAndFlush(request).addListener(QuicStreamChannel.SHUTDOWN_OUTPUT);
+
+            assertThat(response.done.get(5, TimeUnit.SECONDS)).isEqualTo("Hello over HTTP/3");
+            assertThat(response.status).isEqualTo("200");
+
+            quicChannel.close().sync();
+            client.close().sync();
+            server.close().sync();
+        } finally {
+            cert.delete();
+        }
+    }
+
+    private static Http3ChannelInitializer newInitializer(SelfSignedCertificate cert) {
+        ChannelConfig channelConfig = new ChannelConfig();
+        channelConfig.set(
+                CommonChannelConfigKeys.serverSslConfig,
+                new ServerSslConfig(
+                        new String[] {"TLSv1.3"}, new String[0], cert.certificate(), cert.privateKey()));
+
+        Registry registry = new NoopRegistry();
+        ChannelConfig channelDependencies = new ChannelConfig();
+        channelDependencies.set(ZuulDependencyKeys.registry, registry);
+        channelDependencies.set(ZuulDependencyKeys.eventLoopGroupMetrics, new EventLoopGroupMetrics(registry));
+        channelDependencies.set(
+                ZuulDependencyKeys.rateLimitingChannelHandlerProvider, new NullChannelHandlerProvider());
+        channelDependencies.set(
+                ZuulDependencyKeys.sslClientCertCheckChannelHandlerProvider, new NullChannelHandlerProvider());
+        channelDependencies.set(
+                ZuulDependencyKeys.httpRequestHeadersReadTimeoutCounter, registry.counter("headersReadTimeout"));
+        channelDependencies.set(ZuulDependencyKeys.httpRequestHeadersReadTimer, registry.timer("headersRead"));
+        channelDependencies.set(ZuulDependencyKeys.httpRequestReadTimeoutCounter, registry.counter("readTimeout"));
+        channelDependencies.set(
+                ZuulDependencyKeys.filterLoader,
+                new StaticFilterLoader(new DefaultFilterFactory(), ImmutableSet.of(HelloFilter.class)));
+        channelDependencies.set(ZuulDependencyKeys.filterUsageNotifier, new BasicFilterUsageNotifier(registry));
+
+        ChannelGroup channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+        return new Http3ChannelInitializer("http3-test", channelConfig, channelDependencies, channels);
+    }
+
+    @Filter(order = 0, type = FilterType.INBOUND)
+    static class HelloFilter extends HttpInboundSyncFilter {
+
+        @Override
+        public int filterOrder() {
+            return 0;
+        }
+
+        @Override
+        public boolean shouldFilter(HttpRequestMessage msg) {
+            return true;
+        }
+
+        @Override
+        public HttpRequestMessage apply(HttpRequestMessage request) {
+            HttpResponseMessage response = new HttpResponseMessageImpl(request.getContext(), request, 200);
+            response.setBodyAsText("Hello over " + request.getProtocol());
+            request.getContext().setStaticResponse(response);
+            return request;
+        }
+    }
+
+    private static final class ResponseCollector extends Http3RequestStreamInboundHandler {
+        private final CompletableFuture<String> done = new CompletableFuture<>();
+        private final StringBuilder body = new StringBuilder();
+        private volatile String status;
+
+        @Override
+        protected void channelRead(ChannelHandlerContext ctx, Http3HeadersFrame frame) {
+            status = frame.headers().status().toString();
+            ReferenceCountUtil.release(frame);
+        }
+
+        @Override
+        protected void channelRead(ChannelHandlerContext ctx, Http3DataFrame frame) {
+            body.append(frame.content().toString(UTF_8));
+            ReferenceCountUtil.release(frame);
+        }
+
+        @Override
+        protected void channelInputClosed(ChannelHandlerContext ctx) {
+            done.complete(body.toString());
+            ctx.close();
+        }
+    }
+}
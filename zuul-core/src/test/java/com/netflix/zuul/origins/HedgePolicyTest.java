@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.origins;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.netflix.zuul.origins.HedgePolicy.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+class HedgePolicyTest {
+
+    @Test
+    void disabledNeverHedges() {
+        HedgePolicy policy = new HedgePolicy("disabled", () -> false, () -> 95, () -> 5, () -> 100, () -> 0);
+
+        assertThat(policy.onEligibleRequest()).isEqualTo(-1L);
+    }
+
+    @Test
+    void waitsForEnoughSamples() {
+        HedgePolicy policy = newPolicy(10);
+        for (int i = 0; i < 9; i++) {
+            policy.recordResponseLatency(20);
+        }
+        assertThat(policy.onEligibleRequest()).isEqualTo(-1L);
+
+        policy.recordResponseLatency(20);
+        assertThat(policy.onEligibleRequest()).isAtLeast(20L);
+    }
+
+    @Test
+    void delayFollowsPercentile() {
+        HedgePolicy policy = newPolicy(0);
+        for (int i = 0; i < 90; i++) {
+            policy.recordResponseLatency(10);
+        }
+        for (int i = 0; i < 10; i++) {
+            policy.recordResponseLatency(1000);
+        }
+
+        long delay = policy.onEligibleRequest();
+        assertThat(delay).isAtLeast(1000L);
+        assertThat(delay).isLessThan(1250L);
+    }
+
+    @Test
+    void delayHasLowerBound() {
+        HedgePolicy policy = newPolicy(0);
+        policy.recordResponseLatency(0);
+
+        assertThat(policy.onEligibleRequest()).isEqualTo(5L);
+    }
+
+    @Test
+    void budgetCapsHedges() {
+        HedgePolicy policy = newPolicy(0);
+        assertThat(policy.tryAcquireHedge()).isFalse();
+
+        // 5% budget, so twenty requests earn one hedge.
+        for (int i = 0; i < 20; i++) {
+            policy.onEligibleRequest();
+        }
+        assertThat(policy.tryAcquireHedge()).isTrue();
+        assertThat(policy.tryAcquireHedge()).isFalse();
+    }
+
+    @Test
+    void histogramBucketsCoverValues() {
+        for (long millis : new long[] {0, 1, 3, 4, 7, 8, 100, 1023, 1024, 60_000}) {
+            int bucket = LatencyHistogram.bucketFor(millis);
+            assertThat(LatencyHistogram.upperBound(bucket)).isAtLeast(millis);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.upperBound(bucket - 1)).isLessThan(millis);
+            }
+        }
+    }
+
+    private static HedgePolicy newPolicy(int minSamples) {
+        return new HedgePolicy("test", () -> true, () -> 95, () -> 5, () -> 5, () -> minSamples);
+    }
+}
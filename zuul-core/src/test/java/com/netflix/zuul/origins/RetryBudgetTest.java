@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.origins;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    void disabledAlwaysAllowsRetries() {
+        RetryBudget budget = new RetryBudget("disabled", () -> false, () -> 0, () -> 0, clock::get);
+
+        assertThat(budget.tryAcquireRetry()).isTrue();
+    }
+
+    @Test
+    void retriesBoundedBySuccesses() {
+        RetryBudget budget = newBudget(0);
+        assertThat(budget.tryAcquireRetry()).isFalse();
+
+        for (int i = 0; i < 10; i++) {
+            budget.recordSuccess();
+        }
+        // 20% of 10 successes
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+    }
+
+    @Test
+    void minimumAllowanceWithoutTraffic() {
+        RetryBudget budget = newBudget(1);
+
+        for (int i = 0; i < RetryBudget.WINDOW_SECONDS; i++) {
+            assertThat(budget.tryAcquireRetry()).isTrue();
+        }
+        assertThat(budget.tryAcquireRetry()).isFalse();
+    }
+
+    @Test
+    void oldSlotsExpire() {
+        RetryBudget budget = newBudget(0);
+        for (int i = 0; i < 5; i++) {
+            budget.recordSuccess();
+        }
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+
+        clock.addAndGet(RetryBudget.WINDOW_SECONDS * 1000L);
+        for (int i = 0; i < 5; i++) {
+            budget.recordSuccess();
+        }
+        // The earlier retry has left the window.
+        assertThat(budget.tryAcquireRetry()).isTrue();
+    }
+
+    private RetryBudget newBudget(int minPerSecond) {
+        return new RetryBudget("test", () -> true, () -> 20, () -> minPerSecond, clock::get);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Resolves a host name to all of its addresses, treating each address as a server on the given port.
+ */
+public class DnsServerSource extends PollingServerSource {
+
+    /**
+     * Looks up the addresses for a host name.  Exists so that a local stand-in can replace the system resolver.
+     */
+    @FunctionalInterface
+    public interface AddressLookup {
+        InetAddress[] lookup(String hostName) throws UnknownHostException;
+    }
+
+    private final String appName;
+    private final String hostName;
+    private final int port;
+    private final boolean secure;
+    private final AddressLookup addressLookup;
+
+    public DnsServerSource(String appName, String hostName, int port, boolean secure, Duration refreshInterval) {
+        this(appName, hostName, port, secure, refreshInterval, InetAddress::getAllByName);
+    }
+
+    public DnsServerSource(
+            String appName,
+            String hostName,
+            int port,
+            boolean secure,
+            Duration refreshInterval,
+            AddressLookup addressLookup) {
+        super(refreshInterval);
+        this.appName = Objects.requireNonNull(appName, "appName");
+        this.hostName = Objects.requireNonNull(hostName, "hostName");
+        this.port = port;
+        this.secure = secure;
+        this.addressLookup = Objects.requireNonNull(addressLookup, "addressLookup");
+    }
+
+    @Override
+    protected Collection<DiscoveryResult> fetch() throws UnknownHostException {
+        InetAddress[] addresses = addressLookup.lookup(hostName);
+        List<DiscoveryResult> servers = new ArrayList<>(addresses.length);
+        for (InetAddress address : addresses) {
+            servers.add(newServer(appName, address.getHostAddress(), port, secure));
+        }
+        return servers;
+    }
+
+    @Override
+    public String toString() {
+        return "DnsServerSource{" + "appName=" + appName + ", hostName=" + hostName + ", port=" + port + '}';
+    }
+}
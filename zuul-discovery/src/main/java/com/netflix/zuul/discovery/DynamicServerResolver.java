@@ -18,6 +18,7 @@ package com.netflix.zuul.discovery;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.netflix.client.config.CommonClientConfigKey;
 import com.netflix.client.config.IClientConfig;
@@ -87,6 +88,17 @@ public class DynamicServerResolver implements Resolver<DiscoveryResult> {
         return !loadBalancer.getReachableServers().isEmpty();
     }
 
+    /**
+     * Returns a lazily transformed view over the reachable servers, so only the entries that are actually read get
+     * wrapped in a {@link DiscoveryResult}.
+     */
+    @Override
+    public List<DiscoveryResult> getServers() {
+        return Lists.transform(
+                loadBalancer.getReachableServers(),
+                server -> new DiscoveryResult((DiscoveryEnabledServer) server, loadBalancer.getLoadBalancerStats()));
+    }
+
     @Override
     public void shutdown() {
         loadBalancer.shutdown();
@@ -124,5 +136,13 @@ public class DynamicServerResolver implements Resolver<DiscoveryResult> {
                         new DiscoveryResult((DiscoveryEnabledServer) server, loadBalancer.getLoadBalancerStats()))
                 .collect(Collectors.toList());
         listener.onChange(discoveryResults);
+
+        List<DiscoveryResult> added = Sets.difference(newSet, oldSet).stream()
+                .map(server ->
+                        new DiscoveryResult((DiscoveryEnabledServer) server, loadBalancer.getLoadBalancerStats()))
+                .collect(Collectors.toList());
+        if (!added.isEmpty()) {
+            listener.onServersAdded(added);
+        }
     }
 }
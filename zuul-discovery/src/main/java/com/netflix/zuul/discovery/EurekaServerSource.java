@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.niws.loadbalancer.DiscoveryEnabledServer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tracks the {@link InstanceStatus#UP} instances registered in Eureka under a VIP address.
+ */
+public class EurekaServerSource extends PollingServerSource {
+
+    private final EurekaClient eurekaClient;
+    private final String vipAddress;
+    private final boolean secure;
+
+    public EurekaServerSource(EurekaClient eurekaClient, String vipAddress, boolean secure, Duration refreshInterval) {
+        super(refreshInterval);
+        this.eurekaClient = Objects.requireNonNull(eurekaClient, "eurekaClient");
+        this.vipAddress = Objects.requireNonNull(vipAddress, "vipAddress");
+        this.secure = secure;
+    }
+
+    @Override
+    protected Collection<DiscoveryResult> fetch() {
+        List<InstanceInfo> instances = eurekaClient.getInstancesByVipAddress(vipAddress, secure);
+        List<DiscoveryResult> servers = new ArrayList<>(instances.size());
+        for (InstanceInfo instance : instances) {
+            if (instance.getStatus() == InstanceStatus.UP) {
+                servers.add(new DiscoveryResult(new DiscoveryEnabledServer(instance, secure)));
+            }
+        }
+        return servers;
+    }
+
+    @Override
+    public String toString() {
+        return "EurekaServerSource{" + "vipAddress=" + vipAddress + ", secure=" + secure + '}';
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import com.google.common.net.InetAddresses;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.niws.loadbalancer.DiscoveryEnabledServer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class for sources that periodically fetch a full snapshot and turn it into deltas.  Only the snapshot diff is
+ * passed on, so a refresh that finds no changes costs consumers nothing.
+ */
+public abstract class PollingServerSource implements ServerSource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PollingServerSource.class);
+
+    private static final ScheduledExecutorService SHARED_REFRESH_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("zuul-server-source-refresh-%d")
+                    .setDaemon(true)
+                    .build());
+
+    private final Duration refreshInterval;
+    private final ScheduledExecutorService executor;
+
+    private Set<DiscoveryResult> current = Set.of();
+    @Nullable private Consumer<ServerListDelta> consumer;
+    @Nullable private ScheduledFuture<?> refreshTask;
+
+    protected PollingServerSource(Duration refreshInterval) {
+        this(refreshInterval, SHARED_REFRESH_EXECUTOR);
+    }
+
+    protected PollingServerSource(Duration refreshInterval, ScheduledExecutorService executor) {
+        this.refreshInterval = Objects.requireNonNull(refreshInterval, "refreshInterval");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * @return the full set of servers currently advertised by the underlying source.
+     */
+    protected abstract Collection<DiscoveryResult> fetch() throws Exception;
+
+    @Override
+    public synchronized void start(Consumer<ServerListDelta> consumer) {
+        if (this.consumer != null) {
+            throw new IllegalStateException("Already started");
+        }
+        this.consumer = Objects.requireNonNull(consumer, "consumer");
+        refresh();
+        if (!refreshInterval.isZero()) {
+            long intervalMillis = refreshInterval.toMillis();
+            refreshTask =
+                    executor.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Fetches a new snapshot and delivers the difference from the previous one, if any.  Fetch failures keep the
+     * last known list rather than dropping all servers.
+     */
+    @VisibleForTesting
+    public synchronized void refresh() {
+        if (consumer == null) {
+            return;
+        }
+
+        Set<DiscoveryResult> latest;
+        try {
+            latest = new HashSet<>(fetch());
+        } catch (Exception e) {
+            LOG.warn("Failed to refresh server list from {}, keeping {} known servers", this, current.size(), e);
+            return;
+        }
+
+        ServerListDelta delta = new ServerListDelta(
+                ImmutableList.copyOf(Sets.difference(latest, current)),
+                ImmutableList.copyOf(Sets.difference(current, latest)));
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        // Keep the previously delivered instances for servers that are still present, so removals always refer to
+        // the same objects consumers were given.
+        Set<DiscoveryResult> next = new HashSet<>(current);
+        delta.removed().forEach(next::remove);
+        next.addAll(delta.added());
+        current = next;
+
+        try {
+            consumer.accept(delta);
+        } catch (RuntimeException e) {
+            LOG.error("Server list consumer failed for {}", this, e);
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+            refreshTask = null;
+        }
+        consumer = null;
+    }
+
+    /**
+     * Builds a result for a server that isn't registered in Eureka, keyed by its host and port.
+     */
+    protected static DiscoveryResult newServer(String appName, String host, int port, boolean secure) {
+        InstanceInfo.Builder builder = InstanceInfo.Builder.newBuilder()
+                .setAppName(appName)
+                .setInstanceId(host + ":" + port)
+                .setHostName(host);
+        if (InetAddresses.isInetAddress(host)) {
+            builder.setIPAddr(host);
+        }
+        if (secure) {
+            builder.setSecurePort(port).enablePort(InstanceInfo.PortType.SECURE, true);
+        } else {
+            builder.setPort(port);
+        }
+        return new DiscoveryResult(new DiscoveryEnabledServer(builder.build(), secure));
+    }
+}
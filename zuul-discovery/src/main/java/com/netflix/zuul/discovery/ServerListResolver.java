@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.zuul.resolver.Resolver;
+import com.netflix.zuul.resolver.ResolverListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implements a resolver without Ribbon's load balancer, fed by a pluggable {@link ServerSource}.
+ * <p>
+ * The server list is an immutable snapshot that is replaced wholesale on each update, so reads never lock or copy.
+ * Updates are applied as deltas from the source, and the listener only hears about servers that were actually removed.
+ * Selection is random, skipping servers whose circuit breaker is tripped.
+ */
+public class ServerListResolver implements Resolver<DiscoveryResult> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServerListResolver.class);
+
+    private final ServerSource source;
+    private volatile List<DiscoveryResult> servers = List.of();
+    @Nullable private volatile ResolverListener<DiscoveryResult> listener;
+
+    public ServerListResolver(ServerSource source) {
+        this.source = Objects.requireNonNull(source, "source");
+        source.start(this::onUpdate);
+    }
+
+    @Override
+    public void setListener(ResolverListener<DiscoveryResult> listener) {
+        if (this.listener != null) {
+            LOG.warn("Ignoring call to setListener, because a listener was already set");
+            return;
+        }
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    @Override
+    public DiscoveryResult resolve(@Nullable Object key) {
+        List<DiscoveryResult> snapshot = servers;
+        int size = snapshot.size();
+        if (size == 0) {
+            return DiscoveryResult.EMPTY;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(size);
+        for (int i = 0; i < size; i++) {
+            DiscoveryResult server = snapshot.get((start + i) % size);
+            if (!server.isCircuitBreakerTripped()) {
+                return server;
+            }
+        }
+        // Everything is tripped; better to try one than to fail outright.
+        return snapshot.get(start);
+    }
+
+    @Override
+    public boolean hasServers() {
+        return !servers.isEmpty();
+    }
+
+    @Override
+    public List<DiscoveryResult> getServers() {
+        return servers;
+    }
+
+    @Override
+    public void shutdown() {
+        source.shutdown();
+    }
+
+    @VisibleForTesting
+    synchronized void onUpdate(ServerListDelta delta) {
+        List<DiscoveryResult> previous = servers;
+        // Only the delta is hashed; the existing servers are copied across in a single pass.
+        Set<DiscoveryResult> removed = new HashSet<>(delta.removed());
+        Set<DiscoveryResult> added = new LinkedHashSet<>(delta.added());
+
+        List<DiscoveryResult> next = new ArrayList<>(previous.size() + added.size());
+        List<DiscoveryResult> actuallyRemoved = new ArrayList<>(removed.size());
+        for (DiscoveryResult server : previous) {
+            if (removed.contains(server)) {
+                actuallyRemoved.add(server);
+            } else {
+                // Already known, so keep the existing instance (and its stats).
+                added.remove(server);
+                next.add(server);
+            }
+        }
+        List<DiscoveryResult> actuallyAdded = new ArrayList<>(added.size());
+        for (DiscoveryResult server : added) {
+            if (!removed.contains(server)) {
+                next.add(server);
+                actuallyAdded.add(server);
+            }
+        }
+
+        servers = Collections.unmodifiableList(next);
+        LOG.debug(
+                "Applied server list update: +{} -{}, now {} servers",
+                delta.added().size(),
+                actuallyRemoved.size(),
+                next.size());
+
+        ResolverListener<DiscoveryResult> currentListener = listener;
+        if (currentListener != null) {
+            if (!actuallyRemoved.isEmpty()) {
+                currentListener.onChange(actuallyRemoved);
+            }
+            if (!actuallyAdded.isEmpty()) {
+                currentListener.onServersAdded(actuallyAdded);
+            }
+        }
+    }
+}
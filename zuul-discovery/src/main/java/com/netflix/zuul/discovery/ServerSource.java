@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import java.util.function.Consumer;
+
+/**
+ * A source of server list updates for a {@link ServerListResolver}.  Implementations deliver only what changed, so
+ * consumers never have to rebuild or diff the full list themselves.
+ */
+public interface ServerSource {
+
+    /**
+     * Starts delivering updates.  Deltas are delivered one at a time, and the first delta describes the initial list.
+     */
+    void start(Consumer<ServerListDelta> consumer);
+
+    /**
+     * Stops delivering updates and releases any resources held by this source.
+     */
+    void shutdown();
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.net.HostAndPort;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads servers from a file with one {@code host:port} entry per line.  Blank lines and lines starting with {@code #}
+ * are ignored.  The file is re-read every refresh interval, so edits take effect without a restart.
+ */
+public class StaticFileServerSource extends PollingServerSource {
+
+    private final String appName;
+    private final Path file;
+    private final boolean secure;
+
+    public StaticFileServerSource(String appName, Path file, boolean secure, Duration refreshInterval) {
+        super(refreshInterval);
+        this.appName = Objects.requireNonNull(appName, "appName");
+        this.file = Objects.requireNonNull(file, "file");
+        this.secure = secure;
+    }
+
+    @Override
+    protected Collection<DiscoveryResult> fetch() throws Exception {
+        List<DiscoveryResult> servers = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String entry = line.trim();
+            if (entry.isEmpty() || entry.startsWith("#")) {
+                continue;
+            }
+            HostAndPort hostAndPort = HostAndPort.fromString(entry);
+            servers.add(newServer(appName, hostAndPort.getHost(), hostAndPort.getPort(), secure));
+        }
+        return servers;
+    }
+
+    @Override
+    public String toString() {
+        return "StaticFileServerSource{" + "appName=" + appName + ", file=" + file + '}';
+    }
+}
@@ -16,6 +16,9 @@
 
 package com.netflix.zuul.resolver;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author Argha C
  * @since 2/25/21
@@ -38,6 +41,16 @@ public interface Resolver<T> {
      */
     boolean hasServers();
 
+    /**
+     * Exposes the current candidate set, for callers that want to make their own selection among them (e.g. using
+     * connection pool state). The returned list should be cheap to index into, and may be a live view.
+     *
+     * @return the servers currently available for selection, or an empty list if the resolver doesn't expose them.
+     */
+    default List<T> getServers() {
+        return Collections.emptyList();
+    }
+
     /**
      * hook to perform activities on shutdown
      */
@@ -31,4 +31,11 @@ public interface ResolverListener<T> {
      * @param removedSet the servers removed from the latest resolver update, but included in the previous update.
      */
     void onChange(List<T> removedSet);
+
+    /**
+     * Hook to respond to servers that appeared in the latest resolver update.  Resolvers that cannot tell which servers
+     * are new don't call this.
+     * @param addedSet the servers included in the latest resolver update, but not in the previous update.
+     */
+    default void onServersAdded(List<T> addedSet) {}
 }
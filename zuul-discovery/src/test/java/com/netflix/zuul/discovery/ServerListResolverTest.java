@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.truth.Truth;
+import com.netflix.appinfo.InstanceInfo;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class ServerListResolverTest {
+
+    private static final class ManualSource implements ServerSource {
+        private Consumer<ServerListDelta> consumer;
+        private boolean shutdown;
+
+        @Override
+        public void start(Consumer<ServerListDelta> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        void push(List<DiscoveryResult> added, List<DiscoveryResult> removed) {
+            consumer.accept(new ServerListDelta(added, removed));
+        }
+    }
+
+    @Test
+    void appliesDeltasAndNotifiesOnlyRemovedServers() {
+        ManualSource source = new ManualSource();
+        ServerListResolver resolver = new ServerListResolver(source);
+        List<List<DiscoveryResult>> notifications = new ArrayList<>();
+        resolver.setListener(notifications::add);
+
+        DiscoveryResult first = server("10.0.0.1");
+        DiscoveryResult second = server("10.0.0.2");
+        DiscoveryResult third = server("10.0.0.3");
+
+        source.push(List.of(first, second), List.of());
+        Truth.assertThat(resolver.getServers()).containsExactly(first, second).inOrder();
+        Truth.assertThat(notifications).isEmpty();
+
+        // Re-adding a known server keeps the original instance; removing an unknown one is ignored.
+        source.push(List.of(server("10.0.0.1"), third), List.of(server("10.0.0.9")));
+        Truth.assertThat(resolver.getServers()).containsExactly(first, second, third).inOrder();
+        Truth.assertThat(resolver.getServers().get(0)).isSameInstanceAs(first);
+        Truth.assertThat(notifications).isEmpty();
+
+        source.push(List.of(), List.of(server("10.0.0.2")));
+        Truth.assertThat(resolver.getServers()).containsExactly(first, third).inOrder();
+        Truth.assertThat(notifications).containsExactly(List.of(second));
+
+        resolver.shutdown();
+        Truth.assertThat(source.shutdown).isTrue();
+    }
+
+    @Test
+    void emptyResolverReturnsSentinel() {
+        ServerListResolver resolver = new ServerListResolver(new ManualSource());
+
+        Truth.assertThat(resolver.hasServers()).isFalse();
+        Truth.assertThat(resolver.resolve(null)).isSameInstanceAs(DiscoveryResult.EMPTY);
+    }
+
+    @Test
+    void dnsSourceDeliversDifferences() throws Exception {
+        AtomicReference<InetAddress[]> records = new AtomicReference<>(
+                new InetAddress[] {InetAddress.getByName("10.0.0.1"), InetAddress.getByName("10.0.0.2")});
+        DnsServerSource source =
+                new DnsServerSource("app", "origin.local", 7001, false, Duration.ZERO, host -> records.get());
+        ServerListResolver resolver = new ServerListResolver(source);
+        List<List<DiscoveryResult>> notifications = new ArrayList<>();
+        resolver.setListener(notifications::add);
+
+        Truth.assertThat(resolver.getServers()).hasSize(2);
+        Truth.assertThat(resolver.resolve(null).getPort()).isEqualTo(7001);
+
+        records.set(new InetAddress[] {InetAddress.getByName("10.0.0.2"), InetAddress.getByName("10.0.0.3")});
+        source.refresh();
+
+        Truth.assertThat(resolver.getServers()).hasSize(2);
+        Truth.assertThat(notifications).hasSize(1);
+        Truth.assertThat(notifications.get(0).get(0).getHost()).isEqualTo("10.0.0.1");
+
+        // A failed lookup keeps the last known servers.
+        records.set(null);
+        source.refresh();
+        Truth.assertThat(resolver.getServers()).hasSize(2);
+
+        resolver.shutdown();
+    }
+
+    private static DiscoveryResult server(String ip) {
+        InstanceInfo instanceInfo = InstanceInfo.Builder.newBuilder()
+                .setAppName("app")
+                .setHostName(ip)
+                .setIPAddr(ip)
+                .setPort(7001)
+                .build();
+        return DiscoveryResult.from(instanceInfo, false);
+    }
+}
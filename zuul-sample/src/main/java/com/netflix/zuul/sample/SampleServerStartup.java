@@ -40,6 +40,8 @@ import com.netflix.zuul.netty.server.SocketAddressProperty;
 import com.netflix.zuul.netty.server.ZuulDependencyKeys;
 import com.netflix.zuul.netty.server.ZuulServerChannelInitializer;
 import com.netflix.zuul.netty.server.http2.Http2SslChannelInitializer;
+import com.netflix.zuul.netty.server.http3.AltSvcHeaderHandler;
+import com.netflix.zuul.netty.server.http3.Http3ChannelInitializer;
 import com.netflix.zuul.netty.server.push.PushConnectionRegistry;
 import com.netflix.zuul.netty.ssl.BaseSslContextFactory;
 import com.netflix.zuul.sample.push.SamplePushMessageSenderInitializer;
@@ -66,6 +68,7 @@ public class SampleServerStartup extends BaseServerStartup {
     enum ServerType {
         HTTP,
         HTTP2,
+        HTTP3,
         HTTP_MUTUAL_TLS,
         WEBSOCKET,
         SSE
@@ -179,6 +182,46 @@ public class SampleServerStartup extends BaseServerStartup {
                 logAddrConfigured(sockAddr, sslConfig);
                 break;
 
+                /* The below settings can be used when running directly on the internet, terminating SSL in Zuul.  This
+                 * is the HTTP/2 listener above, plus an HTTP/3 listener on the same port number over UDP, which the
+                 * HTTP/2 listener advertises with an Alt-Svc header.
+                 *
+                 * Can be tested with an HTTP/3 capable client:
+                 *  curl --http3-only https://localhost:7001/test -vk
+                 */
+            case HTTP3:
+                sslConfig = ServerSslConfig.withDefaultCiphers(
+                        loadFromResources("server.cert"), loadFromResources("server.key"), WWW_PROTOCOLS);
+
+                channelConfig.set(
+                        CommonChannelConfigKeys.allowProxyHeadersWhen,
+                        StripUntrustedProxyHeadersHandler.AllowWhen.NEVER);
+                channelConfig.set(CommonChannelConfigKeys.preferProxyProtocolForClientIp, false);
+                channelConfig.set(CommonChannelConfigKeys.isSSlFromIntermediary, false);
+                channelConfig.set(CommonChannelConfigKeys.withProxyProtocol, false);
+                channelConfig.set(CommonChannelConfigKeys.serverSslConfig, sslConfig);
+                channelConfig.set(
+                        CommonChannelConfigKeys.sslContextFactory, new BaseSslContextFactory(registry, sslConfig));
+
+                ChannelConfig http3ChannelConfig = channelConfig.clone();
+                addHttp3DefaultConfig(http3ChannelConfig, mainListenAddressName);
+
+                addHttp2DefaultConfig(channelConfig, mainListenAddressName);
+                channelConfig.set(
+                        CommonChannelConfigKeys.altSvc,
+                        AltSvcHeaderHandler.http3(((InetSocketAddress) sockAddr).getPort(), 86400));
+
+                addrsToChannels.put(
+                        new NamedSocketAddress("http2", sockAddr),
+                        new Http2SslChannelInitializer(metricId, channelConfig, channelDependencies, clientChannels));
+                logAddrConfigured(sockAddr, sslConfig);
+                addrsToChannels.put(
+                        new NamedSocketAddress("http3", sockAddr),
+                        new Http3ChannelInitializer(
+                                "http3-" + metricId, http3ChannelConfig, channelDependencies, clientChannels));
+                logAddrConfigured(sockAddr, sslConfig);
+                break;
+
                 /* The below settings can be used when running behind an ELB TCP listener with proxy protocol, terminating
                  * SSL in Zuul.
                  *